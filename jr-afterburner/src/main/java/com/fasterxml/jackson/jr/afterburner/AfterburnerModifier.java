@@ -0,0 +1,45 @@
+package com.fasterxml.jackson.jr.afterburner;
+
+import com.fasterxml.jackson.jr.ob.api.ReaderWriterModifier;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+import com.fasterxml.jackson.jr.ob.api.ValueWriter;
+import com.fasterxml.jackson.jr.ob.impl.BeanReader;
+import com.fasterxml.jackson.jr.ob.impl.BeanWriter;
+import com.fasterxml.jackson.jr.ob.impl.JSONReader;
+import com.fasterxml.jackson.jr.ob.impl.JSONWriter;
+
+/**
+ * {@link ReaderWriterModifier} that replaces standard {@link BeanReader}s and
+ * {@link BeanWriter}s with generated sub-classes, when possible. Readers and
+ * writers that are not of standard types (custom ones, or ones already modified
+ * by other modifiers) are left as is.
+ */
+public class AfterburnerModifier
+    extends ReaderWriterModifier
+{
+    @Override
+    public ValueReader modifyValueReader(JSONReader readContext,
+            Class<?> type, ValueReader defaultReader)
+    {
+        if (defaultReader.getClass() == BeanReader.class) {
+            BeanReader r = ReaderGenerator.generate((BeanReader) defaultReader);
+            if (r != null) {
+                return r;
+            }
+        }
+        return defaultReader;
+    }
+
+    @Override
+    public ValueWriter modifyValueWriter(JSONWriter writeContext,
+            Class<?> type, ValueWriter defaultWriter)
+    {
+        if (defaultWriter.getClass() == BeanWriter.class) {
+            BeanWriter w = WriterGenerator.generate((BeanWriter) defaultWriter);
+            if (w != null) {
+                return w;
+            }
+        }
+        return defaultWriter;
+    }
+}
@@ -0,0 +1,503 @@
+package com.fasterxml.jackson.jr.afterburner;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Minimal class file writer, sufficient for generating reader and writer
+ * classes: supports a single superclass, no fields, and methods with
+ * straight-line code and a single {@code tableswitch}.
+ *<p>
+ * Classes are generated using class file version 49 (Java 5), which does not
+ * require stack map frames; this keeps the writer simple, at the cost of
+ * (slightly slower) verification by type inference when classes are loaded.
+ */
+final class ClassBuilder
+{
+    private final static int CLASS_VERSION = 49;
+
+    final static int ACC_PUBLIC = 0x0001;
+    final static int ACC_PROTECTED = 0x0004;
+    final static int ACC_FINAL = 0x0010;
+    final static int ACC_SUPER = 0x0020;
+    final static int ACC_SYNTHETIC = 0x1000;
+
+    // Constant pool tags
+    private final static int CONSTANT_Utf8 = 1;
+    private final static int CONSTANT_Integer = 3;
+    private final static int CONSTANT_Class = 7;
+    private final static int CONSTANT_Fieldref = 9;
+    private final static int CONSTANT_Methodref = 10;
+    private final static int CONSTANT_NameAndType = 12;
+
+    private final String _className;
+    private final String _superName;
+
+    private final ByteBuffer _constants = new ByteBuffer();
+    private final Map<String,Integer> _constantIndexes = new HashMap<String,Integer>();
+    private int _constantCount = 1;
+
+    private final List<MethodBuilder> _methods = new ArrayList<MethodBuilder>();
+
+    /**
+     * @param className Internal name ({@code java/lang/Object}) of class to generate
+     * @param superName Internal name of the superclass
+     */
+    public ClassBuilder(String className, String superName) {
+        _className = className;
+        _superName = superName;
+    }
+
+    public MethodBuilder method(int access, String name, String desc) {
+        MethodBuilder m = new MethodBuilder(access, _utf8(name), _utf8(desc));
+        _methods.add(m);
+        return m;
+    }
+
+    public byte[] build()
+    {
+        final int thisIndex = _class(_className);
+        final int superIndex = _class(_superName);
+        final int codeIndex = _utf8("Code");
+        // no more constants after this point
+        ByteBuffer out = new ByteBuffer();
+        out.u4(0xCAFEBABE);
+        out.u2(0); // minor
+        out.u2(CLASS_VERSION);
+        out.u2(_constantCount);
+        out.bytes(_constants);
+        out.u2(ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC);
+        out.u2(thisIndex);
+        out.u2(superIndex);
+        out.u2(0); // interfaces
+        out.u2(0); // fields
+        out.u2(_methods.size());
+        for (MethodBuilder m : _methods) {
+            m.writeTo(out, codeIndex);
+        }
+        out.u2(0); // attributes
+        return out.toByteArray();
+    }
+
+    /*
+    /**********************************************************************
+    /* Descriptors
+    /**********************************************************************
+     */
+
+    /**
+     * Name to use for referring to given class with {@code checkcast}
+     * (and other instructions that refer to {@code CONSTANT_Class}); note that
+     * for array types this is same as descriptor.
+     */
+    public static String internalName(Class<?> cls) {
+        return cls.getName().replace('.', '/');
+    }
+
+    public static String descriptor(Class<?> cls)
+    {
+        if (cls.isPrimitive()) {
+            if (cls == Integer.TYPE) return "I";
+            if (cls == Long.TYPE) return "J";
+            if (cls == Double.TYPE) return "D";
+            if (cls == Float.TYPE) return "F";
+            if (cls == Boolean.TYPE) return "Z";
+            if (cls == Short.TYPE) return "S";
+            if (cls == Byte.TYPE) return "B";
+            if (cls == Character.TYPE) return "C";
+            return "V";
+        }
+        if (cls.isArray()) {
+            return internalName(cls);
+        }
+        return "L" + internalName(cls) + ";";
+    }
+
+    public static String descriptor(Method m)
+    {
+        StringBuilder sb = new StringBuilder().append('(');
+        for (Class<?> arg : m.getParameterTypes()) {
+            sb.append(descriptor(arg));
+        }
+        return sb.append(')').append(descriptor(m.getReturnType())).toString();
+    }
+
+    /*
+    /**********************************************************************
+    /* Constant pool
+    /**********************************************************************
+     */
+
+    private int _constant(String key) {
+        Integer ix = _constantIndexes.get(key);
+        return (ix == null) ? 0 : ix.intValue();
+    }
+
+    private int _addConstant(String key) {
+        final int ix = _constantCount++;
+        _constantIndexes.put(key, ix);
+        return ix;
+    }
+
+    int _utf8(String str) {
+        final String key = "U" + str;
+        int ix = _constant(key);
+        if (ix == 0) {
+            _constants.u1(CONSTANT_Utf8);
+            _constants.utf8(str);
+            ix = _addConstant(key);
+        }
+        return ix;
+    }
+
+    int _int(int value) {
+        final String key = "I" + value;
+        int ix = _constant(key);
+        if (ix == 0) {
+            _constants.u1(CONSTANT_Integer);
+            _constants.u4(value);
+            ix = _addConstant(key);
+        }
+        return ix;
+    }
+
+    int _class(String internalName) {
+        final String key = "C" + internalName;
+        int ix = _constant(key);
+        if (ix == 0) {
+            final int nameIx = _utf8(internalName);
+            _constants.u1(CONSTANT_Class);
+            _constants.u2(nameIx);
+            ix = _addConstant(key);
+        }
+        return ix;
+    }
+
+    private int _nameAndType(String name, String desc) {
+        final String key = "N" + name + " " + desc;
+        int ix = _constant(key);
+        if (ix == 0) {
+            final int nameIx = _utf8(name);
+            final int descIx = _utf8(desc);
+            _constants.u1(CONSTANT_NameAndType);
+            _constants.u2(nameIx);
+            _constants.u2(descIx);
+            ix = _addConstant(key);
+        }
+        return ix;
+    }
+
+    private int _memberRef(int tag, String owner, String name, String desc) {
+        final String key = "M" + tag + owner + "." + name + " " + desc;
+        int ix = _constant(key);
+        if (ix == 0) {
+            final int classIx = _class(owner);
+            final int ntIx = _nameAndType(name, desc);
+            _constants.u1(tag);
+            _constants.u2(classIx);
+            _constants.u2(ntIx);
+            ix = _addConstant(key);
+        }
+        return ix;
+    }
+
+    int _methodRef(String owner, String name, String desc) {
+        return _memberRef(CONSTANT_Methodref, owner, name, desc);
+    }
+
+    int _fieldRef(String owner, String name, String desc) {
+        return _memberRef(CONSTANT_Fieldref, owner, name, desc);
+    }
+
+    /*
+    /**********************************************************************
+    /* Method builder
+    /**********************************************************************
+     */
+
+    /**
+     * Builder for code of a single method. Caller is responsible for specifying
+     * maximum stack depth and number of local variables.
+     */
+    final class MethodBuilder
+    {
+        // Opcodes used
+        private final static int ICONST_0 = 0x03;
+        private final static int BIPUSH = 0x10;
+        private final static int SIPUSH = 0x11;
+        private final static int LDC_W = 0x13;
+        private final static int ILOAD = 0x15;
+        private final static int ALOAD = 0x19;
+        private final static int AALOAD = 0x32;
+        private final static int ASTORE = 0x3A;
+        private final static int POP = 0x57;
+        private final static int POP2 = 0x58;
+        private final static int DUP = 0x59;
+        private final static int F2D = 0x8D;
+        private final static int TABLESWITCH = 0xAA;
+        private final static int ARETURN = 0xB0;
+        private final static int RETURN = 0xB1;
+        private final static int GETFIELD = 0xB4;
+        private final static int PUTFIELD = 0xB5;
+        private final static int INVOKEVIRTUAL = 0xB6;
+        private final static int INVOKESPECIAL = 0xB7;
+        private final static int INVOKESTATIC = 0xB8;
+        private final static int NEW = 0xBB;
+        private final static int CHECKCAST = 0xC0;
+
+        private final int _access, _nameIndex, _descIndex;
+        private final ByteBuffer _code = new ByteBuffer();
+
+        private int _maxStack, _maxLocals;
+
+        // State of the (single) tableswitch, if any
+        private int _switchStart = -1;
+        private int _switchOffsets;
+
+        MethodBuilder(int access, int nameIx, int descIx) {
+            _access = access;
+            _nameIndex = nameIx;
+            _descIndex = descIx;
+        }
+
+        public MethodBuilder maxs(int maxStack, int maxLocals) {
+            _maxStack = maxStack;
+            _maxLocals = maxLocals;
+            return this;
+        }
+
+        public MethodBuilder aload(int index) {
+            return _local(ALOAD, index);
+        }
+
+        public MethodBuilder astore(int index) {
+            return _local(ASTORE, index);
+        }
+
+        public MethodBuilder iload(int index) {
+            return _local(ILOAD, index);
+        }
+
+        private MethodBuilder _local(int opcode, int index) {
+            _code.u1(opcode);
+            _code.u1(index);
+            return this;
+        }
+
+        public MethodBuilder pushInt(int value) {
+            if (value >= -1 && value <= 5) {
+                _code.u1(ICONST_0 + value);
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                _code.u1(BIPUSH);
+                _code.u1(value);
+            } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                _code.u1(SIPUSH);
+                _code.u2(value);
+            } else {
+                _code.u1(LDC_W);
+                _code.u2(_int(value));
+            }
+            return this;
+        }
+
+        public MethodBuilder aaload() { return _op(AALOAD); }
+        public MethodBuilder dup() { return _op(DUP); }
+        public MethodBuilder f2d() { return _op(F2D); }
+        public MethodBuilder areturn() { return _op(ARETURN); }
+        public MethodBuilder vreturn() { return _op(RETURN); }
+
+        /**
+         * Method for discarding value of given type from the stack, if any
+         * (that is, unless type is {@code void})
+         */
+        public MethodBuilder pop(Class<?> type) {
+            if (type == Long.TYPE || type == Double.TYPE) {
+                return _op(POP2);
+            }
+            if (type != Void.TYPE) {
+                return _op(POP);
+            }
+            return this;
+        }
+
+        private MethodBuilder _op(int opcode) {
+            _code.u1(opcode);
+            return this;
+        }
+
+        public MethodBuilder newInstance(String internalName) {
+            return _withIndex(NEW, _class(internalName));
+        }
+
+        public MethodBuilder checkcast(String internalName) {
+            return _withIndex(CHECKCAST, _class(internalName));
+        }
+
+        public MethodBuilder getfield(String owner, String name, String desc) {
+            return _withIndex(GETFIELD, _fieldRef(owner, name, desc));
+        }
+
+        public MethodBuilder getfield(Field f, Class<?> owner) {
+            return getfield(internalName(owner), f.getName(), descriptor(f.getType()));
+        }
+
+        public MethodBuilder putfield(Field f, Class<?> owner) {
+            return _withIndex(PUTFIELD, _fieldRef(internalName(owner), f.getName(),
+                    descriptor(f.getType())));
+        }
+
+        public MethodBuilder invokevirtual(String owner, String name, String desc) {
+            return _withIndex(INVOKEVIRTUAL, _methodRef(owner, name, desc));
+        }
+
+        /**
+         * Method for calling given (non-static, public) method of given class:
+         * class may be a sub-class of the declaring class.
+         */
+        public MethodBuilder invokevirtual(Method m, Class<?> owner) {
+            return invokevirtual(internalName(owner), m.getName(), descriptor(m));
+        }
+
+        public MethodBuilder invokespecial(String owner, String name, String desc) {
+            return _withIndex(INVOKESPECIAL, _methodRef(owner, name, desc));
+        }
+
+        public MethodBuilder invokestatic(String owner, String name, String desc) {
+            return _withIndex(INVOKESTATIC, _methodRef(owner, name, desc));
+        }
+
+        private MethodBuilder _withIndex(int opcode, int index) {
+            _code.u1(opcode);
+            _code.u2(index);
+            return this;
+        }
+
+        /**
+         * Method for starting {@code tableswitch} over int value on top of stack,
+         * with cases from {@code 0} to {@code count-1}: caller then needs to call
+         * {@link #switchCase} for each case and {@link #switchDefault} for the
+         * default case, in any order.
+         */
+        public MethodBuilder tableswitch(int count) {
+            _switchStart = _code.size();
+            _code.u1(TABLESWITCH);
+            while ((_code.size() & 3) != 0) {
+                _code.u1(0);
+            }
+            _switchOffsets = _code.size();
+            _code.u4(0); // default, to patch
+            _code.u4(0); // low
+            _code.u4(count-1); // high
+            for (int i = 0; i < count; ++i) {
+                _code.u4(0);
+            }
+            return this;
+        }
+
+        /**
+         * Method for marking start of code for given case of the switch
+         */
+        public MethodBuilder switchCase(int index) {
+            _code.patchU4(_switchOffsets + 12 + 4*index, _code.size() - _switchStart);
+            return this;
+        }
+
+        public MethodBuilder switchDefault() {
+            _code.patchU4(_switchOffsets, _code.size() - _switchStart);
+            return this;
+        }
+
+        void writeTo(ByteBuffer out, int codeNameIndex)
+        {
+            out.u2(_access);
+            out.u2(_nameIndex);
+            out.u2(_descIndex);
+            out.u2(1); // attributes: just Code
+            out.u2(codeNameIndex);
+            out.u4(12 + _code.size());
+            out.u2(_maxStack);
+            out.u2(_maxLocals);
+            out.u4(_code.size());
+            out.bytes(_code);
+            out.u2(0); // exception table
+            out.u2(0); // attributes
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper classes
+    /**********************************************************************
+     */
+
+    /**
+     * Simple growable byte array with big-endian output methods
+     */
+    final static class ByteBuffer
+    {
+        private byte[] _buffer = new byte[256];
+        private int _size;
+
+        public int size() { return _size; }
+
+        public void u1(int b) {
+            if (_size == _buffer.length) {
+                _buffer = Arrays.copyOf(_buffer, _size + _size);
+            }
+            _buffer[_size++] = (byte) b;
+        }
+
+        public void u2(int v) {
+            u1(v >> 8);
+            u1(v);
+        }
+
+        public void u4(int v) {
+            u2(v >> 16);
+            u2(v);
+        }
+
+        public void patchU4(int offset, int v) {
+            _buffer[offset] = (byte) (v >> 24);
+            _buffer[offset+1] = (byte) (v >> 16);
+            _buffer[offset+2] = (byte) (v >> 8);
+            _buffer[offset+3] = (byte) v;
+        }
+
+        public void bytes(ByteBuffer other) {
+            for (int i = 0, end = other._size; i < end; ++i) {
+                u1(other._buffer[i]);
+            }
+        }
+
+        /**
+         * Method for appending length-prefixed "modified UTF-8" String
+         * (as used by class files)
+         */
+        public void utf8(String str) {
+            final int start = _size;
+            u2(0);
+            for (int i = 0, len = str.length(); i < len; ++i) {
+                final char c = str.charAt(i);
+                if (c >= 0x0001 && c <= 0x007F) {
+                    u1(c);
+                } else if (c <= 0x07FF) { // including null char
+                    u1(0xC0 | (c >> 6));
+                    u1(0x80 | (c & 0x3F));
+                } else {
+                    u1(0xE0 | (c >> 12));
+                    u1(0x80 | ((c >> 6) & 0x3F));
+                    u1(0x80 | (c & 0x3F));
+                }
+            }
+            final int len = _size - start - 2;
+            _buffer[start] = (byte) (len >> 8);
+            _buffer[start+1] = (byte) len;
+        }
+
+        public byte[] toByteArray() {
+            return Arrays.copyOf(_buffer, _size);
+        }
+    }
+}
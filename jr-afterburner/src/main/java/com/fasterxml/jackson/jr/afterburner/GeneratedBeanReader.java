@@ -0,0 +1,127 @@
+package com.fasterxml.jackson.jr.afterburner;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.sym.FieldNameMatcher;
+import com.fasterxml.jackson.jr.ob.impl.BeanReader;
+import com.fasterxml.jackson.jr.ob.impl.JSONReader;
+
+/**
+ * Base class for {@link BeanReader}s generated for specific Bean types:
+ * generated sub-class implements {@link #create()} to call default constructor
+ * directly, and {@link #_readProperty} to switch on property index and
+ * assign value using setter or field directly.
+ *<p>
+ * Sub-classes are only generated by {@link AfterburnerModifier}; this class
+ * is only public as it needs to be accessible to generated code.
+ */
+public abstract class GeneratedBeanReader
+    extends BeanReader
+{
+    protected GeneratedBeanReader(BeanReader base) {
+        super(base);
+    }
+
+    /*
+    /**********************************************************************
+    /* Methods for generated code to implement
+    /**********************************************************************
+     */
+
+    @Override
+    protected abstract Object create() throws Exception;
+
+    /**
+     * Method called to read value of property with given index (as returned by
+     * field name matcher) and assign it to given bean.
+     */
+    protected abstract void _readProperty(JSONReader r, JsonParser p, Object bean, int index)
+        throws IOException;
+
+    /*
+    /**********************************************************************
+    /* Reading
+    /**********************************************************************
+     */
+
+    @Override
+    protected Object _readBean(JSONReader r, JsonParser p, final Object bean) throws IOException
+    {
+        while (true) {
+            final int ix = p.nextFieldName(_fieldMatcher);
+            if (ix >= 0) {
+                _readProperty(r, p, bean, ix);
+                continue;
+            }
+            if (ix == FieldNameMatcher.MATCH_END_OBJECT) {
+                return bean;
+            }
+            if (ix == FieldNameMatcher.MATCH_UNKNOWN_NAME) {
+                handleUnknown(r, p, p.currentName());
+                continue;
+            }
+            throw _reportProblem(p);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper methods for generated code
+    /**********************************************************************
+     */
+
+    protected final Object _readValue(JSONReader r, JsonParser p, int index) throws IOException {
+        return _fieldReaders[index].getReader().readNext(r, p);
+    }
+
+    /**
+     * Method called for properties that generated code can not assign
+     * directly (for example, due to access restrictions)
+     */
+    protected final void _readPropertyDefault(JSONReader r, JsonParser p, Object bean, int index)
+        throws IOException
+    {
+        _fieldReaders[index].readValueFor(r, p, bean);
+    }
+
+    protected final int _readInt(JSONReader r, JsonParser p, int index) throws IOException {
+        if (p.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+            return p.getIntValue();
+        }
+        return ((Number) _readPrimitive(r, p, index)).intValue();
+    }
+
+    protected final long _readLong(JSONReader r, JsonParser p, int index) throws IOException {
+        if (p.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+            return p.getLongValue();
+        }
+        return ((Number) _readPrimitive(r, p, index)).longValue();
+    }
+
+    protected final double _readDouble(JSONReader r, JsonParser p, int index) throws IOException {
+        final JsonToken t = p.nextToken();
+        if ((t == JsonToken.VALUE_NUMBER_FLOAT) || (t == JsonToken.VALUE_NUMBER_INT)) {
+            return p.getDoubleValue();
+        }
+        return ((Number) _readPrimitive(r, p, index)).doubleValue();
+    }
+
+    protected final boolean _readBoolean(JSONReader r, JsonParser p, int index) throws IOException {
+        final JsonToken t = p.nextToken();
+        if (t == JsonToken.VALUE_TRUE) {
+            return true;
+        }
+        if (t == JsonToken.VALUE_FALSE) {
+            return false;
+        }
+        return ((Boolean) _readPrimitive(r, p, index)).booleanValue();
+    }
+
+    // Only called for primitive properties with standard reader, which never
+    // returns `null` (nulls are coerced into default values)
+    private Object _readPrimitive(JSONReader r, JsonParser p, int index) throws IOException {
+        return _fieldReaders[index].getReader().read(r, p);
+    }
+}
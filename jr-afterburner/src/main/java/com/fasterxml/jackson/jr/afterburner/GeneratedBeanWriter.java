@@ -0,0 +1,40 @@
+package com.fasterxml.jackson.jr.afterburner;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.jr.ob.impl.BeanPropertyWriter;
+import com.fasterxml.jackson.jr.ob.impl.BeanWriter;
+import com.fasterxml.jackson.jr.ob.impl.JSONWriter;
+
+/**
+ * Base class for {@link BeanWriter}s generated for specific Bean types:
+ * generated sub-class implements {@link #writeValue} with unrolled
+ * writes of all properties, accessing values using getters or fields
+ * directly.
+ *<p>
+ * Sub-classes are only generated by {@link AfterburnerModifier}; this class
+ * is only public as it needs to be accessible to generated code.
+ */
+public abstract class GeneratedBeanWriter
+    extends BeanWriter
+{
+    protected GeneratedBeanWriter(BeanWriter base) {
+        super(base);
+    }
+
+    @Override
+    public abstract void writeValue(JSONWriter context, JsonGenerator g, Object value)
+        throws IOException;
+
+    /**
+     * Method called for properties that generated code can not access
+     * directly (for example, due to access restrictions)
+     */
+    protected final void _writePropertyDefault(JSONWriter context, Object bean, int index)
+        throws IOException
+    {
+        final BeanPropertyWriter prop = _properties[index];
+        context.writeBeanProperty(prop, prop.getValueFor(bean));
+    }
+}
@@ -0,0 +1,86 @@
+package com.fasterxml.jackson.jr.afterburner;
+
+import java.lang.reflect.Modifier;
+
+/**
+ * Class loader used for defining a single generated class: parent loader is
+ * that of the bean class the generated class is for, so that bean class (and
+ * types of its properties) are resolved as usual, but Jackson types are
+ * resolved using loader of this class, to make sure generated classes link
+ * against the same Jackson classes as the code that uses them.
+ *<p>
+ * Using a separate loader for each generated class allows it to be unloaded
+ * once it is no longer used.
+ */
+final class GeneratedClassLoader extends ClassLoader
+{
+    private final static String[] OWN_PACKAGES = new String[] {
+        "com.fasterxml.jackson.core.",
+        "com.fasterxml.jackson.jr.ob.",
+        "com.fasterxml.jackson.jr.afterburner."
+    };
+
+    private final static ClassLoader OWN_LOADER = GeneratedClassLoader.class.getClassLoader();
+
+    GeneratedClassLoader(Class<?> beanType) {
+        super(_loaderFor(beanType));
+    }
+
+    private static ClassLoader _loaderFor(Class<?> beanType) {
+        ClassLoader l = beanType.getClassLoader();
+        return (l == null) ? OWN_LOADER : l;
+    }
+
+    private static boolean _isOwn(String className) {
+        for (String pkg : OWN_PACKAGES) {
+            if (className.startsWith(pkg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Class<?> defineClass(String name, byte[] classBytes) {
+        return defineClass(name, classBytes, 0, classBytes.length);
+    }
+
+    /**
+     * Method for checking whether code generated for given bean type (and
+     * defined using a loader constructed for it) can refer to given type:
+     * that is, type is public (or primitive) and resolves to the same class
+     * through such loader. Static, so that checks can be made without
+     * constructing a loader.
+     */
+    public static boolean canAccess(Class<?> beanType, Class<?> type)
+    {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        if (!Modifier.isPublic(type.getModifiers())) {
+            return false;
+        }
+        final String name = type.getName();
+        try {
+            return Class.forName(name, false,
+                    _isOwn(name) ? OWN_LOADER : _loaderFor(beanType)) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException
+    {
+        if (_isOwn(name)) {
+            try {
+                return OWN_LOADER.loadClass(name);
+            } catch (ClassNotFoundException e) {
+                ;
+            }
+        }
+        return super.loadClass(name, resolve);
+    }
+}
@@ -0,0 +1,33 @@
+package com.fasterxml.jackson.jr.afterburner;
+
+import com.fasterxml.jackson.jr.ob.JacksonJrExtension;
+import com.fasterxml.jackson.jr.ob.api.ExtensionContext;
+
+/**
+ * {@link JacksonJrExtension} that speeds up reading and writing of Beans
+ * by generating dedicated reader and writer classes for Bean types,
+ * which call constructors, setters, getters and access fields directly,
+ * instead of using Reflection.
+ *<p>
+ * Only public members of public classes are accessed directly; other
+ * properties are handled as usual. Types with properties-based
+ * constructors are also handled as usual.
+ *<p>
+ * Usage is done by registering this extension with {@link com.fasterxml.jackson.jr.ob.JSON}:
+ *<pre>
+ *   JSON json = JSON.builder()
+ *       .register(new JrAfterburnerExtension())
+ *       .build();
+ *</pre>
+ *
+ * @since 3.0
+ */
+public class JrAfterburnerExtension
+    extends JacksonJrExtension
+{
+    @Override
+    protected void register(ExtensionContext ctxt) {
+        // Added as the last modifier, to see readers, writers others may have modified
+        ctxt.appendModifier(new AfterburnerModifier());
+    }
+}
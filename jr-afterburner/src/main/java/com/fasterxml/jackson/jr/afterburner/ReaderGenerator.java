@@ -0,0 +1,264 @@
+package com.fasterxml.jackson.jr.afterburner;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.jr.ob.impl.BeanPropertyReader;
+import com.fasterxml.jackson.jr.ob.impl.BeanReader;
+import com.fasterxml.jackson.jr.ob.impl.JSONReader;
+import com.fasterxml.jackson.jr.ob.impl.SimpleValueReader;
+
+import static com.fasterxml.jackson.jr.afterburner.ClassBuilder.*;
+
+/**
+ * Helper class that generates {@link GeneratedBeanReader} sub-classes
+ * for {@link BeanReader}s.
+ */
+final class ReaderGenerator
+{
+    // Ways to assign property values
+    private final static int KIND_DEFAULT = 0;
+    private final static int KIND_VALUE = 1;
+    private final static int KIND_INT = 2;
+    private final static int KIND_LONG = 3;
+    private final static int KIND_DOUBLE = 4;
+    private final static int KIND_BOOLEAN = 5;
+
+    private final static String BASE_CLASS = internalName(GeneratedBeanReader.class);
+
+    /**
+     * Maximum number of properties to generate code for: methods with more than
+     * 8000 bytes of bytecode are not compiled by HotSpot by default, so there
+     * is no point in generating code for bigger Beans.
+     */
+    private final static int MAX_PROPERTIES = 250;
+
+    private final static Method READ_VALUE = _helper("_readValue");
+    private final static Method READ_INT = _helper("_readInt");
+    private final static Method READ_LONG = _helper("_readLong");
+    private final static Method READ_DOUBLE = _helper("_readDouble");
+    private final static Method READ_BOOLEAN = _helper("_readBoolean");
+    private final static Method READ_DEFAULT;
+    static {
+        try {
+            READ_DEFAULT = GeneratedBeanReader.class.getDeclaredMethod("_readPropertyDefault",
+                    JSONReader.class, JsonParser.class, Object.class, Integer.TYPE);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Generated classes, by Bean type and "shape" (accessors used, in index order):
+     * shape may vary due to configuration, as well as aliases.
+     */
+    private final static ClassValue<Map<List<Object>,Class<?>>> _generated
+        = new ClassValue<Map<List<Object>,Class<?>>>() {
+            @Override
+            protected Map<List<Object>,Class<?>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<List<Object>,Class<?>>(4);
+            }
+    };
+
+    private ReaderGenerator() { }
+
+    /**
+     * @return Generated reader to use instead of given reader, if one could be
+     *    generated; {@code null} if not
+     */
+    public static BeanReader generate(BeanReader base)
+    {
+        final Class<?> beanType = base.valueType();
+        final List<BeanPropertyReader> props = base.propertiesByIndex();
+        if ((props == null) // not yet fully resolved
+                || (props.size() > MAX_PROPERTIES)
+                || !Modifier.isPublic(beanType.getModifiers())
+                || Modifier.isAbstract(beanType.getModifiers())) {
+            return null;
+        }
+        try {
+            // need public default constructor; and properties-based creators not supported
+            if (!Modifier.isPublic(beanType.getConstructor().getModifiers())) {
+                return null;
+            }
+            for (BeanPropertyReader prop : props) {
+                if (prop.creatorIndex() >= 0) {
+                    return null;
+                }
+            }
+            if (!GeneratedClassLoader.canAccess(beanType, beanType)) {
+                return null;
+            }
+            final int count = props.size();
+            final int[] kinds = new int[count];
+            final List<Object> shape = new ArrayList<Object>(count);
+            for (int i = 0; i < count; ++i) {
+                final BeanPropertyReader prop = props.get(i);
+                final Member m = _accessor(beanType, prop);
+                final int kind = (m == null) ? KIND_DEFAULT : _kind(prop);
+                kinds[i] = kind;
+                shape.add((kind == KIND_DEFAULT) ? null : m);
+            }
+            final Map<List<Object>,Class<?>> byShape = _generated.get(beanType);
+            Class<?> cls = byShape.get(shape);
+            if (cls == null) {
+                final String name = "com.fasterxml.jackson.jr.generated."
+                        +beanType.getName().replace('.', '_')+"$JrReader";
+                // loader only needed (and constructed) when a new class is defined
+                cls = new GeneratedClassLoader(beanType).defineClass(name,
+                        _generate(name, beanType, props, kinds));
+                Class<?> old = byShape.putIfAbsent(shape, cls);
+                if (old != null) {
+                    cls = old;
+                }
+            }
+            return (BeanReader) cls.getConstructor(BeanReader.class).newInstance(base);
+        } catch (Exception | LinkageError e) {
+            // No default constructor, or generation failed; either way, use default reader
+            return null;
+        }
+    }
+
+    /**
+     * @return Setter or field usable by generated code, if any; {@code null} if none
+     */
+    private static Member _accessor(Class<?> beanType, BeanPropertyReader prop)
+    {
+        // NOTE: setter has precedence over field, same as with BeanPropertyReader
+        final Method setter = prop.getSetter();
+        if (setter != null) {
+            final int mods = setter.getModifiers();
+            if (Modifier.isPublic(mods) && !Modifier.isStatic(mods)
+                    && GeneratedClassLoader.canAccess(beanType, setter.getParameterTypes()[0])) {
+                return setter;
+            }
+            return null;
+        }
+        final Field f = prop.getField();
+        if (f != null) {
+            final int mods = f.getModifiers();
+            if (Modifier.isPublic(mods) && !Modifier.isStatic(mods) && !Modifier.isFinal(mods)
+                    && GeneratedClassLoader.canAccess(beanType, f.getType())) {
+                return f;
+            }
+        }
+        return null;
+    }
+
+    private static int _kind(BeanPropertyReader prop)
+    {
+        final Class<?> raw = prop.rawSetterType();
+        if (!raw.isPrimitive()) {
+            return KIND_VALUE;
+        }
+        // Only use non-boxing reads with standard readers; others via default handling
+        if (prop.getReader().getClass() == SimpleValueReader.class) {
+            if (raw == Integer.TYPE) return KIND_INT;
+            if (raw == Long.TYPE) return KIND_LONG;
+            if (raw == Double.TYPE) return KIND_DOUBLE;
+            if (raw == Boolean.TYPE) return KIND_BOOLEAN;
+        }
+        return KIND_DEFAULT;
+    }
+
+    /*
+    /**********************************************************************
+    /* Code generation
+    /**********************************************************************
+     */
+
+    private static byte[] _generate(String className, Class<?> beanType,
+            List<BeanPropertyReader> props, int[] kinds)
+    {
+        final String beanClass = internalName(beanType);
+        final String baseReader = internalName(BeanReader.class);
+        ClassBuilder cb = new ClassBuilder(className.replace('.', '/'), BASE_CLASS);
+
+        // Constructor that just passes base reader
+        cb.method(ACC_PUBLIC, "<init>", "(L"+baseReader+";)V")
+            .aload(0)
+            .aload(1)
+            .invokespecial(BASE_CLASS, "<init>", "(L"+baseReader+";)V")
+            .vreturn()
+            .maxs(2, 2);
+
+        // Construction using default constructor
+        cb.method(ACC_PROTECTED, "create", "()Ljava/lang/Object;")
+            .newInstance(beanClass)
+            .dup()
+            .invokespecial(beanClass, "<init>", "()V")
+            .areturn()
+            .maxs(2, 1);
+
+        // And then the main thing: reading and assigning property values
+        // Locals: 0 = this, 1 = JSONReader, 2 = JsonParser, 3 = bean, 4 = index
+        final ClassBuilder.MethodBuilder mb = cb.method(ACC_PROTECTED, "_readProperty",
+                descriptor(READ_DEFAULT))
+                .maxs(6, 5);
+        final int count = kinds.length;
+        if (count > 0) {
+            mb.iload(4).tableswitch(count);
+            for (int i = 0; i < count; ++i) {
+                mb.switchCase(i);
+                final BeanPropertyReader prop = props.get(i);
+                final int kind = kinds[i];
+                if (kind == KIND_DEFAULT) {
+                    mb.aload(0).aload(1).aload(2).aload(3).pushInt(i)
+                        .invokevirtual(READ_DEFAULT, GeneratedBeanReader.class)
+                        .vreturn();
+                    continue;
+                }
+                final Class<?> valueType = prop.rawSetterType();
+                mb.aload(3).checkcast(beanClass)
+                    .aload(0).aload(1).aload(2).pushInt(i);
+                switch (kind) {
+                case KIND_INT:
+                    mb.invokevirtual(READ_INT, GeneratedBeanReader.class);
+                    break;
+                case KIND_LONG:
+                    mb.invokevirtual(READ_LONG, GeneratedBeanReader.class);
+                    break;
+                case KIND_DOUBLE:
+                    mb.invokevirtual(READ_DOUBLE, GeneratedBeanReader.class);
+                    break;
+                case KIND_BOOLEAN:
+                    mb.invokevirtual(READ_BOOLEAN, GeneratedBeanReader.class);
+                    break;
+                default:
+                    mb.invokevirtual(READ_VALUE, GeneratedBeanReader.class);
+                    if (valueType != Object.class) {
+                        mb.checkcast(internalName(valueType));
+                    }
+                }
+                final Method setter = prop.getSetter();
+                if (setter != null) {
+                    mb.invokevirtual(setter, beanType)
+                        .pop(setter.getReturnType());
+                } else {
+                    mb.putfield(prop.getField(), beanType);
+                }
+                mb.vreturn();
+            }
+            mb.switchDefault();
+        }
+        // should never get here but just in case
+        mb.aload(0).aload(1).aload(2).aload(3).iload(4)
+            .invokevirtual(READ_DEFAULT, GeneratedBeanReader.class)
+            .vreturn();
+        return cb.build();
+    }
+
+    private static Method _helper(String name) {
+        try {
+            return GeneratedBeanReader.class.getDeclaredMethod(name,
+                    JSONReader.class, JsonParser.class, Integer.TYPE);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.fasterxml.jackson.jr.afterburner;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.jr.ob.impl.BeanPropertyWriter;
+import com.fasterxml.jackson.jr.ob.impl.BeanWriter;
+import com.fasterxml.jackson.jr.ob.impl.JSONWriter;
+
+import static com.fasterxml.jackson.jr.afterburner.ClassBuilder.*;
+
+/**
+ * Helper class that generates {@link GeneratedBeanWriter} sub-classes
+ * for {@link BeanWriter}s.
+ */
+final class WriterGenerator
+{
+    private final static String BASE_CLASS = internalName(GeneratedBeanWriter.class);
+
+    /**
+     * Maximum number of properties to generate code for: methods with more than
+     * 8000 bytes of bytecode are not compiled by HotSpot by default, so there
+     * is no point in generating code for bigger Beans.
+     */
+    private final static int MAX_PROPERTIES = 250;
+
+    private final static Method WRITE_START, WRITE_END, WRITE_DEFAULT;
+    private final static Method WRITE_OBJECT, WRITE_INT, WRITE_LONG, WRITE_DOUBLE, WRITE_BOOLEAN;
+    static {
+        try {
+            WRITE_START = JsonGenerator.class.getMethod("writeStartObject", Object.class);
+            WRITE_END = JsonGenerator.class.getMethod("writeEndObject");
+            WRITE_DEFAULT = GeneratedBeanWriter.class.getDeclaredMethod("_writePropertyDefault",
+                    JSONWriter.class, Object.class, Integer.TYPE);
+            WRITE_OBJECT = _writeMethod(Object.class);
+            WRITE_INT = _writeMethod(Integer.TYPE);
+            WRITE_LONG = _writeMethod(Long.TYPE);
+            WRITE_DOUBLE = _writeMethod(Double.TYPE);
+            WRITE_BOOLEAN = _writeMethod(Boolean.TYPE);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Generated classes, by Bean type and "shape" (accessors used, in order)
+     */
+    private final static ClassValue<Map<List<Object>,Class<?>>> _generated
+        = new ClassValue<Map<List<Object>,Class<?>>>() {
+            @Override
+            protected Map<List<Object>,Class<?>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<List<Object>,Class<?>>(4);
+            }
+    };
+
+    private WriterGenerator() { }
+
+    /**
+     * @return Generated writer to use instead of given writer, if one could be
+     *    generated; {@code null} if not
+     */
+    public static BeanWriter generate(BeanWriter base)
+    {
+        final Class<?> beanType = base.valueType();
+        if (!Modifier.isPublic(beanType.getModifiers())
+                || (base.properties().size() > MAX_PROPERTIES)) {
+            return null;
+        }
+        try {
+            if (!GeneratedClassLoader.canAccess(beanType, beanType)) {
+                return null;
+            }
+            final List<BeanPropertyWriter> props = base.properties();
+            final List<Object> shape = new ArrayList<Object>(props.size());
+            for (BeanPropertyWriter prop : props) {
+                shape.add(_accessor(beanType, prop));
+            }
+            final Map<List<Object>,Class<?>> byShape = _generated.get(beanType);
+            Class<?> cls = byShape.get(shape);
+            if (cls == null) {
+                final String name = "com.fasterxml.jackson.jr.generated."
+                        +beanType.getName().replace('.', '_')+"$JrWriter";
+                // loader only needed (and constructed) when a new class is defined
+                cls = new GeneratedClassLoader(beanType).defineClass(name,
+                        _generate(name, beanType, shape));
+                Class<?> old = byShape.putIfAbsent(shape, cls);
+                if (old != null) {
+                    cls = old;
+                }
+            }
+            return (BeanWriter) cls.getConstructor(BeanWriter.class).newInstance(base);
+        } catch (Exception | LinkageError e) {
+            // generation failed; use default writer
+            return null;
+        }
+    }
+
+    /**
+     * @return Getter or field usable by generated code, if any; {@code null} if none
+     */
+    private static Member _accessor(Class<?> beanType, BeanPropertyWriter prop)
+    {
+        // NOTE: getter has precedence over field, same as with BeanPropertyWriter
+        final Method getter = prop.getGetter();
+        if (getter != null) {
+            final int mods = getter.getModifiers();
+            if (Modifier.isPublic(mods) && !Modifier.isStatic(mods)
+                    && GeneratedClassLoader.canAccess(beanType, getter.getReturnType())) {
+                return getter;
+            }
+            return null;
+        }
+        final Field f = prop.getField();
+        if (f != null) {
+            final int mods = f.getModifiers();
+            if (Modifier.isPublic(mods) && !Modifier.isStatic(mods)
+                    && GeneratedClassLoader.canAccess(beanType, f.getType())) {
+                return f;
+            }
+        }
+        return null;
+    }
+
+    /*
+    /**********************************************************************
+    /* Code generation
+    /**********************************************************************
+     */
+
+    private static byte[] _generate(String className, Class<?> beanType, List<Object> accessors)
+    {
+        final String beanClass = internalName(beanType);
+        final String baseWriter = internalName(BeanWriter.class);
+        ClassBuilder cb = new ClassBuilder(className.replace('.', '/'), BASE_CLASS);
+
+        // Constructor that just passes base writer
+        cb.method(ACC_PUBLIC, "<init>", "(L"+baseWriter+";)V")
+            .aload(0)
+            .aload(1)
+            .invokespecial(BASE_CLASS, "<init>", "(L"+baseWriter+";)V")
+            .vreturn()
+            .maxs(2, 2);
+
+        // Locals: 0 = this, 1 = JSONWriter, 2 = JsonGenerator, 3 = value, 4 = bean
+        final ClassBuilder.MethodBuilder mb = cb.method(ACC_PUBLIC, "writeValue",
+                "(L"+internalName(JSONWriter.class)+";L"+internalName(JsonGenerator.class)
+                +";Ljava/lang/Object;)V")
+                .maxs(5, 5);
+        mb.aload(2).aload(3)
+            .invokevirtual(WRITE_START, JsonGenerator.class)
+            .pop(WRITE_START.getReturnType());
+        mb.aload(3).checkcast(beanClass).astore(4);
+
+        for (int i = 0, len = accessors.size(); i < len; ++i) {
+            final Object acc = accessors.get(i);
+            if (acc == null) {
+                mb.aload(0).aload(1).aload(4).pushInt(i)
+                    .invokevirtual(WRITE_DEFAULT, GeneratedBeanWriter.class);
+                continue;
+            }
+            mb.aload(1)
+                .aload(0).getfield(baseWriter, "_properties",
+                        "["+descriptor(BeanPropertyWriter.class))
+                .pushInt(i).aaload()
+                .aload(4);
+            final Class<?> type;
+            if (acc instanceof Method) {
+                final Method getter = (Method) acc;
+                mb.invokevirtual(getter, beanType);
+                type = getter.getReturnType();
+            } else {
+                final Field f = (Field) acc;
+                mb.getfield(f, beanType);
+                type = f.getType();
+            }
+            final Method write;
+            if (!type.isPrimitive()) {
+                write = WRITE_OBJECT;
+            } else if (type == Integer.TYPE) {
+                write = WRITE_INT;
+            } else if (type == Long.TYPE) {
+                write = WRITE_LONG;
+            } else if (type == Double.TYPE) {
+                write = WRITE_DOUBLE;
+            } else if (type == Float.TYPE) {
+                // written as double, same as boxed Floats
+                mb.f2d();
+                write = WRITE_DOUBLE;
+            } else if (type == Boolean.TYPE) {
+                write = WRITE_BOOLEAN;
+            } else { // short, byte, char: boxed, same as with reflection
+                final Class<?> wrapper = _wrapperFor(type);
+                mb.invokestatic(internalName(wrapper), "valueOf",
+                        "("+descriptor(type)+")"+descriptor(wrapper));
+                write = WRITE_OBJECT;
+            }
+            mb.invokevirtual(write, JSONWriter.class);
+        }
+        mb.aload(2)
+            .invokevirtual(WRITE_END, JsonGenerator.class)
+            .pop(WRITE_END.getReturnType())
+            .vreturn();
+        return cb.build();
+    }
+
+    private static Class<?> _wrapperFor(Class<?> primitive) {
+        if (primitive == Short.TYPE) return Short.class;
+        if (primitive == Byte.TYPE) return Byte.class;
+        return Character.class;
+    }
+
+    private static Method _writeMethod(Class<?> valueType) throws NoSuchMethodException {
+        return JSONWriter.class.getMethod("writeBeanProperty", BeanPropertyWriter.class, valueType);
+    }
+}
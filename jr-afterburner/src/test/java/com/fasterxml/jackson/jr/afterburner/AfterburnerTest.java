@@ -0,0 +1,185 @@
+package com.fasterxml.jackson.jr.afterburner;
+
+import java.util.*;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JacksonJrExtension;
+import com.fasterxml.jackson.jr.ob.Projection;
+import com.fasterxml.jackson.jr.ob.api.ExtensionContext;
+import com.fasterxml.jackson.jr.ob.api.ReaderWriterModifier;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+import com.fasterxml.jackson.jr.ob.api.ValueWriter;
+import com.fasterxml.jackson.jr.ob.impl.JSONReader;
+import com.fasterxml.jackson.jr.ob.impl.JSONWriter;
+
+import junit.framework.TestCase;
+
+public class AfterburnerTest extends TestCase
+{
+    public static class Bean {
+        private int _count;
+        private long _id;
+        private double _ratio;
+        private boolean _enabled;
+        private String _name;
+
+        public int getCount() { return _count; }
+        public void setCount(int c) { _count = c; }
+
+        public long getId() { return _id; }
+        public void setId(long id) { _id = id; }
+
+        public double getRatio() { return _ratio; }
+        public void setRatio(double r) { _ratio = r; }
+
+        public boolean isEnabled() { return _enabled; }
+        public void setEnabled(boolean b) { _enabled = b; }
+
+        public String getName() { return _name; }
+        // "fluent" setter, return value to be ignored
+        public Bean setName(String n) { _name = n; return this; }
+    }
+
+    public static class FieldBean {
+        public float f;
+        public short s;
+        public List<String> tags;
+        public Bean bean;
+    }
+
+    // not public, so will not get generated reader, writer
+    static class HiddenBean {
+        public int x;
+    }
+
+    /**
+     * Extension for verifying what readers and writers get used, registered
+     * after Afterburner extension.
+     */
+    static class Capturing extends JacksonJrExtension {
+        final Map<Class<?>, Object> readers = new HashMap<>();
+        final Map<Class<?>, Object> writers = new HashMap<>();
+
+        @Override
+        protected void register(ExtensionContext ctxt) {
+            ctxt.appendModifier(new ReaderWriterModifier() {
+                @Override
+                public ValueReader modifyValueReader(JSONReader readContext,
+                        Class<?> type, ValueReader defaultReader) {
+                    readers.put(type, defaultReader);
+                    return defaultReader;
+                }
+
+                @Override
+                public ValueWriter modifyValueWriter(JSONWriter writeContext,
+                        Class<?> type, ValueWriter defaultWriter) {
+                    writers.put(type, defaultWriter);
+                    return defaultWriter;
+                }
+            });
+        }
+    }
+
+    private final Capturing CAPTURING = new Capturing();
+
+    private final JSON JSON_AB = JSON.builder()
+            .register(new JrAfterburnerExtension())
+            .register(CAPTURING)
+            .build();
+
+    public void testBeanWithAccessors() throws Exception
+    {
+        Bean input = new Bean();
+        input.setCount(3);
+        input.setId(-1234567890123L);
+        input.setRatio(0.25);
+        input.setEnabled(true);
+        input.setName("abc");
+
+        final String json = JSON_AB.asString(input);
+        assertEquals(JSON.std.asString(input), json);
+
+        Bean result = JSON_AB.beanFrom(Bean.class, json);
+        assertEquals(3, result.getCount());
+        assertEquals(-1234567890123L, result.getId());
+        assertEquals(0.25, result.getRatio());
+        assertTrue(result.isEnabled());
+        assertEquals("abc", result.getName());
+
+        assertTrue(CAPTURING.readers.get(Bean.class) instanceof GeneratedBeanReader);
+        assertTrue(CAPTURING.writers.get(Bean.class) instanceof GeneratedBeanWriter);
+    }
+
+    public void testBeanWithFields() throws Exception
+    {
+        FieldBean input = new FieldBean();
+        input.f = 0.5f;
+        input.s = 7;
+        input.tags = Arrays.asList("a", "b");
+        input.bean = new Bean().setName("x");
+
+        final String json = JSON_AB.asString(input);
+        assertEquals(JSON.std.asString(input), json);
+
+        FieldBean result = JSON_AB.beanFrom(FieldBean.class, json);
+        assertEquals(0.5f, result.f);
+        assertEquals(7, result.s);
+        assertEquals(Arrays.asList("a", "b"), result.tags);
+        assertEquals("x", result.bean.getName());
+
+        assertTrue(CAPTURING.readers.get(FieldBean.class) instanceof GeneratedBeanReader);
+        assertTrue(CAPTURING.writers.get(FieldBean.class) instanceof GeneratedBeanWriter);
+    }
+
+    public void testCoercionsAndUnknown() throws Exception
+    {
+        Bean result = JSON_AB.beanFrom(Bean.class,
+                "{\"count\":\"12\",\"ratio\":3,\"unknown\":[1,2],\"enabled\":\"true\",\"name\":null}");
+        assertEquals(12, result.getCount());
+        assertEquals(3.0, result.getRatio());
+        assertTrue(result.isEnabled());
+        assertNull(result.getName());
+
+        try {
+            JSON_AB.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .beanFrom(Bean.class, "{\"unknown\":1}");
+            fail("Should not pass");
+        } catch (Exception e) {
+            assertTrue(e.getMessage().contains("unknown"));
+        }
+    }
+
+    public void testNullForPrimitive() throws Exception
+    {
+        // should be handled same as by standard readers: coerced into default value
+        final String json = "{\"count\":null,\"enabled\":null}";
+        Bean result = JSON_AB.beanFrom(Bean.class, json);
+        Bean exp = JSON.std.beanFrom(Bean.class, json);
+        assertEquals(exp.getCount(), result.getCount());
+        assertEquals(exp.isEnabled(), result.isEnabled());
+    }
+
+    public void testProjection() throws Exception
+    {
+        // generated readers are based on projected standard readers
+        final JSON json = JSON_AB.withProjections(Projection.of(Bean.class, "id", "name"));
+        Bean result = json.beanFrom(Bean.class,
+                "{\"count\":3,\"id\":7,\"enabled\":true,\"name\":\"abc\"}");
+        assertEquals(7L, result.getId());
+        assertEquals("abc", result.getName());
+        assertEquals(0, result.getCount());
+        assertFalse(result.isEnabled());
+
+        assertTrue(CAPTURING.readers.get(Bean.class) instanceof GeneratedBeanReader);
+    }
+
+    public void testNonPublicBean() throws Exception
+    {
+        HiddenBean result = JSON_AB.beanFrom(HiddenBean.class, "{\"x\":5}");
+        assertEquals(5, result.x);
+        assertEquals("{\"x\":5}", JSON_AB.asString(result));
+
+        assertFalse(CAPTURING.readers.get(HiddenBean.class) instanceof GeneratedBeanReader);
+        assertFalse(CAPTURING.writers.get(HiddenBean.class) instanceof GeneratedBeanWriter);
+    }
+}
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.jr.ob.impl.BeanPropertyIntrospector;
 import com.fasterxml.jackson.jr.ob.impl.JSONReader;
 import com.fasterxml.jackson.jr.ob.impl.JSONWriter;
 import com.fasterxml.jackson.jr.ob.impl.POJODefinition;
@@ -35,6 +36,14 @@ public class AnnotationBasedIntrospector
     
     protected final Map<String, APropBuilder> _props = new HashMap<String, APropBuilder>();
 
+    /**
+     * Mapping from implicit names of renamed properties to explicit names,
+     * if any renaming done.
+     *
+     * @since 3.0
+     */
+    protected Map<String, String> _renamed;
+
     // // // State only for deserialization:
 
     protected Set<String> _ignorableNames;
@@ -82,31 +91,45 @@ public class AnnotationBasedIntrospector
         Constructor<?> stringCtor = null;
         Constructor<?> longCtor = null;
 
-        // A few things only matter during deserialization: constructors,
-        // secondary ignoral information:
-        if (!_forSerialization) {
-            for (Constructor<?> ctor : _type.getDeclaredConstructors()) {
-                Class<?>[] argTypes = ctor.getParameterTypes();
-                if (argTypes.length == 0) {
-                    defaultCtor = ctor;
-                } else if (argTypes.length == 1) {
-                    Class<?> argType = argTypes[0];
-                    if (argType == String.class) {
-                        stringCtor = ctor;
-                    } else if (argType == Long.class || argType == Long.TYPE) {
-                        longCtor = ctor;
-                    } else {
-                        continue;
-                    }
+        for (Constructor<?> ctor : _type.getDeclaredConstructors()) {
+            Class<?>[] argTypes = ctor.getParameterTypes();
+            if (argTypes.length == 0) {
+                defaultCtor = ctor;
+            } else if (argTypes.length == 1) {
+                Class<?> argType = argTypes[0];
+                if (argType == String.class) {
+                    stringCtor = ctor;
+                } else if (argType == Long.class || argType == Long.TYPE) {
+                    longCtor = ctor;
                 } else {
                     continue;
                 }
+            } else {
+                continue;
             }
         }
 
-        POJODefinition def = new POJODefinition(_type,
-                _pruneProperties(_forSerialization),
+        // Properties-based creators (Records, "all-args" constructors) detected same
+        // way as without annotation support; Record accessors needed for both
+        // serialization and deserialization
+        final BeanPropertyIntrospector.Creator creator = BeanPropertyIntrospector.findCreator(_type,
                 defaultCtor, stringCtor, longCtor);
+        if ((creator != null) && (creator.accessors != null)) {
+            _addRecordAccessors(creator);
+        }
+        final POJODefinition.Prop[] props = _pruneProperties(_forSerialization);
+
+        POJODefinition def;
+        // A few things only matter during deserialization: constructors,
+        // secondary ignoral information:
+        if (_forSerialization) {
+            def = new POJODefinition(_type, props, null, null, null);
+        } else if (creator == null) {
+            def = new POJODefinition(_type, props, defaultCtor, stringCtor, longCtor);
+        } else {
+            def = new POJODefinition(_type, props, defaultCtor, stringCtor, longCtor,
+                    creator.constructor, _creatorParamNames(creator));
+        }
         if (_ignorableNames != null) {
             def = def.withIgnorals(_ignorableNames);
         }
@@ -154,6 +177,10 @@ public class AnnotationBasedIntrospector
             // and finally, see if renaming (due to explicit name override) needed:
             String explName = prop.findPrimaryExplicitName(_forSerialization);
             if (explName != null) {
+                if (_renamed == null) {
+                    _renamed = new HashMap<String, String>();
+                }
+                _renamed.put(prop.name, explName);
                 it.remove();
                 if (renamed == null) {
                     renamed = new LinkedList<APropBuilder>();
@@ -219,6 +246,56 @@ public class AnnotationBasedIntrospector
         return result;
     }
 
+    /**
+     * Helper method for adding Record component accessors as getters: they
+     * do not follow getter naming convention, but are implicitly visible
+     * (unless explicitly ignored).
+     *
+     * @since 3.0
+     */
+    protected void _addRecordAccessors(BeanPropertyIntrospector.Creator creator)
+    {
+        for (int i = 0; i < creator.accessors.length; ++i) {
+            final Method m = creator.accessors[i];
+            final String implName = creator.paramNames[i];
+            final APropBuilder prop = _propBuilder(implName);
+            // may have been found already, if annotated
+            if ((m == null) || (prop.getter != null)) {
+                continue;
+            }
+            if (Boolean.TRUE.equals(_hasIgnoreMarker(m))) {
+                prop.getter = APropAccessor.createIgnorable(implName, m);
+            } else {
+                prop.getter = APropAccessor.createImplicit(implName, m,
+                        _isGetterVisible(m, false));
+            }
+        }
+    }
+
+    /**
+     * Helper method for determining names of properties that creator parameters
+     * bind: explicitly annotated parameter names have precedence; otherwise
+     * implicit name is used, renamed if property with that name was renamed.
+     *
+     * @since 3.0
+     */
+    protected String[] _creatorParamNames(BeanPropertyIntrospector.Creator creator)
+    {
+        final Parameter[] params = creator.constructor.getParameters();
+        final String[] names = new String[params.length];
+        for (int i = 0; i < params.length; ++i) {
+            String name = _findExplicitName(params[i]);
+            if ((name == null) || name.isEmpty()) {
+                name = creator.paramNames[i];
+                if ((_renamed != null) && _renamed.containsKey(name)) {
+                    name = _renamed.get(name);
+                }
+            }
+            names[i] = name;
+        }
+        return names;
+    }
+
     protected void _findFields() {
         for (Field f : _type.getDeclaredFields()) {
             // Does not include static fields, but there are couple of things we do
@@ -56,4 +56,15 @@ public class BasicAliasTest extends ASTestBase
         assertEquals("Bob", result.middle);
         assertEquals("Burger", result.last);
     }
+
+    // Aliases must also be recognized after an unknown property has been skipped
+    public void testAliasesAfterUnknown() throws Exception
+    {
+        final String input = a2q("{ 'nickName':'Bill', 'fn':'Billy', 'ln':'Burger' }");
+        AliasedName result = jsonWithAnnotationSupport()
+                .beanFrom(AliasedName.class, input);
+        assertEquals("Billy", result.first);
+        assertNull(result.middle);
+        assertEquals("Burger", result.last);
+    }
 }
@@ -0,0 +1,48 @@
+package com.fasterxml.jackson.jr.annotationsupport;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.jr.ob.JSON;
+
+public class CreatorWithAnnotationsTest extends ASTestBase
+{
+    static class Point {
+        public final int x, y;
+
+        public Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    static class RenamedPoint {
+        @JsonProperty("px")
+        protected final int x;
+
+        protected final int y;
+
+        public RenamedPoint(int x, @JsonProperty("py") int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        @JsonProperty("py")
+        public int getY() { return y; }
+    }
+
+    private final JSON JSON_WITH_ANNO = jsonWithAnnotationSupport();
+
+    public void testAllArgsConstructor() throws Exception
+    {
+        Point p = JSON_WITH_ANNO.beanFrom(Point.class, a2q("{'y':2,'x':1}"));
+        assertEquals(1, p.x);
+        assertEquals(2, p.y);
+        assertEquals(a2q("{'x':1,'y':2}"), JSON_WITH_ANNO.asString(p));
+    }
+
+    public void testAllArgsConstructorWithRenames() throws Exception
+    {
+        RenamedPoint p = JSON_WITH_ANNO.beanFrom(RenamedPoint.class, a2q("{'py':4,'px':3}"));
+        assertEquals(3, p.x);
+        assertEquals(4, p.y);
+    }
+}
@@ -0,0 +1,42 @@
+package com.fasterxml.jackson.jr.perf;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark for tracking allocation rate of the hot read/write paths
+ * enumerated by {@link OperationPath}: meant to be run with JMH GC profiler,
+ * to get {@code gc.alloc.rate.norm} (bytes allocated per operation):
+ *<pre>
+ *  java -jar jr-benchmarks/target/benchmarks.jar AllocationBenchmark -prof gc
+ *</pre>
+ * Budgets enforced by the build are verified by {@code AllocationBudgetTest}
+ * using the same paths and payloads.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AllocationBenchmark
+{
+    @Param
+    public OperationPath path;
+
+    @Param
+    public Payload payload;
+
+    protected PathFixture fixture;
+
+    @Setup
+    public void setup() {
+        fixture = new PathFixture(payload);
+    }
+
+    @Benchmark
+    public Object run() throws Exception {
+        return path.execute(fixture);
+    }
+}
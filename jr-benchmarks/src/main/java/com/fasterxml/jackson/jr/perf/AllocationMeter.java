@@ -0,0 +1,69 @@
+package com.fasterxml.jackson.jr.perf;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Helper class for measuring number of bytes allocated by the current thread,
+ * using (HotSpot-specific) {@code com.sun.management.ThreadMXBean} counters.
+ * Used as a lighter-weight alternative to JMH GC profiler for unit tests.
+ */
+public class AllocationMeter
+{
+    private final com.sun.management.ThreadMXBean _threads;
+
+    protected AllocationMeter(com.sun.management.ThreadMXBean threads) {
+        _threads = threads;
+    }
+
+    /**
+     * Factory method for constructing meter instance, if (and only if)
+     * the current JVM supports per-thread allocation counters.
+     *
+     * @return Meter to use, if supported; {@code null} if not
+     */
+    public static AllocationMeter createIfSupported()
+    {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        try {
+            if (!threads.isThreadAllocatedMemorySupported()) {
+                return null;
+            }
+            if (!threads.isThreadAllocatedMemoryEnabled()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+            }
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+        return new AllocationMeter(threads);
+    }
+
+    /**
+     * Method that will first run given operation {@code warmup} times
+     * (to let JIT optimize code, including escape analysis), and then
+     * measure average number of bytes allocated over {@code iterations}
+     * further calls.
+     */
+    public long bytesPerOperation(OperationPath path, PathFixture fixture,
+            int warmup, int iterations) throws Exception
+    {
+        // keep hash of results to ensure calls are not optimized out
+        int hash = 0;
+        for (int i = 0; i < warmup; ++i) {
+            hash += System.identityHashCode(path.execute(fixture));
+        }
+        final long threadId = Thread.currentThread().getId();
+        final long start = _threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; ++i) {
+            hash += System.identityHashCode(path.execute(fixture));
+        }
+        final long total = _threads.getThreadAllocatedBytes(threadId) - start;
+        if (hash == 42) { // should never match but can't be proven not to
+            System.err.print("");
+        }
+        return total / iterations;
+    }
+}
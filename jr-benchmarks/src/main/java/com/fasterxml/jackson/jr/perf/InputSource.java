@@ -0,0 +1,51 @@
+package com.fasterxml.jackson.jr.perf;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Kinds of input sources to pass to {@code JSON} read methods: all represent
+ * the same content, but exercise different parser backends.
+ */
+public enum InputSource
+{
+    BYTES {
+        @Override
+        public Object prepare(byte[] doc) { return doc; }
+
+        @Override
+        public Object source(Object prepared) { return prepared; }
+    },
+
+    STRING {
+        @Override
+        public Object prepare(byte[] doc) { return new String(doc, StandardCharsets.UTF_8); }
+
+        @Override
+        public Object source(Object prepared) { return prepared; }
+    },
+
+    /**
+     * Input stream over byte content; a new (cheap) stream is constructed
+     * for every read.
+     */
+    STREAM {
+        @Override
+        public Object prepare(byte[] doc) { return doc; }
+
+        @Override
+        public Object source(Object prepared) { return new ByteArrayInputStream((byte[]) prepared); }
+    }
+    ;
+
+    /**
+     * Method called once during setup to convert encoded document into form
+     * that can be efficiently turned into actual source with {@link #source}.
+     */
+    public abstract Object prepare(byte[] doc);
+
+    /**
+     * Method called once per invocation to get the actual source to read from.
+     */
+    public abstract Object source(Object prepared);
+}
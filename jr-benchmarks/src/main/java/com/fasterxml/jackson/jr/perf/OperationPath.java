@@ -0,0 +1,56 @@
+package com.fasterxml.jackson.jr.perf;
+
+/**
+ * Enumeration of hot read/write paths whose allocation rate we track;
+ * each is exercised via public {@code JSON} entry point that delegates
+ * to the internal method named by {@link #target()}.
+ */
+public enum OperationPath
+{
+    BEAN_READ("BeanReader.read") {
+        @Override
+        public Object execute(PathFixture f) throws Exception {
+            return f.json.beanFrom(f.itemType, f.itemDoc);
+        }
+    },
+
+    BEAN_WRITE("JSONWriter.writeBeanValue") {
+        @Override
+        public Object execute(PathFixture f) throws Exception {
+            f.json.write(f.item, f.out);
+            return f.out;
+        }
+    },
+
+    MAP_READ("AnyReader.readFromObject") {
+        @Override
+        public Object execute(PathFixture f) throws Exception {
+            return f.json.mapFrom(f.itemDoc);
+        }
+    },
+
+    TREE_READ("JacksonJrsTreeCodec.readTree") {
+        @Override
+        public Object execute(PathFixture f) throws Exception {
+            return f.json.treeFrom(f.itemDoc);
+        }
+    }
+    ;
+
+    private final String _target;
+
+    private OperationPath(String target) {
+        _target = target;
+    }
+
+    /**
+     * @return Description of internal method this path exercises
+     */
+    public String target() { return _target; }
+
+    /**
+     * Method for running a single operation over given fixture: return
+     * value is to be consumed by caller to prevent dead-code elimination.
+     */
+    public abstract Object execute(PathFixture f) throws Exception;
+}
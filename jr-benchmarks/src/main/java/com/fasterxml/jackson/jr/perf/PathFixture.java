@@ -0,0 +1,48 @@
+package com.fasterxml.jackson.jr.perf;
+
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.stree.JacksonJrsTreeCodec;
+
+/**
+ * Pre-built state needed to run {@link OperationPath}s over a single
+ * {@link Payload}, so that setup costs are not included in measurements.
+ */
+public class PathFixture
+{
+    public final JSON json;
+
+    public final Payload payload;
+
+    public final Class<?> itemType;
+
+    public final Object item;
+
+    public final byte[] itemDoc;
+
+    /**
+     * Output target for writes, to avoid measuring construction of result
+     * {@code byte[]} or {@code String} in addition to actual writing.
+     */
+    public final OutputStream out = new NopOutputStream();
+
+    public PathFixture(Payload payload) {
+        this.payload = payload;
+        json = JSON.builder()
+                .treeCodec(new JacksonJrsTreeCodec())
+                .build();
+        itemType = payload.itemType();
+        item = payload.item();
+        itemDoc = payload.itemDoc();
+    }
+
+    static class NopOutputStream extends OutputStream
+    {
+        @Override
+        public void write(int b) { }
+
+        @Override
+        public void write(byte[] b, int offset, int len) { }
+    }
+}
@@ -0,0 +1,173 @@
+package com.fasterxml.jackson.jr.perf;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.perf.model.*;
+
+/**
+ * Enumeration of test documents used by benchmarks. Each payload is available
+ * both as a single JSON Object (for {@code beanFrom}, {@code mapFrom},
+ * {@code treeFrom}) and as a JSON Array of {@link #ITEMS_PER_LIST} such
+ * Objects (for {@code listOfFrom}).
+ *<p>
+ * Content is generated deterministically so that results are comparable
+ * across runs and releases.
+ */
+public enum Payload
+{
+    /**
+     * Classic "media item" document (same shape as used by
+     * {@code jvm-serializers}): nested beans, enums, {@link List}s.
+     */
+    MEDIA_ITEM(MediaItem.class) {
+        @Override
+        protected Object createItem(int index) {
+            MediaItem.Content content = new MediaItem.Content();
+            content.setPlayer(MediaItem.Player.JAVA);
+            content.setUri("http://javaone.com/keynote_"+index+".mpg");
+            content.setTitle("Javaone Keynote");
+            content.setWidth(640);
+            content.setHeight(480);
+            content.setFormat("video/mpeg4");
+            content.setDuration(18000000L);
+            content.setSize(58982400L + index);
+            content.setBitrate(262144);
+            content.setCopyright("None");
+            content.addPerson("Bill Gates");
+            content.addPerson("Steve Jobs");
+
+            MediaItem item = new MediaItem(content);
+            item.addPhoto(new MediaItem.Photo("http://javaone.com/keynote_large.jpg",
+                    "Javaone Keynote", 1024, 768, MediaItem.Size.LARGE));
+            item.addPhoto(new MediaItem.Photo("http://javaone.com/keynote_small.jpg",
+                    "Javaone Keynote", 320, 240, MediaItem.Size.SMALL));
+            return item;
+        }
+    },
+
+    /**
+     * Account/user record: mostly scalars, accessed via public fields,
+     * with a nested address and a short tag list.
+     */
+    USER(UserRecord.class) {
+        @Override
+        protected Object createItem(int index) {
+            UserRecord user = new UserRecord();
+            user.id = 1000000L + index;
+            user.name = "User #"+index;
+            user.email = "user"+index+"@example.com";
+            user.active = (index % 3) != 0;
+            user.loginCount = 17 * index;
+            user.score = 0.25 * index + 1.5;
+            user.createdAt = 1600000000000L + (index * 86400000L);
+            user.tags = Arrays.asList("premium", "beta", "region-"+(index % 5));
+            UserRecord.Address addr = new UserRecord.Address();
+            addr.street = index+" Main Street";
+            addr.city = "Springfield";
+            addr.zip = String.valueOf(10000 + index);
+            addr.country = "US";
+            user.address = addr;
+            return user;
+        }
+    },
+
+    /**
+     * Flat bean with 16 properties of mixed scalar types.
+     */
+    WIDE(WideBean.class) {
+        @Override
+        protected Object createItem(int index) {
+            WideBean bean = new WideBean();
+            bean.setA1(index); bean.setA2(index * 2); bean.setA3(-index); bean.setA4(Integer.MAX_VALUE - index);
+            bean.setB1(index * 1000L); bean.setB2(Long.MAX_VALUE - index);
+            bean.setB3(-1L * index); bean.setB4(123456789012L);
+            bean.setC1("abc"); bean.setC2("value-"+index);
+            bean.setC3("Some longer text value that is bit more realistic"); bean.setC4("");
+            bean.setD1(true); bean.setD2((index & 1) == 0);
+            bean.setE1(index / 3.0); bean.setE2(-0.5);
+            return bean;
+        }
+    },
+
+    /**
+     * GeoJSON-like feature: lots of floating-point numbers in nested arrays,
+     * plus "untyped" properties.
+     */
+    GEO_FEATURE(GeoFeature.class) {
+        @Override
+        protected Object createItem(int index) {
+            GeoFeature f = new GeoFeature();
+            f.type = "Feature";
+            f.id = "feature-"+index;
+            GeoFeature.Geometry g = new GeoFeature.Geometry();
+            g.type = "LineString";
+            List<List<Double>> coords = new ArrayList<>();
+            for (int i = 0; i < 20; ++i) {
+                coords.add(Arrays.asList(-122.4194 + (i * 0.001) + index,
+                        37.7749 - (i * 0.0015)));
+            }
+            g.coordinates = coords;
+            f.geometry = g;
+            Map<String,Object> props = new LinkedHashMap<>();
+            props.put("name", "Segment "+index);
+            props.put("lanes", 2 + (index % 3));
+            props.put("oneway", (index & 1) == 0);
+            props.put("speedLimit", 45.5);
+            f.properties = props;
+            return f;
+        }
+    }
+    ;
+
+    /**
+     * Number of items included in "list" variant of payloads
+     */
+    public final static int ITEMS_PER_LIST = 20;
+
+    private final Class<?> _itemType;
+
+    private Payload(Class<?> itemType) {
+        _itemType = itemType;
+    }
+
+    protected abstract Object createItem(int index);
+
+    public Class<?> itemType() { return _itemType; }
+
+    public Object item() {
+        return createItem(0);
+    }
+
+    public List<Object> items() {
+        List<Object> result = new ArrayList<>(ITEMS_PER_LIST);
+        for (int i = 0; i < ITEMS_PER_LIST; ++i) {
+            result.add(createItem(i));
+        }
+        return result;
+    }
+
+    /**
+     * @return JSON serialization of a single item
+     */
+    public byte[] itemDoc() {
+        return _serialize(item());
+    }
+
+    /**
+     * @return JSON serialization of a JSON Array with {@link #ITEMS_PER_LIST} items
+     */
+    public byte[] listDoc() {
+        return _serialize(items());
+    }
+
+    private static byte[] _serialize(Object value) {
+        try {
+            return JSON.std.asBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.fasterxml.jackson.jr.perf;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.stree.JacksonJrsTreeCodec;
+
+/**
+ * Throughput tests for main read entry points of {@link JSON}:
+ * {@code beanFrom}, {@code listOfFrom}, {@code mapFrom} and {@code treeFrom},
+ * over all {@link Payload}s and {@link InputSource}s.
+ *<p>
+ * Run with something like:
+ *<pre>
+ *  java -jar jr-benchmarks/target/benchmarks.jar ReadBenchmark
+ *</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadBenchmark
+{
+    @Param
+    public Payload payload;
+
+    @Param
+    public InputSource input;
+
+    protected JSON json;
+
+    protected Class<?> itemType;
+
+    protected Object itemDoc;
+
+    protected Object listDoc;
+
+    @Setup
+    public void setup() {
+        json = JSON.builder()
+                .treeCodec(new JacksonJrsTreeCodec())
+                .build();
+        itemType = payload.itemType();
+        itemDoc = input.prepare(payload.itemDoc());
+        listDoc = input.prepare(payload.listDoc());
+    }
+
+    @Benchmark
+    public Object beanFrom() throws Exception {
+        return json.beanFrom(itemType, input.source(itemDoc));
+    }
+
+    @Benchmark
+    public List<?> listOfFrom() throws Exception {
+        return json.listOfFrom(itemType, input.source(listDoc));
+    }
+
+    @Benchmark
+    public Map<String,Object> mapFrom() throws Exception {
+        return json.mapFrom(input.source(itemDoc));
+    }
+
+    @Benchmark
+    public TreeNode treeFrom() throws Exception {
+        return json.treeFrom(input.source(itemDoc));
+    }
+}
@@ -0,0 +1,104 @@
+package com.fasterxml.jackson.jr.perf;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.perf.model.WideBean;
+
+/**
+ * Throughput tests for reading Beans from content that has properties the
+ * Bean type does not have (as is common when producer is a version ahead
+ * of consumer): {@link Payload#WIDE} documents with unknown properties
+ * interleaved, such that given percentage of all properties are unknown.
+ *<p>
+ * Run with something like:
+ *<pre>
+ *  java -jar jr-benchmarks/target/benchmarks.jar UnknownPropertiesBenchmark
+ *</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnknownPropertiesBenchmark
+{
+    /**
+     * Percentage of properties in content that are not known to Bean type
+     */
+    @Param({ "0", "10", "25", "50" })
+    public int unknownPercent;
+
+    @Param({ "BYTES", "STRING" })
+    public InputSource input;
+
+    protected JSON json;
+
+    protected Object itemDoc;
+
+    protected Object listDoc;
+
+    @Setup
+    public void setup() throws Exception {
+        json = JSON.std;
+        itemDoc = input.prepare(_withUnknown(Payload.WIDE.item()));
+        List<Object> items = new ArrayList<>();
+        for (Object item : Payload.WIDE.items()) {
+            items.add(JSON.std.mapFrom(_withUnknown(item)));
+        }
+        listDoc = input.prepare(JSON.std.asBytes(items));
+    }
+
+    @Benchmark
+    public Object beanFrom() throws Exception {
+        return json.beanFrom(WideBean.class, input.source(itemDoc));
+    }
+
+    @Benchmark
+    public List<?> listOfFrom() throws Exception {
+        return json.listOfFrom(WideBean.class, input.source(listDoc));
+    }
+
+    /**
+     * Helper method for serializing given item with unknown properties
+     * spread evenly between known ones; values of unknown properties
+     * are of different types (including structured ones) to also
+     * exercise skipping.
+     */
+    private byte[] _withUnknown(Object item) throws Exception
+    {
+        final Map<String,Object> known = JSON.std.mapFrom(JSON.std.asBytes(item));
+        // unknown / (known + unknown) == percent / 100
+        final int unknownCount = (known.size() * unknownPercent) / (100 - unknownPercent);
+        final Map<String,Object> result = new LinkedHashMap<>();
+        int added = 0;
+        int ix = 0;
+        for (Map.Entry<String,Object> entry : known.entrySet()) {
+            result.put(entry.getKey(), entry.getValue());
+            ++ix;
+            // how many unknown properties should have been added by now
+            final int expAdded = (unknownCount * ix) / known.size();
+            for (; added < expAdded; ++added) {
+                result.put("unknown"+added, _unknownValue(added));
+            }
+        }
+        return JSON.std.asBytes(result);
+    }
+
+    private static Object _unknownValue(int index) {
+        switch (index % 4) {
+        case 0:
+            return index;
+        case 1:
+            return "unknown value #"+index;
+        case 2:
+            return Arrays.asList(index, "abc", true);
+        default:
+            return Collections.singletonMap("nested", index);
+        }
+    }
+}
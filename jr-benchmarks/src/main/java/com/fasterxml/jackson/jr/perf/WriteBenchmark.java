@@ -0,0 +1,62 @@
+package com.fasterxml.jackson.jr.perf;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+
+/**
+ * Throughput tests for main write entry point of {@link JSON},
+ * {@code asBytes}, for Beans, {@link List}s of Beans and "untyped"
+ * {@link Map}s of all {@link Payload}s.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WriteBenchmark
+{
+    @Param
+    public Payload payload;
+
+    protected JSON json;
+
+    protected Object item;
+
+    protected List<Object> items;
+
+    protected Map<String,Object> itemAsMap;
+
+    @Setup
+    public void setup() throws Exception {
+        json = JSON.std;
+        item = payload.item();
+        items = payload.items();
+        itemAsMap = json.mapFrom(payload.itemDoc());
+    }
+
+    @Benchmark
+    public byte[] beanAsBytes() throws Exception {
+        return json.asBytes(item);
+    }
+
+    @Benchmark
+    public byte[] listAsBytes() throws Exception {
+        return json.asBytes(items);
+    }
+
+    @Benchmark
+    public byte[] mapAsBytes() throws Exception {
+        return json.asBytes(itemAsMap);
+    }
+
+    @Benchmark
+    public String beanAsString() throws Exception {
+        return json.asString(item);
+    }
+}
@@ -0,0 +1,26 @@
+package com.fasterxml.jackson.jr.perf.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GeoJSON-like feature: numeric-heavy content (coordinate lists) along
+ * with free-form properties {@link Map}.
+ */
+public class GeoFeature
+{
+    public String type;
+    public String id;
+    public Geometry geometry;
+    public Map<String,Object> properties;
+
+    public GeoFeature() { }
+
+    public static class Geometry
+    {
+        public String type;
+        public List<List<Double>> coordinates;
+
+        public Geometry() { }
+    }
+}
@@ -0,0 +1,33 @@
+package com.fasterxml.jackson.jr.perf.model;
+
+import java.util.List;
+
+/**
+ * Account-like record with mostly scalar properties, exposed as public
+ * fields (as opposed to getters/setters used by {@link MediaItem}), to
+ * cover field-based access.
+ */
+public class UserRecord
+{
+    public long id;
+    public String name;
+    public String email;
+    public boolean active;
+    public int loginCount;
+    public double score;
+    public long createdAt;
+    public List<String> tags;
+    public Address address;
+
+    public UserRecord() { }
+
+    public static class Address
+    {
+        public String street;
+        public String city;
+        public String zip;
+        public String country;
+
+        public Address() { }
+    }
+}
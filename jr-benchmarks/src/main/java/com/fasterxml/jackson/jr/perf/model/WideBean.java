@@ -0,0 +1,54 @@
+package com.fasterxml.jackson.jr.perf.model;
+
+/**
+ * Flat bean with 16 properties: used to see how per-property dispatch
+ * (like loop unrolling in {@code BeanReader} and {@code JSONWriter})
+ * scales with property count.
+ */
+public class WideBean
+{
+    private int a1, a2, a3, a4;
+    private long b1, b2, b3, b4;
+    private String c1, c2, c3, c4;
+    private boolean d1, d2;
+    private double e1, e2;
+
+    public WideBean() { }
+
+    public int getA1() { return a1; }
+    public void setA1(int v) { a1 = v; }
+    public int getA2() { return a2; }
+    public void setA2(int v) { a2 = v; }
+    public int getA3() { return a3; }
+    public void setA3(int v) { a3 = v; }
+    public int getA4() { return a4; }
+    public void setA4(int v) { a4 = v; }
+
+    public long getB1() { return b1; }
+    public void setB1(long v) { b1 = v; }
+    public long getB2() { return b2; }
+    public void setB2(long v) { b2 = v; }
+    public long getB3() { return b3; }
+    public void setB3(long v) { b3 = v; }
+    public long getB4() { return b4; }
+    public void setB4(long v) { b4 = v; }
+
+    public String getC1() { return c1; }
+    public void setC1(String v) { c1 = v; }
+    public String getC2() { return c2; }
+    public void setC2(String v) { c2 = v; }
+    public String getC3() { return c3; }
+    public void setC3(String v) { c3 = v; }
+    public String getC4() { return c4; }
+    public void setC4(String v) { c4 = v; }
+
+    public boolean isD1() { return d1; }
+    public void setD1(boolean v) { d1 = v; }
+    public boolean isD2() { return d2; }
+    public void setD2(boolean v) { d2 = v; }
+
+    public double getE1() { return e1; }
+    public void setE1(double v) { e1 = v; }
+    public double getE2() { return e2; }
+    public void setE2(double v) { e2 = v; }
+}
@@ -0,0 +1,117 @@
+package com.fasterxml.jackson.jr.perf;
+
+import java.io.*;
+import java.util.*;
+
+import org.junit.Test;
+
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Regression test that verifies that none of {@link OperationPath}s allocates
+ * more memory per operation, for any of {@link Payload}s, than the budget
+ * recorded in {@code allocation-budgets.properties}.
+ *<p>
+ * To re-record budgets (after an intentional change), run with
+ *<pre>
+ *  mvn test -pl jr-benchmarks -Djr.perf.recordBudgets=true
+ *</pre>
+ * which writes measured values (plus headroom) in
+ * {@code target/allocation-budgets.properties}, instead of verifying them.
+ *<p>
+ * Test is skipped (not passed) if JVM does not support per-thread allocation
+ * counters; but fails if no budgets have been recorded, since a regression
+ * test with nothing to verify must not pass silently.
+ */
+public class AllocationBudgetTest
+{
+    private final static String BUDGET_RESOURCE = "/allocation-budgets.properties";
+
+    private final static String RECORD_PROPERTY = "jr.perf.recordBudgets";
+
+    private final static int WARMUP_ROUNDS = 5000;
+
+    private final static int MEASURE_ROUNDS = 2000;
+
+    /**
+     * When recording budgets, how much headroom (in percent) to add on top of
+     * measured value, to allow for minor variation between JVMs
+     */
+    private final static int RECORD_HEADROOM_PCT = 20;
+
+    @Test
+    public void testAllocationBudgets() throws Exception
+    {
+        final AllocationMeter meter = AllocationMeter.createIfSupported();
+        assumeTrue("Per-thread allocation counters not supported by JVM", meter != null);
+        final boolean record = Boolean.getBoolean(RECORD_PROPERTY);
+        final Properties budgets = _loadBudgets();
+        if (!record && budgets.isEmpty()) {
+            fail("No allocation budgets recorded in '"+BUDGET_RESOURCE
+                    +"': run with -D"+RECORD_PROPERTY+"=true to record");
+        }
+        final Map<String,Long> measured = new TreeMap<>();
+        final List<String> failures = new ArrayList<>();
+
+        for (Payload payload : Payload.values()) {
+            PathFixture fixture = new PathFixture(payload);
+            for (OperationPath path : OperationPath.values()) {
+                final String key = path.name()+"."+payload.name();
+                long bytes = meter.bytesPerOperation(path, fixture, WARMUP_ROUNDS, MEASURE_ROUNDS);
+                measured.put(key, bytes);
+                if (record) {
+                    continue;
+                }
+                String budgetStr = budgets.getProperty(key);
+                if (budgetStr == null) {
+                    failures.add(String.format("%s (%s): no budget recorded (measured %d bytes/op)",
+                            key, path.target(), bytes));
+                    continue;
+                }
+                long budget = Long.parseLong(budgetStr.trim());
+                if (bytes > budget) {
+                    failures.add(String.format("%s (%s): allocated %d bytes/op, budget %d",
+                            key, path.target(), bytes, budget));
+                }
+            }
+        }
+        if (record) {
+            _writeBudgets(measured);
+            return;
+        }
+        if (!failures.isEmpty()) {
+            fail("Allocation budget exceeded for "+failures.size()+" path(s):\n  "
+                    +String.join("\n  ", failures));
+        }
+    }
+
+    private Properties _loadBudgets() throws IOException
+    {
+        Properties props = new Properties();
+        try (InputStream in = getClass().getResourceAsStream(BUDGET_RESOURCE)) {
+            if (in == null) {
+                fail("Missing budget resource '"+BUDGET_RESOURCE+"'");
+            }
+            props.load(in);
+        }
+        return props;
+    }
+
+    private void _writeBudgets(Map<String,Long> measured) throws IOException
+    {
+        File f = new File("target", "allocation-budgets.properties");
+        f.getParentFile().mkdirs();
+        try (PrintWriter w = new PrintWriter(new OutputStreamWriter(new FileOutputStream(f), "UTF-8"))) {
+            w.println("# Recorded allocation budgets: bytes allocated per operation");
+            w.println("# (measured value plus "+RECORD_HEADROOM_PCT+"% headroom)");
+            w.println("# Recorded with: Java "+System.getProperty("java.version")
+                    +" ("+System.getProperty("java.vm.name")+")");
+            for (Map.Entry<String,Long> entry : measured.entrySet()) {
+                long budget = entry.getValue() + (entry.getValue() * RECORD_HEADROOM_PCT / 100);
+                w.println(entry.getKey()+"="+budget);
+            }
+        }
+        System.err.println("Recorded allocation budgets in: "+f.getAbsolutePath());
+    }
+}
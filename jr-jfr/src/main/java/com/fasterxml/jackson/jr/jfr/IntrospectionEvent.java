@@ -0,0 +1,27 @@
+package com.fasterxml.jackson.jr.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Event emitted after introspection of a POJO type, for reading or writing.
+ */
+@Name(IntrospectionEvent.NAME)
+@Label("Jackson jr POJO Introspection")
+@Description("Introspection of POJO type (properties, constructors) for reading or writing")
+@Category({ "Jackson", "jackson-jr" })
+@StackTrace(false)
+public class IntrospectionEvent extends Event
+{
+    public final static String NAME = "com.fasterxml.jackson.jr.Introspection";
+
+    @Label("Type")
+    public Class<?> type;
+
+    @Label("For Serialization")
+    @Description("Whether type was introspected for writing (true) or reading (false)")
+    public boolean forSerialization;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    public long elapsed;
+}
@@ -0,0 +1,60 @@
+package com.fasterxml.jackson.jr.jfr;
+
+import java.time.Duration;
+
+import com.fasterxml.jackson.jr.ob.JacksonJrExtension;
+import com.fasterxml.jackson.jr.ob.api.ExtensionContext;
+
+/**
+ * Extension that registers {@link JfrMetricsListener} to emit Java Flight Recorder
+ * events for:
+ *<ul>
+ * <li>POJO introspection ({@link IntrospectionEvent}), both by default introspector
+ *    and by ones provided by other extensions (like annotation support)
+ *  </li>
+ * <li>Reader cache evictions ({@link ReaderCacheEvictionEvent})
+ *  </li>
+ * <li>Writer registrations ({@link WriterRegistrationEvent})
+ *  </li>
+ * <li>Optionally, reading or writing of values that takes longer than configured
+ *    threshold ({@link SlowOperationEvent})
+ *  </li>
+ *</ul>
+ * Usage is by registering extension when building {@link com.fasterxml.jackson.jr.ob.JSON}:
+ *<pre>
+ *  JSON json = JSON.builder()
+ *      .register(new JacksonJfrExtension(Duration.ofMillis(50L)))
+ *      .build();
+ *</pre>
+ * Note that measuring of individual reads and writes (needed for slow operation
+ * events) has some overhead, so it is only done if a threshold is specified.
+ * Slow operation events are reported for values at all levels, so reading of a
+ * slow POJO may also result in events for its slow property values.
+ */
+public class JacksonJfrExtension extends JacksonJrExtension
+{
+    protected final long _slowThresholdNanos;
+
+    /**
+     * Constructor for extension that reports introspection and cache
+     * events, but not slow operations.
+     */
+    public JacksonJfrExtension() {
+        this(null);
+    }
+
+    /**
+     * @param slowOperationThreshold Minimum duration of reading or writing of a
+     *    value to report as {@link SlowOperationEvent}; {@code null} (or zero duration)
+     *    to not report slow operations
+     */
+    public JacksonJfrExtension(Duration slowOperationThreshold) {
+        _slowThresholdNanos = (slowOperationThreshold == null) ? 0L
+                : Math.max(0L, slowOperationThreshold.toNanos());
+    }
+
+    @Override
+    protected void register(ExtensionContext ctxt) {
+        ctxt.addMetricsListener(new JfrMetricsListener(_slowThresholdNanos));
+    }
+}
@@ -0,0 +1,81 @@
+package com.fasterxml.jackson.jr.jfr;
+
+import com.fasterxml.jackson.jr.ob.api.MetricsListener;
+
+/**
+ * {@link MetricsListener} that emits JFR events. Events are only constructed
+ * (and committed) when enabled in the active recording(s).
+ */
+public class JfrMetricsListener extends MetricsListener
+{
+    /**
+     * Threshold for reporting slow operations, in nanoseconds; 0 if slow
+     * operations are not to be reported at all.
+     */
+    protected final long _slowThresholdNanos;
+
+    public JfrMetricsListener(long slowThresholdNanos) {
+        _slowThresholdNanos = Math.max(0L, slowThresholdNanos);
+    }
+
+    @Override
+    public boolean tracks(Class<?> type) {
+        // Only need to measure reads, writes if slow operations are to be reported
+        return (_slowThresholdNanos > 0L);
+    }
+
+    @Override
+    public void valueRead(Class<?> type, long inputLength, long nanos) {
+        if (nanos >= _slowThresholdNanos) {
+            _slowOperation(type, false, inputLength, nanos);
+        }
+    }
+
+    @Override
+    public void valueWritten(Class<?> type, long outputLength, long nanos) {
+        if (nanos >= _slowThresholdNanos) {
+            _slowOperation(type, true, -1L, nanos);
+        }
+    }
+
+    @Override
+    public void pojoIntrospected(Class<?> type, boolean forSerialization, long nanos) {
+        IntrospectionEvent event = new IntrospectionEvent();
+        if (event.isEnabled()) {
+            event.type = type;
+            event.forSerialization = forSerialization;
+            event.elapsed = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void readersEvicted(int count) {
+        ReaderCacheEvictionEvent event = new ReaderCacheEvictionEvent();
+        if (event.isEnabled()) {
+            event.count = count;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void writerRegistered(Class<?> type, int typeId) {
+        WriterRegistrationEvent event = new WriterRegistrationEvent();
+        if (event.isEnabled()) {
+            event.type = type;
+            event.typeId = typeId;
+            event.commit();
+        }
+    }
+
+    protected void _slowOperation(Class<?> type, boolean write, long inputLength, long nanos) {
+        SlowOperationEvent event = new SlowOperationEvent();
+        if (event.isEnabled()) {
+            event.type = type;
+            event.write = write;
+            event.inputLength = inputLength;
+            event.elapsed = nanos;
+            event.commit();
+        }
+    }
+}
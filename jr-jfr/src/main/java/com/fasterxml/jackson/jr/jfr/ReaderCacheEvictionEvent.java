@@ -0,0 +1,21 @@
+package com.fasterxml.jackson.jr.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Event emitted when cached readers are dropped to limit the size of
+ * the reader cache: readers will need to be re-created (and POJO types
+ * re-introspected) on next use.
+ */
+@Name(ReaderCacheEvictionEvent.NAME)
+@Label("Jackson jr Reader Cache Eviction")
+@Description("Cached ValueReaders dropped to limit reader cache size")
+@Category({ "Jackson", "jackson-jr" })
+@StackTrace(false)
+public class ReaderCacheEvictionEvent extends Event
+{
+    public final static String NAME = "com.fasterxml.jackson.jr.ReaderCacheEviction";
+
+    @Label("Readers Evicted")
+    public int count;
+}
@@ -0,0 +1,31 @@
+package com.fasterxml.jackson.jr.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Event emitted when reading or writing a value took longer than the configured
+ * threshold (see {@link JacksonJfrExtension#JacksonJfrExtension(java.time.Duration)}).
+ */
+@Name(SlowOperationEvent.NAME)
+@Label("Jackson jr Slow Operation")
+@Description("Reading or writing of a value that exceeded configured duration threshold")
+@Category({ "Jackson", "jackson-jr" })
+public class SlowOperationEvent extends Event
+{
+    public final static String NAME = "com.fasterxml.jackson.jr.SlowOperation";
+
+    @Label("Type")
+    public Class<?> type;
+
+    @Label("Write")
+    @Description("Whether operation was a write (true) or read (false)")
+    public boolean write;
+
+    @Label("Input Length")
+    @Description("Bytes (or characters) consumed by a read; -1 if not known")
+    public long inputLength;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    public long elapsed;
+}
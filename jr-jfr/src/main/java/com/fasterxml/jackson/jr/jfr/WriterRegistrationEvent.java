@@ -0,0 +1,23 @@
+package com.fasterxml.jackson.jr.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Event emitted when a {@code ValueWriter} for a POJO or custom type
+ * is registered.
+ */
+@Name(WriterRegistrationEvent.NAME)
+@Label("Jackson jr Writer Registration")
+@Description("ValueWriter registered for a POJO or custom type")
+@Category({ "Jackson", "jackson-jr" })
+@StackTrace(false)
+public class WriterRegistrationEvent extends Event
+{
+    public final static String NAME = "com.fasterxml.jackson.jr.WriterRegistration";
+
+    @Label("Type")
+    public Class<?> type;
+
+    @Label("Type Id")
+    public int typeId;
+}
@@ -0,0 +1,98 @@
+package com.fasterxml.jackson.jr.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+
+import junit.framework.TestCase;
+
+public class JacksonJfrExtensionTest extends TestCase
+{
+    static class Point {
+        public int x, y;
+    }
+
+    public void testIntrospectionAndRegistrationEvents() throws Exception
+    {
+        final JSON json = JSON.builder()
+                .register(new JacksonJfrExtension())
+                .build();
+        List<RecordedEvent> events = _record(() -> {
+            Point p = json.beanFrom(Point.class, "{\"x\":1,\"y\":2}");
+            assertEquals(2, p.y);
+            assertEquals("{\"x\":1,\"y\":2}", json.asString(p));
+        });
+
+        List<RecordedEvent> introspections = _eventsOf(events, IntrospectionEvent.NAME);
+        assertEquals(2, introspections.size());
+        for (RecordedEvent event : introspections) {
+            assertEquals(Point.class.getName(), event.<RecordedClass>getValue("type").getName());
+            assertTrue(event.getLong("elapsed") >= 0L);
+        }
+        List<RecordedEvent> registrations = _eventsOf(events, WriterRegistrationEvent.NAME);
+        assertEquals(1, registrations.size());
+        assertEquals(-1, registrations.get(0).getInt("typeId"));
+        // no threshold, no slow operations
+        assertEquals(0, _eventsOf(events, SlowOperationEvent.NAME).size());
+    }
+
+    public void testSlowOperationEvents() throws Exception
+    {
+        // ridiculously low threshold, so everything is slow
+        final JSON json = JSON.builder()
+                .register(new JacksonJfrExtension(Duration.ofNanos(1L)))
+                .build();
+        List<RecordedEvent> events = _record(() -> {
+            json.beanFrom(Point.class, "{\"x\":1,\"y\":2}");
+        });
+        boolean found = false;
+        for (RecordedEvent event : _eventsOf(events, SlowOperationEvent.NAME)) {
+            if (Point.class.getName().equals(event.<RecordedClass>getValue("type").getName())) {
+                assertFalse(event.getBoolean("write"));
+                found = true;
+            }
+        }
+        assertTrue("Should have slow operation event for Point", found);
+    }
+
+    interface Action {
+        void run() throws Exception;
+    }
+
+    private List<RecordedEvent> _record(Action action) throws Exception
+    {
+        Path file = Files.createTempFile("jackson-jr-jfr", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable(IntrospectionEvent.NAME);
+                recording.enable(WriterRegistrationEvent.NAME);
+                recording.enable(SlowOperationEvent.NAME).withoutThreshold();
+                recording.start();
+                action.run();
+                recording.stop();
+                recording.dump(file);
+            }
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private List<RecordedEvent> _eventsOf(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> result = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (name.equals(event.getEventType().getName())) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+}
@@ -276,6 +276,78 @@ public class JSON
         * Feature is <b>enabled</b> by default, so public fields are discovered by default.
         */
        USE_FIELDS(true, true),
+
+       /**
+        * Feature that determines whether Bean properties with public getters and
+        * setters (of public classes) are accessed using accessors generated with
+        * {@link java.lang.invoke.LambdaMetafactory}, instead of Reflection
+        * ({@link java.lang.reflect.Method#invoke}); this includes non-boxing access
+        * for primitive values. Such accessors may be inlined by JIT, but are more
+        * expensive to create when Bean readers and writers are constructed.
+        * Public fields (of public classes) are accessed using
+        * {@link java.lang.invoke.MethodHandle}s. Other fields and methods, as well as
+        * methods of classes from other class loaders on Java 8, are still
+        * accessed using Reflection.
+        *<p>
+        * Feature is disabled by default.
+        *
+        * @since 3.0
+        */
+       USE_METHOD_HANDLES(false, true),
+
+       /**
+        * Feature that determines whether names of JSON Object properties are
+        * matched to Bean properties in case-insensitive manner (true), or
+        * only using exact match (false).
+        *<p>
+        * Note that since matching is set up when Bean readers are constructed,
+        * changing this feature results in separate readers being constructed
+        * and cached.
+        *<p>
+        * Feature is disabled by default.
+        *
+        * @since 3.0
+        */
+       ACCEPT_CASE_INSENSITIVE_PROPERTIES(false, true),
+
+       /**
+        * This feature determines whether small {@link Map} instances (ones with
+        * at most {@link CompactMap#MAX_ENTRIES} entries)
+        * constructed use compact, array-backed representation (as implemented by
+        * {@link CompactMap}), in case
+        * user has not specified custom {@link Map} implementation.
+        * Enabling feature reduces memory usage for small JSON Objects, at the cost
+        * of linear (instead of hash-based) lookup. Larger Maps are constructed
+        * as usual (see {@link #USE_DEFERRED_MAPS}).
+        *<p>
+        * Feature is disabled by default.
+        *
+        * @since 3.0
+        */
+       USE_COMPACT_MAPS(false),
+
+       /**
+        * This feature determines whether {@link Map} instances constructed for
+        * "untyped" JSON Objects (ones read using {@link AnyReader}) share their keys
+        * with other Maps read during the same read operation, if their keys
+        * (and key ordering) are identical: if so, keys are stored in a shared
+        * {@link MapShape} and each {@link ShapedMap} only holds its values.
+        * Enabling feature can significantly reduce memory usage when reading
+        * large numbers of uniform JSON Objects, such as Arrays of records.
+        * Modifying Maps (other than replacing values) results in contents
+        * being copied into a private {@link Map}.
+        *<p>
+        * Note that this feature has precedence over {@link #USE_DEFERRED_MAPS}
+        * and {@link #USE_COMPACT_MAPS}, but only applies when using the default
+        * {@link com.fasterxml.jackson.jr.ob.api.MapBuilder}. JSON Objects with
+        * many keys (see {@link MapShapeTable#MAX_KEYS}) are read as regular
+        * {@link Map}s.
+        *<p>
+        * Feature is disabled by default.
+        *
+        * @since 3.0
+        */
+       USE_SHAPED_MAPS(false),
        ;
 
         /*
@@ -435,6 +507,21 @@ public class JSON
 
         protected ExtContextImpl _extContext;
 
+        /**
+         * @since 3.0
+         */
+        protected MetricsListener _metricsListener;
+
+        /**
+         * @since 3.0
+         */
+        protected int _readerCacheSize = ValueReaderLocator.MAX_CACHED_READERS;
+
+        /**
+         * @since 3.0
+         */
+        protected int _writerCacheSize = WriterRegistry.DEFAULT_MAX_WRITERS;
+
         public Builder(JsonFactory f) {
             _streamFactory = f;
         }
@@ -562,6 +649,66 @@ public class JSON
             return this;
         }
 
+        /**
+         * Method for adding {@link MetricsListener} to be notified of values read and
+         * written by {@link JSON} to be built. If a listener has already been added
+         * (directly or by an extension), both will be called.
+         *<p>
+         * Note: by default no listener is configured, and no metrics are collected.
+         *
+         * @param l Listener to add
+         *
+         * @return This builder for call chaining
+         *
+         * @since 3.0
+         */
+        public Builder metricsListener(MetricsListener l) {
+            _metricsListener = MetricsListener.Pair.of(_metricsListener, l);
+            return this;
+        }
+
+        /**
+         * Method for specifying maximum number of {@link ValueReader}s that
+         * {@link JSON} to be built retains: if more readers are needed, least
+         * recently used ones are evicted (and re-created if needed later on).
+         *<p>
+         * Default size is {@link ValueReaderLocator#MAX_CACHED_READERS}.
+         *
+         * @param size Maximum number of cached readers; must be positive
+         *
+         * @return This builder for call chaining
+         *
+         * @since 3.0
+         */
+        public Builder readerCacheSize(int size) {
+            if (size < 1) {
+                throw new IllegalArgumentException("Reader cache size must be positive, was: "+size);
+            }
+            _readerCacheSize = size;
+            return this;
+        }
+
+        /**
+         * Method for specifying maximum number of {@link ValueWriter}s that
+         * {@link JSON} to be built registers: if more writers are needed, writers
+         * not recently used are evicted one at a time (and re-created as needed).
+         *<p>
+         * Default size is {@link WriterRegistry#DEFAULT_MAX_WRITERS}.
+         *
+         * @param size Maximum number of registered writers; must be positive
+         *
+         * @return This builder for call chaining
+         *
+         * @since 3.0
+         */
+        public Builder writerCacheSize(int size) {
+            if (size < 1) {
+                throw new IllegalArgumentException("Writer cache size must be positive, was: "+size);
+            }
+            _writerCacheSize = size;
+            return this;
+        }
+
         // // // Accessors
 
         public boolean isEnabled(Feature f) {
@@ -582,6 +729,27 @@ public class JSON
             return (_extContext == null) ? null : _extContext._rwProvider;
         }
 
+        /**
+         * @since 3.0
+         */
+        public MetricsListener metricsListener() {
+            return _metricsListener;
+        }
+
+        /**
+         * @since 3.0
+         */
+        public int readerCacheSize() {
+            return _readerCacheSize;
+        }
+
+        /**
+         * @since 3.0
+         */
+        public int writerCacheSize() {
+            return _writerCacheSize;
+        }
+
         public JSONReader jsonReader() {
             // create default impl dynamically if necessary
             if (_reader == null) {
@@ -646,9 +814,17 @@ public class JSON
         _treeCodec = b.treeCodec();
 
         final ReaderWriterProvider rwProvider = b.readerWriterProvider();
-        final ReaderWriterModifier rwModifier = b.readerWriterModifier();
-        ValueReaderLocator rloc = ValueReaderLocator.blueprint(_streamFactory, null, null);
-        ValueWriterLocator wloc = ValueWriterLocator.blueprint(null, null);
+        ReaderWriterModifier rwModifier = b.readerWriterModifier();
+        // Metrics collection via wrapping readers, writers, if (and only if) enabled;
+        // needs to be the last modifier to measure readers/writers as modified
+        final MetricsListener metrics = b.metricsListener();
+        if (metrics != null) {
+            rwModifier = ReaderWriterModifier.Pair.of(rwModifier, new MetricsModifier(metrics));
+        }
+        ValueReaderLocator rloc = ValueReaderLocator.blueprint(_streamFactory, null, null,
+                b.readerCacheSize());
+        ValueWriterLocator wloc = ValueWriterLocator.blueprint(null, null,
+                b.writerCacheSize());
         if (rwProvider != null) {
             rloc = rloc.with(rwProvider);
             wloc = wloc.with(rwProvider);
@@ -657,6 +833,10 @@ public class JSON
             rloc = rloc.with(rwModifier);
             wloc = wloc.with(rwModifier);
         }
+        if (metrics != null) {
+            rloc = rloc.with(metrics);
+            wloc = wloc.with(metrics);
+        }
         _valueReaderLocator = rloc;
         _valueWriterLocator = wloc;
 
@@ -847,6 +1027,26 @@ public class JSON
                 r, _writer, _prettyPrinter);
     }
 
+    /**
+     * Mutant factory for constructing an instance that only reads specified
+     * subsets of properties of Bean types of given {@link Projection}s
+     * (in addition to projections this instance has, if any), and returning
+     * new instance (or, if there would be no change, this instance).
+     *<p>
+     * Note that new instance does not share cached readers with this instance,
+     * so instance should be retained and reused, instead of calling this
+     * method for each read.
+     *
+     * @since 3.0
+     */
+    public JSON withProjections(Projection... projections) {
+        ValueReaderLocator rloc = _valueReaderLocator.withProjections(projections);
+        if (rloc == _valueReaderLocator) {
+            return this;
+        }
+        return _with(rloc, _valueWriterLocator);
+    }
+
     /*
     /**********************************************************************
     /* Methods sub-classes must override
@@ -861,6 +1061,14 @@ public class JSON
         return new JSON(this, features, jsonF, trees, reader, writer, pp);
     }
 
+    /**
+     * @since 3.0
+     */
+    protected JSON _with(ValueReaderLocator rloc, ValueWriterLocator wloc)
+    {
+        return new JSON(this, rloc, wloc);
+    }
+
     /*
     /**********************************************************************
     /* Simple accessors
@@ -879,6 +1087,35 @@ public class JSON
         return (f.mask() & _features) != 0;
     }
 
+    /**
+     * Accessor for getting snapshot of statistics for internal caches used by
+     * this instance (and all instances created from it using mutant factory
+     * methods like {@link #with(Feature...)}), in following order:
+     *<ol>
+     * <li>"readers": {@link ValueReader}s by type (and cache-affecting {@link Feature}s)
+     *  </li>
+     * <li>"types": resolved generic types
+     *  </li>
+     * <li>"serializationTypes": serialization type ids by type (and cache-affecting features)
+     *  </li>
+     * <li>"writers": registered {@link ValueWriter}s (for POJOs and custom writers)
+     *  </li>
+     *</ol>
+     * Statistics are meant for diagnostics and tuning: they are read-only and
+     * collecting them does not affect caching. To keep lookups cheap, cache hits
+     * (except for "types") are only counted if a {@link MetricsListener} has been
+     * registered (see {@link Builder#metricsListener}); misses are always counted.
+     *
+     * @return List of statistics, one per cache
+     *
+     * @since 3.0
+     */
+    public List<CacheStats> cacheStats() {
+        List<CacheStats> stats = new ArrayList<>(_valueReaderLocator.cacheStats());
+        stats.addAll(_valueWriterLocator.cacheStats());
+        return Collections.unmodifiableList(stats);
+    }
+
     /*
     /**********************************************************************
     /* Public factory methods for parsers, generators
@@ -1178,6 +1415,50 @@ public class JSON
             return _closeWithError(p, e);
         }
     }
+
+    /**
+     * Read method for binding contents of a JSON Object into given existing Bean
+     * instance, instead of constructing a new instance: properties included
+     * in content are assigned, others are left as they are.
+     * This allows reuse of instances (for example ones taken from a pool),
+     * as well as applying partial updates.
+     *<p>
+     * Note that types that can only be constructed using properties-based
+     * creator (constructor) can not be read into.
+     *
+     * @param target Bean instance to assign properties of; may not be {@code null}
+     * @param source JSON Source to read contents from (of one of supported types)
+     *
+     * @return {@code target} after binding properties; or {@code null} if content
+     *    is JSON {@code null}
+     *
+     * @throws IllegalArgumentException if {@code target} is {@code null}
+     *
+     * @since 3.0
+     */
+    public <T> T beanInto(T target, Object source) throws IOException, JSONObjectException
+    {
+        if (target == null) {
+            throw new IllegalArgumentException("Can not pass `null` target to read into");
+        }
+        if (source instanceof JsonParser) {
+            JsonParser p = _initForReading((JsonParser) source);
+            T result = _readerForOperation(p).readBeanInto(target);
+            p.clearCurrentToken();
+            return result;
+        }
+        JsonParser p = _parser(source);
+        try {
+            _initForReading(_config(p));
+            T result = _readerForOperation(p).readBeanInto(target);
+            JsonParser p0 = p;
+            p = null;
+            _close(p0);
+            return result;
+        } catch (Exception e) {
+            return _closeWithError(p, e);
+        }
+    }
     
     /**
      * Read method that will take given JSON Source (of one of supported types),
@@ -1687,5 +1968,11 @@ public class JSON
             _rwModifier = ReaderWriterModifier.Pair.of(_rwModifier, modifier);
             return this;
         }
+
+        @Override
+        public ExtensionContext addMetricsListener(MetricsListener listener) {
+            _builder.metricsListener(listener);
+            return this;
+        }
     }
 }
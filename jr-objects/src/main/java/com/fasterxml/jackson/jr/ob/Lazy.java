@@ -0,0 +1,110 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Container for values that are bound lazily: when a Bean property (or other
+ * value) of type {@code Lazy<T>} is read, contents of the JSON value are only
+ * copied (as JSON text) but not bound; binding into {@code T} occurs on first
+ * call to {@link #get}. This is useful for large nested values that are only
+ * accessed by some code paths.
+ *<p>
+ * When written, value is written as bound value if it has been bound (or
+ * {@code Lazy} was constructed with value using {@link #of}); otherwise copied
+ * JSON content is written as-is.
+ *<p>
+ * Deferred content is retained as text, so lazy binding is only supported
+ * for textual formats (like JSON); attempts to read {@code Lazy} values from
+ * binary formats fail with {@link JSONObjectException}.
+ *<p>
+ * Instances are thread-safe.
+ *
+ * @since 3.0
+ */
+public final class Lazy<T>
+{
+    /**
+     * Interface for objects that bind JSON content into value.
+     */
+    public interface Binder<T> {
+        public T bind(String json) throws IOException;
+    }
+
+    /**
+     * JSON content to bind value from, if value not yet bound; {@code null} if
+     * value has been bound.
+     */
+    private String _content;
+
+    private Binder<T> _binder;
+
+    private T _value;
+
+    private Lazy(T value, String content, Binder<T> binder) {
+        _value = value;
+        _content = content;
+        _binder = binder;
+    }
+
+    /**
+     * Factory method for constructing an instance with already bound value.
+     */
+    public static <T> Lazy<T> of(T value) {
+        return new Lazy<T>(value, null, null);
+    }
+
+    /**
+     * Factory method for constructing an instance that will bind value from
+     * given JSON content on first access, using given binder.
+     */
+    public static <T> Lazy<T> deferred(String json, Binder<T> binder) {
+        if ((json == null) || (binder == null)) {
+            throw new IllegalArgumentException("Can not pass `null` content or binder");
+        }
+        return new Lazy<T>(null, json, binder);
+    }
+
+    /**
+     * Method for accessing value, binding it from JSON content if not yet bound.
+     *
+     * @throws UncheckedIOException If binding of value fails
+     */
+    public synchronized T get()
+    {
+        if (_content != null) {
+            try {
+                _value = _binder.bind(_content);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e.getMessage(), e);
+            }
+            _content = null;
+            _binder = null;
+        }
+        return _value;
+    }
+
+    /**
+     * Accessor for checking whether value has been bound (or was constructed
+     * as bound), or not.
+     */
+    public synchronized boolean isBound() {
+        return (_content == null);
+    }
+
+    /**
+     * Accessor for JSON content value is to be bound from, if value is not
+     * yet bound; {@code null} if it has been.
+     */
+    public synchronized String rawContent() {
+        return _content;
+    }
+
+    @Override
+    public synchronized String toString() {
+        if (_content != null) {
+            return "[Lazy (unbound): "+_content+"]";
+        }
+        return "[Lazy: "+_value+"]";
+    }
+}
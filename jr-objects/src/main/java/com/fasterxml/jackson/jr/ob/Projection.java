@@ -0,0 +1,97 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.*;
+
+/**
+ * Definition of a subset of properties of a Bean type to read: when registered
+ * using {@link JSON#withProjections(Projection...)}, Bean readers constructed for the type
+ * only know about specified properties, and all other properties in content
+ * are skipped without binding (as if they were explicitly marked as ignorable,
+ * so they are not reported even if
+ * {@link JSON.Feature#FAIL_ON_UNKNOWN_BEAN_PROPERTY} is enabled).
+ * This is useful when only a few properties of large documents are needed.
+ *<p>
+ * Note that properties passed to properties-based creator (constructor),
+ * if any, are always included.
+ *<p>
+ * Projections only apply to standard Bean readers (including ones further
+ * modified by {@link com.fasterxml.jackson.jr.ob.api.ReaderWriterModifier}s,
+ * like ones generated by Afterburner): if a projected type has a generated
+ * reader (see {@link com.fasterxml.jackson.jr.ob.api.JrSerializable}),
+ * standard reader is used instead; but custom readers from
+ * {@link com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider} are used as is,
+ * without projection.
+ *<p>
+ * Instances are immutable.
+ *
+ * @since 3.0
+ */
+public final class Projection
+{
+    private final Class<?> _type;
+
+    private final Set<String> _propertyNames;
+
+    private Projection(Class<?> type, Set<String> propertyNames) {
+        _type = type;
+        _propertyNames = propertyNames;
+    }
+
+    /**
+     * Factory method for constructing projection that only includes properties
+     * with given names (for which Bean type has matching property).
+     *
+     * @param type Bean type for which projection is defined
+     * @param propertyNames Names of properties to include
+     */
+    public static Projection of(Class<?> type, String... propertyNames) {
+        return of(type, Arrays.asList(propertyNames));
+    }
+
+    /**
+     * Factory method for constructing projection that only includes properties
+     * with given names (for which Bean type has matching property).
+     *
+     * @param type Bean type for which projection is defined
+     * @param propertyNames Names of properties to include
+     */
+    public static Projection of(Class<?> type, Collection<String> propertyNames) {
+        if (type == null) {
+            throw new IllegalArgumentException("Can not pass `null` type");
+        }
+        return new Projection(type,
+                Collections.unmodifiableSet(new LinkedHashSet<String>(propertyNames)));
+    }
+
+    public Class<?> getType() { return _type; }
+
+    public Set<String> getPropertyNames() { return _propertyNames; }
+
+    public boolean includes(String propertyName) {
+        return _propertyNames.contains(propertyName);
+    }
+
+    /*
+    /**********************************************************************
+    /* Standard methods
+    /**********************************************************************
+     */
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        if ((o == null) || (o.getClass() != getClass())) return false;
+        Projection other = (Projection) o;
+        return (other._type == _type) && other._propertyNames.equals(_propertyNames);
+    }
+
+    @Override
+    public int hashCode() {
+        return _type.getName().hashCode() ^ _propertyNames.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "[Projection of `"+_type.getName()+"`: "+_propertyNames+"]";
+    }
+}
@@ -112,6 +112,14 @@ public class ValueIterator<T> implements Iterator<T>, Closeable
      */
     protected final boolean _closeParser;
 
+    /**
+     * Bean instance to read all values into, if instance reuse
+     * has been enabled with {@link #reusing}; {@code null} if not.
+     *
+     * @since 3.0
+     */
+    protected final T _reusedValue;
+
     /*
     /**********************************************************************
     /* Parsing state
@@ -144,6 +152,7 @@ public class ValueIterator<T> implements Iterator<T>, Closeable
         _reader = reader;
         _treeCodec = treeCodec;
         _closeParser = managedParser;
+        _reusedValue = null;
 
         /* Ok: one more thing; we may have to skip START_ARRAY, assuming
          * "wrapped" sequence; but this is ONLY done for 'managed' parsers
@@ -176,11 +185,62 @@ public class ValueIterator<T> implements Iterator<T>, Closeable
         }
     }
 
+    /**
+     * Copy constructor used by {@link #reusing}.
+     *
+     * @since 3.0
+     */
+    protected ValueIterator(ValueIterator<T> base, T reusedValue)
+    {
+        _mode = base._mode;
+        _type = base._type;
+        _parser = base._parser;
+        _reader = base._reader;
+        _treeCodec = base._treeCodec;
+        _closeParser = base._closeParser;
+        _seqContext = base._seqContext;
+        _state = base._state;
+        _reusedValue = reusedValue;
+    }
+
     @SuppressWarnings("unchecked")
     protected static <T> ValueIterator<T> emptyIterator() {
         return (ValueIterator<T>) EMPTY_ITERATOR;
     }
 
+    /**
+     * Mutant factory method for constructing iterator that reads all Bean values
+     * into given instance, instead of constructing a new instance for each value:
+     * properties missing from a value are reset to default values of their type
+     * ({@code null} for reference types, {@code 0} / {@code false} for primitives;
+     * not to values constructor may have assigned).
+     * This avoids allocation of Bean instances for use cases where each
+     * value is only needed until the next one is read: caller must not retain
+     * values returned, as contents are overwritten when advancing.
+     *<p>
+     * Note that this iterator should not be used after calling this method;
+     * and that instance reuse is only supported when reading Bean values,
+     * using {@link JSON#beanSequenceFrom}.
+     *
+     * @param instance Bean instance to read all values into
+     *
+     * @return Iterator that reads values into given instance
+     *
+     * @since 3.0
+     */
+    public ValueIterator<T> reusing(T instance)
+    {
+        if (_mode != MODE_BEAN) {
+            throw new IllegalStateException("Can only reuse instances when reading Bean values");
+        }
+        if (!_type.isInstance(instance)) {
+            throw new IllegalArgumentException(String.format(
+                    "Instance to reuse must be of type `%s`, was: %s", _type.getName(),
+                    (instance == null) ? "null" : ("`"+instance.getClass().getName()+"`")));
+        }
+        return new ValueIterator<T>(this, instance);
+    }
+
     /*
     /**********************************************************************
     /* Basic iterator impl
@@ -287,7 +347,11 @@ public class ValueIterator<T> implements Iterator<T>, Closeable
 
             switch (_mode) {
             case MODE_BEAN:
-                value = _reader.readBean(_type);
+                if (_reusedValue == null) {
+                    value = _reader.readBean(_type);
+                } else {
+                    value = _reader.readBeanInto(_reusedValue, true);
+                }
                 break;
             case MODE_ANY:
                 value = _reader.readValue();
@@ -4,6 +4,7 @@ import java.lang.reflect.Array;
 import java.util.*;
 
 import com.fasterxml.jackson.jr.ob.JSON.Feature;
+import com.fasterxml.jackson.jr.ob.impl.NumberArrayList;
 
 /**
  * Helper class that is used for constructing {@link java.util.Collection}s
@@ -46,6 +47,18 @@ public abstract class CollectionBuilder
         return new Default(0, null);
     }
 
+    /**
+     * Factory method for getting a blueprint instance of {@link CollectionBuilder}
+     * that uses compact, primitive-array backed {@link java.util.List}s for
+     * JSON Arrays that only contain numbers of same type: see
+     * {@link CompactNumbers} for details.
+     *
+     * @since 3.0
+     */
+    public static CollectionBuilder compactNumbersImpl() {
+        return new CompactNumbers(0, null);
+    }
+
     public abstract CollectionBuilder newBuilder(int features);
 
     public abstract CollectionBuilder newBuilder(Class<?> collImpl);
@@ -259,4 +272,203 @@ public abstract class CollectionBuilder
             return new ArrayList<Object>(initialSize);
         }
     }
+
+    /**
+     * Alternative {@link CollectionBuilder} implementation that speculatively
+     * collects values into a primitive {@code int[]}, {@code long[]} or {@code double[]}
+     * buffer, as long as all values are {@link Integer}s, {@link Long}s or
+     * {@link Double}s (all of same type); and if so, builds a {@link NumberArrayList}
+     * backed by the primitive array. On first mismatch, values are copied into
+     * a regular {@link java.util.List} and building continues as with {@link Default}.
+     * This can significantly reduce memory usage for long Arrays of numbers, when
+     * reading "untyped" content (or {@code List<Integer>} and similar).
+     *<p>
+     * Compact representation is only used when no specific {@link Collection} type
+     * has been requested.
+     *
+     * @since 3.0
+     */
+    public static class CompactNumbers extends Default
+    {
+        private final static int MODE_IDLE = 0;
+        private final static int MODE_EMPTY = 1;
+        private final static int MODE_INT = 2;
+        private final static int MODE_LONG = 3;
+        private final static int MODE_DOUBLE = 4;
+        private final static int MODE_BOXED = 5;
+
+        private final static int INITIAL_BUFFER_SIZE = 12;
+
+        protected int _mode;
+
+        protected int[] _ints;
+        protected long[] _longs;
+        protected double[] _doubles;
+        protected int _size;
+
+        protected CompactNumbers(int features, Class<?> collImpl) {
+            super(features, collImpl);
+        }
+
+        @Override
+        public CollectionBuilder newBuilder(int features) {
+            return new CompactNumbers(features, null);
+        }
+
+        @Override
+        public CollectionBuilder newBuilder(Class<?> collType) {
+            return new CompactNumbers(_features, collType);
+        }
+
+        @Override
+        public CollectionBuilder start() {
+            // If this builder is "busy", create a new one...
+            if (_mode != MODE_IDLE) {
+                return newBuilder().start();
+            }
+            if (_collectionType == null) {
+                _mode = MODE_EMPTY;
+            } else {
+                _mode = MODE_BOXED;
+                _current = _list(12);
+            }
+            _size = 0;
+            return this;
+        }
+
+        @Override
+        public CollectionBuilder add(Object value)
+        {
+            switch (_mode) {
+            case MODE_INT:
+                if (value instanceof Integer) {
+                    if (_size == _ints.length) {
+                        _ints = Arrays.copyOf(_ints, _newSize(_size));
+                    }
+                    _ints[_size++] = (Integer) value;
+                    return this;
+                }
+                break;
+            case MODE_LONG:
+                if (value instanceof Long) {
+                    if (_size == _longs.length) {
+                        _longs = Arrays.copyOf(_longs, _newSize(_size));
+                    }
+                    _longs[_size++] = (Long) value;
+                    return this;
+                }
+                break;
+            case MODE_DOUBLE:
+                if (value instanceof Double) {
+                    if (_size == _doubles.length) {
+                        _doubles = Arrays.copyOf(_doubles, _newSize(_size));
+                    }
+                    _doubles[_size++] = (Double) value;
+                    return this;
+                }
+                break;
+            case MODE_EMPTY:
+                if (value instanceof Integer) {
+                    _mode = MODE_INT;
+                    _ints = new int[INITIAL_BUFFER_SIZE];
+                    _ints[_size++] = (Integer) value;
+                    return this;
+                }
+                if (value instanceof Long) {
+                    _mode = MODE_LONG;
+                    _longs = new long[INITIAL_BUFFER_SIZE];
+                    _longs[_size++] = (Long) value;
+                    return this;
+                }
+                if (value instanceof Double) {
+                    _mode = MODE_DOUBLE;
+                    _doubles = new double[INITIAL_BUFFER_SIZE];
+                    _doubles[_size++] = (Double) value;
+                    return this;
+                }
+                break;
+            case MODE_BOXED:
+                _current.add(value);
+                return this;
+            }
+            // Type mismatch (or first value not of compactable type): switch to boxed
+            _current = _boxed();
+            _mode = MODE_BOXED;
+            _current.add(value);
+            return this;
+        }
+
+        @Override
+        public Collection<Object> buildCollection()
+        {
+            final int mode = _mode;
+            final int size = _size;
+            _mode = MODE_IDLE;
+            _size = 0;
+            Collection<Object> result;
+            switch (mode) {
+            case MODE_INT:
+                result = new NumberArrayList((size == _ints.length) ? _ints : Arrays.copyOf(_ints, size));
+                _ints = null;
+                return result;
+            case MODE_LONG:
+                result = new NumberArrayList((size == _longs.length) ? _longs : Arrays.copyOf(_longs, size));
+                _longs = null;
+                return result;
+            case MODE_DOUBLE:
+                result = new NumberArrayList((size == _doubles.length) ? _doubles : Arrays.copyOf(_doubles, size));
+                _doubles = null;
+                return result;
+            case MODE_EMPTY:
+                return _list(0);
+            }
+            return super.buildCollection();
+        }
+
+        @Override
+        public Object[] buildArray() {
+            // No benefit from compact representation when building `Object[]`s
+            if (_mode == MODE_BOXED) {
+                _mode = MODE_IDLE;
+                return super.buildArray();
+            }
+            return buildCollection().toArray();
+        }
+
+        /**
+         * Helper method called to copy values collected so far (if any) into
+         * a regular {@link java.util.List}, when switching to boxed mode.
+         */
+        protected Collection<Object> _boxed()
+        {
+            final int size = _size;
+            Collection<Object> list = _list(Math.max(12, size + (size >> 1)));
+            switch (_mode) {
+            case MODE_INT:
+                for (int i = 0; i < size; ++i) {
+                    list.add(_ints[i]);
+                }
+                _ints = null;
+                break;
+            case MODE_LONG:
+                for (int i = 0; i < size; ++i) {
+                    list.add(_longs[i]);
+                }
+                _longs = null;
+                break;
+            case MODE_DOUBLE:
+                for (int i = 0; i < size; ++i) {
+                    list.add(_doubles[i]);
+                }
+                _doubles = null;
+                break;
+            }
+            _size = 0;
+            return list;
+        }
+
+        private final static int _newSize(int size) {
+            return (size < 1000) ? (size << 1) : (size + (size >> 1));
+        }
+    }
 }
@@ -68,4 +68,16 @@ public abstract class ExtensionContext
      * @return This context, to allow call chaining
      */
     public abstract ExtensionContext appendModifier(ReaderWriterModifier modifier);
+
+    /**
+     * Method for adding specified {@link MetricsListener} to be notified of values
+     * read and written; if other listeners have been added, all will be called.
+     *
+     * @param listener Listener to add
+     *
+     * @return This context, to allow call chaining
+     *
+     * @since 3.0
+     */
+    public abstract ExtensionContext addMetricsListener(MetricsListener listener);
 }
@@ -0,0 +1,19 @@
+package com.fasterxml.jackson.jr.ob.api;
+
+import java.lang.annotation.*;
+
+/**
+ * Marker annotation for Bean types for which {@code jackson-jr-processor}
+ * annotation processor should generate {@link ValueReader} and {@link ValueWriter}
+ * source code at build time, along with a {@link ReaderWriterProvider}
+ * (one per package) for registering them: this avoids introspection and
+ * Reflection-based access when reading and writing such types.
+ *<p>
+ * Annotation is only used at build time and is not retained at runtime.
+ *
+ * @since 3.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+@Documented
+public @interface JrSerializable { }
@@ -4,6 +4,7 @@ import java.util.*;
 
 import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.jr.ob.JSON.Feature;
+import com.fasterxml.jackson.jr.ob.impl.CompactMap;
 import com.fasterxml.jackson.jr.ob.impl.DeferredMap;
 import com.fasterxml.jackson.jr.ob.JSONObjectException;
 
@@ -98,7 +99,9 @@ public abstract class MapBuilder
     /**
      * Default {@link MapBuilder} implementation which builds
      * either {@link HashMap} or {@link LinkedHashMap} instances
-     * (depending on {@link Feature#PRESERVE_FIELD_ORDERING}).
+     * (depending on {@link Feature#PRESERVE_FIELD_ORDERING}); or, if
+     * {@link Feature#USE_COMPACT_MAPS} is enabled, {@link CompactMap} for Maps
+     * with at most {@link CompactMap#MAX_ENTRIES} entries.
      * It may also, with alternate configuration,
      * use {@link Collections#emptyMap()} for empty Maps,
      * if allowed with {@link Feature#READ_ONLY}.
@@ -147,6 +150,12 @@ public abstract class MapBuilder
                     throw new IllegalArgumentException("Duplicate key (key '"+key+"')");
                 }
             }
+            // Compact Maps only used up to certain size; switch to "real" one if exceeded
+            if ((_current instanceof CompactMap) && (_current.size() == CompactMap.MAX_ENTRIES)) {
+                Map<String,Object> m = _hashMap(CompactMap.MAX_ENTRIES * 2);
+                m.putAll(_current);
+                _current = m;
+            }
             _current.put(key, value);
             return this;
         }
@@ -175,6 +184,13 @@ public abstract class MapBuilder
                     
                 }
             }
+            if (isEnabled(Feature.USE_COMPACT_MAPS)) {
+                return new CompactMap(isEnabled(Feature.PRESERVE_FIELD_ORDERING));
+            }
+            return _hashMap(initialSize);
+        }
+
+        private final Map<String, Object> _hashMap(int initialSize) {
             final boolean sort = isEnabled(Feature.PRESERVE_FIELD_ORDERING);
             if (isEnabled(Feature.USE_DEFERRED_MAPS)) {
                 return new DeferredMap(sort, initialSize);
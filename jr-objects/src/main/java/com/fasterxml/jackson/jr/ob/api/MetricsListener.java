@@ -0,0 +1,186 @@
+package com.fasterxml.jackson.jr.ob.api;
+
+/**
+ * API to implement for collecting per-type metrics on reading and writing
+ * of values: how many values of given type were read or written,
+ * how much input was consumed, and how long it took.
+ * In addition listeners are notified of (relatively rare) events related
+ * to introspection of POJO types and caching of readers and writers.
+ *<p>
+ * Listeners are registered either using
+ * {@link com.fasterxml.jackson.jr.ob.JSON.Builder#metricsListener} or via
+ * {@link ExtensionContext#addMetricsListener}; if any are registered,
+ * (non-scalar) {@link ValueReader}s and (POJO and custom) {@link ValueWriter}s are wrapped
+ * to measure calls. If no listener is registered, no wrapping is done and
+ * there is no overhead.
+ *<p>
+ * Notes on measurements:
+ *<ul>
+ * <li>Elapsed time is inclusive: for POJOs and containers it includes time
+ *    spent reading or writing contained values (which are also reported separately)
+ *  </li>
+ * <li>Input length is measured as the difference in byte (or, for textual
+ *    sources, character) offsets reported by parser
+ *  </li>
+ * <li>Output length is not available from generator at value level, so
+ *    it is reported as {@code -1}
+ *  </li>
+ * <li>{@link ValueReader}s of scalar types ({@link String}s, {@link Number}s,
+ *    primitives and so on) are not wrapped, to avoid overhead for every property
+ *    value read; their reads are not reported (but are included in time reported
+ *    for enclosing POJOs and containers)
+ *  </li>
+ * <li>{@link ValueWriter}s are only wrapped for POJO and custom types: values of
+ *    "standard" JDK types ({@link String}s, {@link Number}s, {@link java.util.Map}s
+ *    and so on) are written directly by {@link com.fasterxml.jackson.jr.ob.impl.JSONWriter}
+ *    and not reported
+ *  </li>
+ *</ul>
+ * Methods may be called concurrently from multiple threads so implementations
+ * must be thread-safe.
+ *
+ * @since 3.0
+ */
+public abstract class MetricsListener
+{
+    /**
+     * Method called when constructing {@link ValueReader} or {@link ValueWriter}
+     * for given type, to check whether it should be instrumented at all:
+     * if {@code false} is returned, no metrics are collected for the type
+     * (nor is overhead incurred).
+     *<p>
+     * Default implementation returns {@code true} for all types.
+     *
+     * @param type Type of values to read or write
+     *
+     * @return True if metrics for the type are to be reported; false if not
+     */
+    public boolean tracks(Class<?> type) {
+        return true;
+    }
+
+    /**
+     * Method called after a value of given type has been read.
+     *
+     * @param type Type of value read (type for which {@link ValueReader} was constructed)
+     * @param inputLength Number of bytes (or characters, for textual input sources)
+     *    consumed for the value, if known; {@code -1} if not known
+     * @param nanos Elapsed time, in nanoseconds
+     */
+    public void valueRead(Class<?> type, long inputLength, long nanos) { }
+
+    /**
+     * Method called after a value of given type has been written.
+     *
+     * @param type Type of value written (type for which {@link ValueWriter} was constructed)
+     * @param outputLength Number of bytes (or characters) produced for the value,
+     *    if known; {@code -1} if not known
+     * @param nanos Elapsed time, in nanoseconds
+     */
+    public void valueWritten(Class<?> type, long outputLength, long nanos) { }
+
+    /**
+     * Method called after introspection of a POJO type (finding properties,
+     * constructors and so on, by default introspector or one provided by
+     * {@link ReaderWriterModifier}) has completed.
+     *<p>
+     * Note: not affected by {@link #tracks}.
+     *
+     * @param type POJO type introspected
+     * @param forSerialization True if introspected for serialization (writing);
+     *    false if for deserialization (reading)
+     * @param nanos Elapsed time, in nanoseconds
+     */
+    public void pojoIntrospected(Class<?> type, boolean forSerialization, long nanos) { }
+
+    /**
+     * Method called when cached {@link ValueReader}s have been dropped to limit
+     * size of the reader cache.
+     *<p>
+     * Note: not affected by {@link #tracks}.
+     *
+     * @param count Number of readers dropped
+     */
+    public void readersEvicted(int count) { }
+
+    /**
+     * Method called when a {@link ValueWriter} (for POJO or custom type)
+     * has been registered, resulting in a new (negative) type id.
+     *<p>
+     * Note: not affected by {@link #tracks}.
+     *
+     * @param type Type of values writer is for
+     * @param typeId Type id assigned
+     */
+    public void writerRegistered(Class<?> type, int typeId) { }
+
+    /**
+     * Implementation that allows chaining of two listeners: both are called,
+     * first one before the second one.
+     */
+    public static class Pair extends MetricsListener
+    {
+        protected final MetricsListener _first, _second;
+
+        protected Pair(MetricsListener f, MetricsListener s) {
+            _first = f;
+            _second = s;
+        }
+
+        /**
+         * Factory method for "combining" given 2 listeners so that if neither is {@code null},
+         * a {@link Pair} is constructed; otherwise if one is non-null, that listener is returned;
+         * or if both are {@code null}s, {@code null} is returned.
+         *
+         * @param first Listener to call first
+         * @param second Listener to call second
+         *
+         * @return Listener instance either constructed (2 non-null listeners), or non-null listener
+         *    given as-is, or, if both nulls, {@code null}.
+         */
+        public static MetricsListener of(MetricsListener first, MetricsListener second) {
+            if (first == null) {
+                return second;
+            }
+            if (second == null) {
+                return first;
+            }
+            return new Pair(first, second);
+        }
+
+        @Override
+        public boolean tracks(Class<?> type) {
+            return _first.tracks(type) || _second.tracks(type);
+        }
+
+        @Override
+        public void valueRead(Class<?> type, long inputLength, long nanos) {
+            _first.valueRead(type, inputLength, nanos);
+            _second.valueRead(type, inputLength, nanos);
+        }
+
+        @Override
+        public void valueWritten(Class<?> type, long outputLength, long nanos) {
+            _first.valueWritten(type, outputLength, nanos);
+            _second.valueWritten(type, outputLength, nanos);
+        }
+
+        @Override
+        public void pojoIntrospected(Class<?> type, boolean forSerialization, long nanos) {
+            _first.pojoIntrospected(type, forSerialization, nanos);
+            _second.pojoIntrospected(type, forSerialization, nanos);
+        }
+
+        @Override
+        public void readersEvicted(int count) {
+            _first.readersEvicted(count);
+            _second.readersEvicted(count);
+        }
+
+        @Override
+        public void writerRegistered(Class<?> type, int typeId) {
+            _first.writerRegistered(type, typeId);
+            _second.writerRegistered(type, typeId);
+        }
+    }
+}
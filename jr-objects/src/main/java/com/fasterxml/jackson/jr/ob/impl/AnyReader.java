@@ -150,6 +150,10 @@ public class AnyReader extends ValueReader
             }
             return b.emptyMap();
         }
+        // Shared shapes only used with default builder (not for custom Map types)
+        if ((b == r._mapBuilder) && JSON.Feature.USE_SHAPED_MAPS.isEnabled(r._features)) {
+            return _readShapedFromObject(r, p, b, k);
+        }
         // and another for singletons...
         String key = fromKey(k);
         Object value = readNext(r, p);
@@ -179,6 +183,66 @@ public class AnyReader extends ValueReader
         return b.build();
     }
 
+    /**
+     * Method called to read contents of a JSON Object as {@link ShapedMap},
+     * once the first property name has been read.
+     *
+     * @since 3.0
+     */
+    protected Map<String, Object> _readShapedFromObject(JSONReader r, JsonParser p,
+            MapBuilder b, String k) throws IOException
+    {
+        final boolean checkDups = JSON.Feature.FAIL_ON_DUPLICATE_MAP_KEYS.isEnabled(r._features);
+        final MapShapeTable shapes = r._mapShapes();
+        MapShape shape = shapes.root();
+        Object[] values = new Object[8];
+        int count = 0;
+
+        do {
+            String key = fromKey(k);
+            Object value = readNext(r, p);
+            int ix = shape.indexOf(key);
+            if (ix >= 0) {
+                if (checkDups) {
+                    throw JSONObjectException.from(p, "Duplicate key (key '"+key+"')");
+                }
+                values[ix] = value;
+                continue;
+            }
+            MapShape next = shapes.with(shape, key);
+            // Too many keys or distinct shapes? Fall back to regular Maps
+            if (next == null) {
+                try {
+                    b = b.start();
+                    for (int i = 0; i < count; ++i) {
+                        b = b.put(shape.keyAt(i), values[i]);
+                    }
+                    b = b.put(key, value);
+                    while ((k = p.nextFieldName()) != null) {
+                        b = b.put(fromKey(k), readNext(r, p));
+                    }
+                } catch (IllegalArgumentException e) {
+                    throw JSONObjectException.from(p, e.getMessage());
+                }
+                if (!p.hasToken(JsonToken.END_OBJECT)) {
+                    _reportNotEndObject(p);
+                }
+                return b.build();
+            }
+            shape = next;
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count + count);
+            }
+            values[count++] = value;
+        } while ((k = p.nextFieldName()) != null);
+
+        if (!p.hasToken(JsonToken.END_OBJECT)) {
+            _reportNotEndObject(p);
+        }
+        return new ShapedMap(shape, (count == values.length) ? values : Arrays.copyOf(values, count),
+                JSON.Feature.PRESERVE_FIELD_ORDERING.isEnabled(r._features));
+    }
+
     public Object[] readArrayFromArray(JSONReader r, JsonParser p, CollectionBuilder b) throws IOException
     {
         // First two special cases; empty, single-element
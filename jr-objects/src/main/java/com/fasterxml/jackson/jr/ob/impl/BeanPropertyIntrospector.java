@@ -4,6 +4,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -70,6 +71,19 @@ public class BeanPropertyIntrospector
                 continue;
             }
         }
+
+        // 3.0: Records, or types with "all-args" constructor (and no default
+        //   constructor) may be created using properties-based creator
+        final Creator creator = findCreator(beanType, defaultCtor, stringCtor, longCtor);
+        if ((creator != null) && (creator.accessors != null)) {
+            for (int i = 0; i < creator.accessors.length; ++i) {
+                // accessors are not named like getters, but work the same
+                if (creator.accessors[i] != null) {
+                    _propFrom(propsByName, creator.paramNames[i]).withGetter(creator.accessors[i]);
+                }
+            }
+        }
+
         final int len = propsByName.size();
         Prop[] props;
         if (len == 0) {
@@ -81,7 +95,96 @@ public class BeanPropertyIntrospector
                 props[i++] = builder.build();
             }
         }
-        return new POJODefinition(beanType, props, defaultCtor, stringCtor, longCtor);
+        if (creator == null) {
+            return new POJODefinition(beanType, props, defaultCtor, stringCtor, longCtor);
+        }
+        return new POJODefinition(beanType, props, defaultCtor, stringCtor, longCtor,
+                creator.constructor, creator.paramNames);
+    }
+
+    /**
+     * Helper method for finding properties-based creator of given type, if any:
+     * canonical constructor of a Record; or, if type has no default constructor,
+     * public constructor with explicit parameter names (see
+     * {@link #_findPropertiesCreator}). Also used by other introspectors (like
+     * annotation-based one) so that creator detection works the same way.
+     *
+     * @return Creator found, if any; {@code null} if none
+     *
+     * @since 3.0
+     */
+    public static Creator findCreator(Class<?> beanType, Constructor<?> defaultCtor,
+            Constructor<?> stringCtor, Constructor<?> longCtor)
+    {
+        final Object[] components = RecordSupport.components(beanType);
+        if (components != null) {
+            final int count = components.length;
+            final Class<?>[] types = new Class<?>[count];
+            final String[] names = new String[count];
+            final Method[] accessors = new Method[count];
+            for (int i = 0; i < count; ++i) {
+                names[i] = RecordSupport.name(components[i]);
+                types[i] = RecordSupport.type(components[i]);
+                accessors[i] = RecordSupport.accessor(components[i]);
+            }
+            try {
+                return new Creator(beanType.getDeclaredConstructor(types), names, accessors);
+            } catch (NoSuchMethodException e) { // should not occur, but just in case
+                return null;
+            }
+        }
+        if (defaultCtor != null) {
+            return null;
+        }
+        final Constructor<?> ctor = _findPropertiesCreator(beanType, stringCtor, longCtor);
+        if (ctor == null) {
+            return null;
+        }
+        final Parameter[] params = ctor.getParameters();
+        final String[] names = new String[params.length];
+        for (int i = 0; i < params.length; ++i) {
+            names[i] = params[i].getName();
+        }
+        return new Creator(ctor, names, null);
+    }
+
+    /**
+     * Helper method for finding public constructor with explicit parameter names
+     * (available if compiled with {@code -parameters} option): if there are multiple,
+     * one with most parameters is chosen (or none if ambiguous).
+     * Non-public constructors are never used as properties-based creators,
+     * even if access could be forced, as they are usually not meant to be
+     * used for binding (copy constructors, helper constructors for factories).
+     */
+    private static Constructor<?> _findPropertiesCreator(Class<?> beanType,
+            Constructor<?> stringCtor, Constructor<?> longCtor)
+    {
+        Constructor<?> creator = null;
+        boolean ambiguous = false;
+
+        main_loop:
+        for (Constructor<?> ctor : beanType.getDeclaredConstructors()) {
+            if (ctor.isSynthetic() || (ctor == stringCtor) || (ctor == longCtor)
+                    || !Modifier.isPublic(ctor.getModifiers())) {
+                continue;
+            }
+            final Parameter[] params = ctor.getParameters();
+            if (params.length == 0) {
+                continue;
+            }
+            for (Parameter param : params) {
+                if (!param.isNamePresent() || param.isImplicit() || param.isSynthetic()) {
+                    continue main_loop;
+                }
+            }
+            if (creator == null || params.length > creator.getParameterCount()) {
+                creator = ctor;
+                ambiguous = false;
+            } else if (params.length == creator.getParameterCount()) {
+                ambiguous = true;
+            }
+        }
+        return ambiguous ? null : creator;
     }
 
     private static void _introspect(Class<?> currType, Map<String,PropBuilder> props)
@@ -148,6 +251,99 @@ public class BeanPropertyIntrospector
         }
     }
 
+    /**
+     * Helper class for accessing Record (JDK 16+) definitions without requiring
+     * JDK 16 for building.
+     */
+    private final static class RecordSupport
+    {
+        private final static Method IS_RECORD, GET_COMPONENTS,
+            COMPONENT_NAME, COMPONENT_TYPE, COMPONENT_ACCESSOR;
+        static {
+            Method isRecord = null, getComponents = null, name = null, type = null, accessor = null;
+            try {
+                isRecord = Class.class.getMethod("isRecord");
+                getComponents = Class.class.getMethod("getRecordComponents");
+                Class<?> componentType = getComponents.getReturnType().getComponentType();
+                name = componentType.getMethod("getName");
+                type = componentType.getMethod("getType");
+                accessor = componentType.getMethod("getAccessor");
+            } catch (Exception e) { // pre-JDK16, not available
+                isRecord = null;
+            }
+            IS_RECORD = isRecord;
+            GET_COMPONENTS = getComponents;
+            COMPONENT_NAME = name;
+            COMPONENT_TYPE = type;
+            COMPONENT_ACCESSOR = accessor;
+        }
+
+        /**
+         * @return Record components of given type, if it is a Record; null if not
+         */
+        public static Object[] components(Class<?> type) {
+            if (IS_RECORD == null) {
+                return null;
+            }
+            try {
+                if (!((Boolean) IS_RECORD.invoke(type)).booleanValue()) {
+                    return null;
+                }
+                return (Object[]) GET_COMPONENTS.invoke(type);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        public static String name(Object component) {
+            return (String) _invoke(COMPONENT_NAME, component);
+        }
+
+        public static Class<?> type(Object component) {
+            return (Class<?>) _invoke(COMPONENT_TYPE, component);
+        }
+
+        public static Method accessor(Object component) {
+            return (Method) _invoke(COMPONENT_ACCESSOR, component);
+        }
+
+        private static Object _invoke(Method m, Object component) {
+            try {
+                return m.invoke(component);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Failed to access Record component "
+                        +component+": "+e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Properties-based creator found by {@link BeanPropertyIntrospector#findCreator}.
+     *
+     * @since 3.0
+     */
+    public final static class Creator
+    {
+        public final Constructor<?> constructor;
+
+        /**
+         * Names of properties for constructor parameters, in order
+         */
+        public final String[] paramNames;
+
+        /**
+         * For Records, accessors of components (in same order as parameters);
+         * {@code null} for other types
+         */
+        public final Method[] accessors;
+
+        Creator(Constructor<?> ctor, String[] names, Method[] accessors) {
+            constructor = ctor;
+            paramNames = names;
+            this.accessors = accessors;
+        }
+    }
+
     private static PropBuilder _propFrom(Map<String,PropBuilder> props, String name) {
         PropBuilder prop = props.get(name);
         if (prop == null) {
@@ -1,16 +1,37 @@
 package com.fasterxml.jackson.jr.ob.impl;
 
 import java.io.IOException;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.jr.ob.JSONObjectException;
 import com.fasterxml.jackson.jr.ob.api.ValueReader;
 
 public final class BeanPropertyReader
 {
+    /*
+    /**********************************************************************
+    /* Primitive types with specialized (non-boxing) handling
+    /**********************************************************************
+     */
+
+    private final static int PRIMITIVE_NONE = 0;
+    private final static int PRIMITIVE_INT = 1;
+    private final static int PRIMITIVE_LONG = 2;
+    private final static int PRIMITIVE_DOUBLE = 3;
+    private final static int PRIMITIVE_BOOLEAN = 4;
+
+    /*
+    /**********************************************************************
+    /* Configuration
+    /**********************************************************************
+     */
+
     /**
      * Logical name of the property being handled.
      */
@@ -31,21 +52,127 @@ public final class BeanPropertyReader
      */
     private final Field _field;
 
+    /**
+     * Non-reflective accessor to use for assigning value, if any
+     * (see {@link com.fasterxml.jackson.jr.ob.JSON.Feature#USE_METHOD_HANDLES});
+     * null if none.
+     *
+     * @since 3.0
+     */
+    private final PropertyAccessors.Setter _accessor;
+
+    /**
+     * Type of primitive value that can be read and assigned without boxing,
+     * if any; {@link #PRIMITIVE_NONE} if not.
+     *
+     * @since 3.0
+     */
+    private final int _primitiveType;
+
+    /**
+     * Non-reflective accessor for calling setter with primitive argument
+     * (for {@link #_primitiveType}), if setter is used and
+     * {@link com.fasterxml.jackson.jr.ob.JSON.Feature#USE_METHOD_HANDLES} is
+     * enabled; null if field is used (or no specialization)
+     *
+     * @since 3.0
+     */
+    private final Object _primitiveSetter;
+
+    /**
+     * Constructor for which this property is passed as an argument, if
+     * this is a creator property; null for regular properties.
+     *
+     * @since 3.0
+     */
+    private final Constructor<?> _creator;
+
+    /**
+     * Index of argument of {@link #_creator}, for creator properties;
+     * -1 for regular properties.
+     *
+     * @since 3.0
+     */
+    private final int _creatorIndex;
+
     public BeanPropertyReader(String name, Field f, Method setter) {
+        this(name, f, setter, null);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public BeanPropertyReader(String name, Field f, Method setter,
+            PropertyAccessors.Setter accessor) {
         if ((f == null) && (setter == null)) {
             throw new IllegalArgumentException("Both `field` and `setter` can not be null");
         }
         _name = name;
         _field = f;
         _setter = setter;
+        _accessor = accessor;
         _valueReader = null;
+        _primitiveType = PRIMITIVE_NONE;
+        _primitiveSetter = null;
+        _creator = null;
+        _creatorIndex = -1;
+    }
+
+    /**
+     * Constructor for "creator properties", values of which are passed as
+     * arguments to given constructor.
+     *
+     * @since 3.0
+     */
+    public BeanPropertyReader(String name, Constructor<?> creator, int creatorIndex) {
+        _name = name;
+        _field = null;
+        _setter = null;
+        _accessor = null;
+        _valueReader = null;
+        _primitiveType = PRIMITIVE_NONE;
+        _primitiveSetter = null;
+        _creator = creator;
+        _creatorIndex = creatorIndex;
     }
 
     protected BeanPropertyReader(BeanPropertyReader src, ValueReader vr) {
         _name = src._name;
         _field = src._field;
         _setter = src._setter;
+        _accessor = src._accessor;
+        _creator = src._creator;
+        _creatorIndex = src._creatorIndex;
         _valueReader = vr;
+
+        // Only specialize handling if standard reader is used (not custom, or modified
+        // one), and value can be passed without boxing
+        int primType = PRIMITIVE_NONE;
+        Object primSetter = null;
+        if ((vr != null) && (vr.getClass() == SimpleValueReader.class)
+                && (_creator == null)) {
+            final Class<?> raw = rawSetterType();
+            primType = _primitiveTypeFor(raw);
+            // Setters only specialized if non-reflective accessor is available
+            if ((primType != PRIMITIVE_NONE) && (_setter != null)) {
+                if (_accessor != null) {
+                    primSetter = PropertyAccessors.primitiveSetterFor(_setter);
+                }
+                if (primSetter == null) {
+                    primType = PRIMITIVE_NONE;
+                }
+            }
+        }
+        _primitiveType = primType;
+        _primitiveSetter = primSetter;
+    }
+
+    private static int _primitiveTypeFor(Class<?> raw) {
+        if (raw == Integer.TYPE) return PRIMITIVE_INT;
+        if (raw == Long.TYPE) return PRIMITIVE_LONG;
+        if (raw == Double.TYPE) return PRIMITIVE_DOUBLE;
+        if (raw == Boolean.TYPE) return PRIMITIVE_BOOLEAN;
+        return PRIMITIVE_NONE;
     }
 
     public BeanPropertyReader withReader(ValueReader vr) {
@@ -56,21 +183,100 @@ public final class BeanPropertyReader
         if (_setter != null) {
             return _setter.getGenericParameterTypes()[0];
         }
+        if (_creator != null) {
+            return _creator.getGenericParameterTypes()[_creatorIndex];
+        }
         return _field.getGenericType();
     }
 
     public Class<?> rawSetterType() {
-        if (_setter != null) {
-            return _setter.getParameterTypes()[0];
-        }
-        return _field.getType();
+        return _rawType();
     }
 
     public ValueReader getReader() { return _valueReader; }
     public String getName() { return _name; }
 
+    /**
+     * @since 3.0
+     */
+    public Method getSetter() { return _setter; }
+
+    /**
+     * @since 3.0
+     */
+    public Field getField() { return _field; }
+
+    /**
+     * @return Index of creator argument this property is passed as,
+     *    if this is a creator property; -1 if not
+     *
+     * @since 3.0
+     */
+    public int creatorIndex() { return _creatorIndex; }
+
+    /**
+     * Method for reading value of this property from the next token(s) of given
+     * parser, and assigning it to the property of given bean. Values of
+     * {@code int}, {@code long}, {@code double} and {@code boolean} properties
+     * are read and assigned without boxing, when possible.
+     *
+     * @since 3.0
+     */
+    public void readValueFor(JSONReader r, JsonParser p, Object bean) throws IOException
+    {
+        switch (_primitiveType) {
+        case PRIMITIVE_INT:
+            if (p.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+                _setInt(bean, p.getIntValue());
+                return;
+            }
+            break;
+        case PRIMITIVE_LONG:
+            if (p.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+                _setLong(bean, p.getLongValue());
+                return;
+            }
+            break;
+        case PRIMITIVE_DOUBLE:
+            {
+                final JsonToken t = p.nextToken();
+                if ((t == JsonToken.VALUE_NUMBER_FLOAT) || (t == JsonToken.VALUE_NUMBER_INT)) {
+                    _setDouble(bean, p.getDoubleValue());
+                    return;
+                }
+            }
+            break;
+        case PRIMITIVE_BOOLEAN:
+            {
+                final JsonToken t = p.nextToken();
+                if (t == JsonToken.VALUE_TRUE) {
+                    _setBoolean(bean, true);
+                    return;
+                }
+                if (t == JsonToken.VALUE_FALSE) {
+                    _setBoolean(bean, false);
+                    return;
+                }
+            }
+            break;
+        default:
+            setValueFor(bean, _valueReader.readNext(r, p));
+            return;
+        }
+        // Other tokens (nulls, coercions): let standard reader handle current token
+        setValueFor(bean, _valueReader.read(r, p));
+    }
+
     public void setValueFor(Object bean, Object value) throws IOException
     {
+        if (_accessor != null) {
+            try {
+                _accessor.set(bean, value);
+            } catch (Exception e) {
+                _reportProblem(e);
+            }
+            return;
+        }
         if (_setter == null) {
             try {
                 _field.set(bean, value);
@@ -86,10 +292,61 @@ public final class BeanPropertyReader
         }
     }
 
+    private void _setInt(Object bean, int value) throws IOException {
+        try {
+            if (_primitiveSetter != null) {
+                ((PropertyAccessors.IntSetter) _primitiveSetter).set(bean, value);
+            } else {
+                _field.setInt(bean, value);
+            }
+        } catch (Exception e) {
+            _reportProblem(e);
+        }
+    }
+
+    private void _setLong(Object bean, long value) throws IOException {
+        try {
+            if (_primitiveSetter != null) {
+                ((PropertyAccessors.LongSetter) _primitiveSetter).set(bean, value);
+            } else {
+                _field.setLong(bean, value);
+            }
+        } catch (Exception e) {
+            _reportProblem(e);
+        }
+    }
+
+    private void _setDouble(Object bean, double value) throws IOException {
+        try {
+            if (_primitiveSetter != null) {
+                ((PropertyAccessors.DoubleSetter) _primitiveSetter).set(bean, value);
+            } else {
+                _field.setDouble(bean, value);
+            }
+        } catch (Exception e) {
+            _reportProblem(e);
+        }
+    }
+
+    private void _setBoolean(Object bean, boolean value) throws IOException {
+        try {
+            if (_primitiveSetter != null) {
+                ((PropertyAccessors.BooleanSetter) _primitiveSetter).set(bean, value);
+            } else {
+                _field.setBoolean(bean, value);
+            }
+        } catch (Exception e) {
+            _reportProblem(e);
+        }
+    }
+
     protected String _bean() {
         if (_setter != null) {
             return _setter.getDeclaringClass().getName();
         }
+        if (_creator != null) {
+            return _creator.getDeclaringClass().getName();
+        }
         return _field.getDeclaringClass().getName();
     }
 
@@ -97,6 +354,9 @@ public final class BeanPropertyReader
         if (_setter != null) {
             return _setter.getParameterTypes()[0];
         }
+        if (_creator != null) {
+            return _creator.getParameterTypes()[_creatorIndex];
+        }
         return _field.getType();
     }
 
@@ -15,13 +15,87 @@ import com.fasterxml.jackson.jr.ob.JSONObjectException;
  */
 public final class BeanPropertyWriter
 {
+    /*
+    /**********************************************************************
+    /* Primitive types with specialized (non-boxing) handling
+    /**********************************************************************
+     */
+
+    /**
+     * @since 3.0
+     */
+    public final static int PRIMITIVE_NONE = 0;
+    /**
+     * @since 3.0
+     */
+    public final static int PRIMITIVE_INT = 1;
+    /**
+     * @since 3.0
+     */
+    public final static int PRIMITIVE_LONG = 2;
+    /**
+     * @since 3.0
+     */
+    public final static int PRIMITIVE_DOUBLE = 3;
+    /**
+     * @since 3.0
+     */
+    public final static int PRIMITIVE_FLOAT = 4;
+    /**
+     * @since 3.0
+     */
+    public final static int PRIMITIVE_BOOLEAN = 5;
+
+    /*
+    /**********************************************************************
+    /* Configuration
+    /**********************************************************************
+     */
+
     public final SerializedString name;
     public final int typeId;
 
+    /**
+     * Type of primitive value that can be accessed without boxing
+     * (using {@code getIntFor()} and similar methods), if any;
+     * {@link #PRIMITIVE_NONE} if not.
+     *
+     * @since 3.0
+     */
+    public final int primitiveType;
+
     private final Field _field;
     private final Method _getter;
 
+    /**
+     * Non-reflective accessor to use for getting value, if any
+     * (see {@link com.fasterxml.jackson.jr.ob.JSON.Feature#USE_METHOD_HANDLES});
+     * null if none.
+     *
+     * @since 3.0
+     */
+    private final PropertyAccessors.Getter _accessor;
+
+    /**
+     * Non-reflective accessor for calling getter that returns primitive value
+     * (for {@link #primitiveType}), if getter is used and
+     * {@link com.fasterxml.jackson.jr.ob.JSON.Feature#USE_METHOD_HANDLES} is
+     * enabled; null if field is used (or no specialization)
+     *
+     * @since 3.0
+     */
+    private final Object _primitiveGetter;
+
     public BeanPropertyWriter(int typeId, String n, Field f, Method getter)
+    {
+        this(typeId, n, f, getter, null);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public BeanPropertyWriter(int typeId, String n, Field f, Method getter,
+            PropertyAccessors.Getter accessor)
     {
         this.typeId = typeId;
         name = new SerializedString(n);
@@ -30,6 +104,31 @@ public final class BeanPropertyWriter
         }
         _field = f;
         _getter = getter;
+        _accessor = accessor;
+
+        final Class<?> raw = (getter == null) ? f.getType() : getter.getReturnType();
+        int primType = _primitiveTypeFor(raw);
+        Object primGetter = null;
+        // Getters only specialized if non-reflective accessor is available
+        if ((primType != PRIMITIVE_NONE) && (getter != null)) {
+            if (accessor != null) {
+                primGetter = PropertyAccessors.primitiveGetterFor(getter);
+            }
+            if (primGetter == null) {
+                primType = PRIMITIVE_NONE;
+            }
+        }
+        primitiveType = primType;
+        _primitiveGetter = primGetter;
+    }
+
+    private static int _primitiveTypeFor(Class<?> raw) {
+        if (raw == Integer.TYPE) return PRIMITIVE_INT;
+        if (raw == Long.TYPE) return PRIMITIVE_LONG;
+        if (raw == Double.TYPE) return PRIMITIVE_DOUBLE;
+        if (raw == Float.TYPE) return PRIMITIVE_FLOAT;
+        if (raw == Boolean.TYPE) return PRIMITIVE_BOOLEAN;
+        return PRIMITIVE_NONE;
     }
 
     /**
@@ -39,30 +138,136 @@ public final class BeanPropertyWriter
         if (name.toString().equals(newName)) {
             return this;
         }
-        return new BeanPropertyWriter(typeId, newName, _field, _getter);
+        return new BeanPropertyWriter(typeId, newName, _field, _getter, _accessor);
     }
 
+    /**
+     * @since 3.0
+     */
+    public Method getGetter() { return _getter; }
+
+    /**
+     * @since 3.0
+     */
+    public Field getField() { return _field; }
+
     public Object getValueFor(Object bean) throws IOException
     {
         try {
+            if (_accessor != null) {
+                return _accessor.get(bean);
+            }
             if (_getter == null) {
                 return _field.get(bean);
             }
             return _getter.invoke(bean);
         } catch (Exception e) {
-            final String accessorDesc = (_getter != null)
-                    ? String.format("method %s.%s()", _bean(), _getter.getName())
-                    : String.format("field %s.%s", _bean(), _field.getName());
-            throw new JSONObjectException(String.format(
-                    "Failed to access property '%s' (using %s); exception (%s): %s",
-                    name, e.getClass().getName(), accessorDesc, e.getMessage()), e);
+            throw _accessProblem(e);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Non-boxing accessors for primitive values; only to be called
+    /* if `primitiveType` matches
+    /**********************************************************************
+     */
+
+    /**
+     * @since 3.0
+     */
+    public int getIntFor(Object bean) throws IOException
+    {
+        try {
+            if (_primitiveGetter == null) {
+                return _field.getInt(bean);
+            }
+            return ((PropertyAccessors.IntGetter) _primitiveGetter).get(bean);
+        } catch (Exception e) {
+            throw _accessProblem(e);
+        }
+    }
+
+    /**
+     * @since 3.0
+     */
+    public long getLongFor(Object bean) throws IOException
+    {
+        try {
+            if (_primitiveGetter == null) {
+                return _field.getLong(bean);
+            }
+            return ((PropertyAccessors.LongGetter) _primitiveGetter).get(bean);
+        } catch (Exception e) {
+            throw _accessProblem(e);
+        }
+    }
+
+    /**
+     * @since 3.0
+     */
+    public double getDoubleFor(Object bean) throws IOException
+    {
+        try {
+            if (_primitiveGetter == null) {
+                return _field.getDouble(bean);
+            }
+            return ((PropertyAccessors.DoubleGetter) _primitiveGetter).get(bean);
+        } catch (Exception e) {
+            throw _accessProblem(e);
+        }
+    }
+
+    /**
+     * @since 3.0
+     */
+    public float getFloatFor(Object bean) throws IOException
+    {
+        try {
+            if (_primitiveGetter == null) {
+                return _field.getFloat(bean);
+            }
+            return ((PropertyAccessors.FloatGetter) _primitiveGetter).get(bean);
+        } catch (Exception e) {
+            throw _accessProblem(e);
+        }
+    }
+
+    /**
+     * @since 3.0
+     */
+    public boolean getBooleanFor(Object bean) throws IOException
+    {
+        try {
+            if (_primitiveGetter == null) {
+                return _field.getBoolean(bean);
+            }
+            return ((PropertyAccessors.BooleanGetter) _primitiveGetter).get(bean);
+        } catch (Exception e) {
+            throw _accessProblem(e);
         }
     }
 
+    /*
+    /**********************************************************************
+    /* Helper methods
+    /**********************************************************************
+     */
+
     protected String _bean() {
         if (_getter == null) {
             return _field.getDeclaringClass().getName();
         }
         return _getter.getDeclaringClass().getName();
     }
+
+    private IOException _accessProblem(Exception e)
+    {
+        final String accessorDesc = (_getter != null)
+                ? String.format("method %s.%s()", _bean(), _getter.getName())
+                : String.format("field %s.%s", _bean(), _field.getName());
+        return new JSONObjectException(String.format(
+                "Failed to access property '%s' (using %s); exception (%s): %s",
+                name, e.getClass().getName(), accessorDesc, e.getMessage()), e);
+    }
 }
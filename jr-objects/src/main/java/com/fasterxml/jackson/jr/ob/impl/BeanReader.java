@@ -1,13 +1,17 @@
 package com.fasterxml.jackson.jr.ob.impl;
 
 import java.io.IOException;
+import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.JsonTokenId;
+import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.core.TokenStreamFactory;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.core.sym.FieldNameMatcher;
 import com.fasterxml.jackson.core.util.Named;
 import com.fasterxml.jackson.jr.ob.JSON;
@@ -22,6 +26,27 @@ import com.fasterxml.jackson.jr.ob.api.ValueReader;
 public class BeanReader
     extends ValueReader // so we can chain calls for Collections, arrays
 {
+    /**
+     * Marker for {@link #_expectedOrder} to indicate that order is not to be
+     * learned (or used) any more.
+     */
+    private final static ExpectedOrder NO_ORDER = new ExpectedOrder(null, null, 0);
+
+    /**
+     * Number of consecutive misses of expected order after which order learning
+     * is stopped.
+     */
+    private final static int MAX_ORDER_MISSES = 8;
+
+    /**
+     * Maximum number of unknown properties in a JSON Object for which order is
+     * learned (unknown properties are retained as part of expected order, so
+     * that they can be skipped without matcher lookup): if content has more,
+     * it is unlikely to benefit from expected order, and order learning is
+     * stopped.
+     */
+    private final static int MAX_UNKNOWN_IN_ORDER = 4;
+
     protected final Map<String, BeanPropertyReader> _propsByName;
 
     /**
@@ -36,6 +61,24 @@ public class BeanReader
     protected final Constructor<?> _stringCtor;
     protected final Constructor<?> _longCtor;
 
+    /**
+     * Constructor to call with values of "creator properties", if any: if non-null,
+     * values are buffered until the end of JSON Object, after which instance is
+     * constructed.
+     *
+     * @since 3.0
+     */
+    protected final Constructor<?> _creator;
+
+    /**
+     * Default values for arguments of {@link #_creator} (nulls for reference types,
+     * default values for primitives), for creator properties not included in content;
+     * copied for each instance read.
+     *
+     * @since 3.0
+     */
+    protected final Object[] _creatorDefaults;
+
     // // 13-Dec-2017, tatu: NOTE! These will be constructed right after construction, but
     // //    not during it (due to need to resolve possible cyclic deps). So they are
     // //    non-final due to this but never `null` before use.
@@ -43,27 +86,135 @@ public class BeanReader
     protected FieldNameMatcher _fieldMatcher;
     protected BeanPropertyReader[] _fieldReaders;
 
+    /**
+     * Names of properties in same order as {@link #_fieldReaders}, pre-encoded
+     * for fast comparison by {@link JsonParser#nextFieldName(SerializableString)}.
+     *
+     * @since 3.0
+     */
+    protected SerializableString[] _fieldNames;
+
+    /**
+     * Whether {@link #_fieldMatcher} matches names in case-insensitive manner.
+     *
+     * @since 3.0
+     */
+    protected boolean _caseInsensitive;
+
+    /**
+     * Order in which properties were seen in the last JSON Object that did not
+     * match previously expected order (if any): used for speculatively matching
+     * the next property name without full field name matcher lookup.
+     * Instances are immutable, and replaced as a whole, so races between reader
+     * threads only result in one of orders being retained.
+     * Set to {@link #NO_ORDER} if order is not to be learned any more.
+     *
+     * @since 3.0
+     */
+    private volatile ExpectedOrder _expectedOrder;
+
+    /**
+     * Number of consecutive reads that did not follow expected order: if this
+     * reaches {@link #MAX_ORDER_MISSES}, content is considered not to have stable
+     * order, and learning is stopped. Not synchronized, as it is only used
+     * as a heuristic.
+     *
+     * @since 3.0
+     */
+    private int _orderMisses;
+
+    /**
+     * Pairs of properties and their default values, used for resetting properties
+     * of instances that are reused; constructed on first use.
+     *
+     * @since 3.0
+     */
+    private volatile Object[] _propertyDefaults;
+
     /**
      * Constructors used for deserialization use case
      */
     protected BeanReader(Class<?> type, Map<String,BeanPropertyReader> propsByName,
             Constructor<?> defaultCtor, Constructor<?> stringCtor, Constructor<?> longCtor,
             Set<String> ignorableNames, Map<String, String> aliasMapping)
+    {
+        this(type, propsByName, defaultCtor, stringCtor, longCtor, null,
+                ignorableNames, aliasMapping);
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected BeanReader(Class<?> type, Map<String,BeanPropertyReader> propsByName,
+            Constructor<?> defaultCtor, Constructor<?> stringCtor, Constructor<?> longCtor,
+            Constructor<?> creator,
+            Set<String> ignorableNames, Map<String, String> aliasMapping)
     {
         super(type);
         _propsByName = propsByName;
         _defaultCtor = defaultCtor;
         _stringCtor = stringCtor;
         _longCtor = longCtor;
+        _creator = creator;
+        _creatorDefaults = (creator == null) ? null : _defaultValues(creator.getParameterTypes());
         _ignorableNames = ignorableNames;
         _aliasMapping = aliasMapping;
     }
 
+    /**
+     * Copy constructor for sub-classes that need to use (fully initialized)
+     * reader as the base; all configuration, including field name matcher
+     * and property readers, is shared.
+     *
+     * @since 3.0
+     */
+    protected BeanReader(BeanReader base)
+    {
+        super(base._valueType);
+        _propsByName = base._propsByName;
+        _defaultCtor = base._defaultCtor;
+        _stringCtor = base._stringCtor;
+        _longCtor = base._longCtor;
+        _creator = base._creator;
+        _creatorDefaults = base._creatorDefaults;
+        _ignorableNames = base._ignorableNames;
+        _aliasMapping = base._aliasMapping;
+        _fieldMatcher = base._fieldMatcher;
+        _fieldReaders = base._fieldReaders;
+        _fieldNames = base._fieldNames;
+        _caseInsensitive = base._caseInsensitive;
+    }
+
+    private static Object[] _defaultValues(Class<?>[] types) {
+        final Object[] result = new Object[types.length];
+        for (int i = 0; i < types.length; ++i) {
+            if (types[i].isPrimitive()) {
+                result[i] = Array.get(Array.newInstance(types[i], 1), 0);
+            }
+        }
+        return result;
+    }
+
     /**
      * Initialization method called after construction and resolution of all property
      * readers: separate since caller needs to handle resolution of cyclic dependencies.
      */
     protected void initFieldMatcher(TokenStreamFactory streamFactory)
+    {
+        initFieldMatcher(streamFactory, false);
+    }
+
+    /**
+     * Initialization method called after construction and resolution of all property
+     * readers: separate since caller needs to handle resolution of cyclic dependencies.
+     *
+     * @param caseInsensitive Whether property names are to be matched in
+     *    case-insensitive manner: since matcher is constructed once, readers
+     *    need to be cached separately for both settings
+     *
+     * @since 3.0
+     */
+    protected void initFieldMatcher(TokenStreamFactory streamFactory, boolean caseInsensitive)
     {
         // 26-Jan-2020, tatu: One complication are aliases, if any
         Map<String,BeanPropertyReader> byName = _aliasMapping.isEmpty()
@@ -72,23 +223,24 @@ public class BeanReader
         final int size = byName.size();
         List<Named> names = new ArrayList<>(size);
         _fieldReaders = new BeanPropertyReader[size];
+        _fieldNames = new SerializableString[size];
         int ix = 0;
         for (Map.Entry<String, BeanPropertyReader> entry : byName.entrySet()) {
             names.add(Named.fromString(entry.getKey()));
+            _fieldNames[ix] = new SerializedString(entry.getKey());
             _fieldReaders[ix++] = entry.getValue();
         }
         // 13-Dec-2017, tatu: We could relatively easily support case-insensitive matching,
         //    except for one problem: when we cache readers we cache matcher... so would
         //    need to figure out what to do with that -- can not support dynamic change
         //    easily.
-        /*
-        if (_caseInsensitive) {
+        // ... and so setting is a cache-affecting feature, with separate readers
+        _caseInsensitive = caseInsensitive;
+        if (caseInsensitive) {
             _fieldMatcher = streamFactory.constructCIFieldNameMatcher(names, true);
         } else {
             _fieldMatcher = streamFactory.constructFieldNameMatcher(names, true);
         }
-        */
-        _fieldMatcher = streamFactory.constructFieldNameMatcher(names, true);
     }
 
     private final Map<String,BeanPropertyReader> _mixInAliases(Map<String,BeanPropertyReader> props,
@@ -116,6 +268,22 @@ public class BeanReader
     public static BeanReader construct(Class<?> type, Map<String, BeanPropertyReader> props,
             Constructor<?> defaultCtor, Constructor<?> stringCtor, Constructor<?> longCtor,
             Set<String> ignorableProps, Map<String, String> aliasMapping)
+    {
+        return construct(type, props, defaultCtor, stringCtor, longCtor, null,
+                ignorableProps, aliasMapping);
+    }
+
+    /**
+     * @param creator Constructor to pass values of creator properties
+     *    (see {@link BeanPropertyReader#creatorIndex()}) to, if any; if non-null,
+     *    will be used instead of default constructor.
+     *
+     * @since 3.0
+     */
+    public static BeanReader construct(Class<?> type, Map<String, BeanPropertyReader> props,
+            Constructor<?> defaultCtor, Constructor<?> stringCtor, Constructor<?> longCtor,
+            Constructor<?> creator,
+            Set<String> ignorableProps, Map<String, String> aliasMapping)
     {
         if (ignorableProps == null) {
             ignorableProps = Collections.<String>emptySet();
@@ -123,12 +291,28 @@ public class BeanReader
         if (aliasMapping == null) {
             aliasMapping = Collections.emptyMap();
         }
-        return new BeanReader(type, props, defaultCtor, stringCtor, longCtor,
+        return new BeanReader(type, props, defaultCtor, stringCtor, longCtor, creator,
                 ignorableProps, aliasMapping);
     }
 
     public Map<String,BeanPropertyReader> propertiesByName() { return _propsByName; }
 
+    /**
+     * Accessor for property readers in order of indexes that field name matcher
+     * returns: aliases are included, so same property may be included more than once.
+     *
+     * @return Property readers by index, if reader has been fully initialized;
+     *    {@code null} if not (during resolution of cyclic dependencies)
+     *
+     * @since 3.0
+     */
+    public List<BeanPropertyReader> propertiesByIndex() {
+        if (_fieldReaders == null) {
+            return null;
+        }
+        return Collections.unmodifiableList(Arrays.asList(_fieldReaders));
+    }
+
     public BeanPropertyReader findProperty(String name) {
         return _propsByName.get(name);
     }
@@ -141,6 +325,9 @@ public class BeanReader
     public Object read(JSONReader r, JsonParser p) throws IOException
     {
         if (p.isExpectedStartObjectToken()) {
+            if (_creator != null) {
+                return _readWithCreator(r, p);
+            }
             final Object bean;
             try {
                 bean = create();
@@ -172,6 +359,9 @@ public class BeanReader
     {
         JsonToken t = p.nextToken();
         if (t == JsonToken.START_OBJECT) {
+            if (_creator != null) {
+                return _readWithCreator(r, p);
+            }
             final Object bean;
             try {
                 bean = create();
@@ -200,64 +390,211 @@ public class BeanReader
                 _valueType.getName(), _tokenDesc(p));
     }
 
-    private final Object _readBean(JSONReader r, JsonParser p, final Object bean) throws IOException
+    /**
+     * Method for reading properties of a JSON Object into given existing bean
+     * instance, instead of constructing a new one; parser must point to
+     * the START_OBJECT token.
+     *
+     * @return Bean instance passed in
+     *
+     * @since 3.0
+     */
+    public Object readInto(JSONReader r, JsonParser p, Object bean) throws IOException
+    {
+        if (_creator != null) {
+            throw JSONObjectException.from(p,
+                    "Can not read into an existing instance of `%s`: type has properties-based creator",
+                    _valueType.getName());
+        }
+        p.setCurrentValue(bean);
+        return _readBean(r, p, bean);
+    }
+
+    /**
+     * Method for resetting all (settable) properties of given bean instance to default
+     * values of their types: {@code null} for reference types, and {@code 0} or
+     * {@code false} for primitives. Used when reusing instances, so that properties
+     * missing from content do not retain values from earlier reads.
+     *
+     * @since 3.0
+     */
+    public void resetProperties(Object bean) throws IOException
+    {
+        Object[] defaults = _propertyDefaults;
+        if (defaults == null) {
+            _propertyDefaults = defaults = _findPropertyDefaults();
+        }
+        for (int i = 0, end = defaults.length; i < end; i += 2) {
+            ((BeanPropertyReader) defaults[i]).setValueFor(bean, defaults[i+1]);
+        }
+    }
+
+    private Object[] _findPropertyDefaults()
     {
-        // 13-Dec-2017, tatu: Unrolling is unpredictable business, and 
-        //     performance does not seem linear. In fact, choices of 2 or 8 unrolls
-        //     seem to have about same performance for our test (but in between less... :) )
-        int ix = p.nextFieldName(_fieldMatcher);
+        final List<Object> result = new ArrayList<>();
+        for (BeanPropertyReader prop : _propsByName.values()) {
+            if (prop.creatorIndex() < 0) {
+                final Class<?> type = prop.rawSetterType();
+                result.add(prop);
+                result.add(type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null);
+            }
+        }
+        return result.toArray();
+    }
+
+    /**
+     * Method for reading properties of given (newly constructed) bean, from the
+     * first property to the closing END_OBJECT.
+     *
+     * @since 3.0 (was {@code private} before)
+     */
+    protected Object _readBean(JSONReader r, JsonParser p, final Object bean) throws IOException
+    {
+        // Most content has properties in same order for every Object, so first try
+        // to match names in the order seen last time: comparison against pre-encoded
+        // name is cheaper than full matcher lookup
+        final ExpectedOrder expected = _expectedOrder;
+        if (expected == null) {
+            return _readAndLearnOrder(r, p, bean, null, 0,
+                    p.nextFieldName(_fieldMatcher), true);
+        }
+        if (expected == NO_ORDER) {
+            return _readAndLearnOrder(r, p, bean, null, 0,
+                    p.nextFieldName(_fieldMatcher), false);
+        }
         final BeanPropertyReader[] readers = _fieldReaders;
-        while (ix >= 0) {
-            BeanPropertyReader prop = readers[ix]; // elem #1
-            Object value = prop.getReader().readNext(r, p);
-            prop.setValueFor(bean, value);
-
-            if ((ix = p.nextFieldName(_fieldMatcher)) < 0) break;
-            prop = readers[ix]; // elem #2
-            value = prop.getReader().readNext(r, p);
-            prop.setValueFor(bean, value);
-
-/*
-            if ((ix = p.nextFieldName(_fieldMatcher)) < 0) break;
-            prop = readers[ix]; // elem #3
-            value = prop.getReader().readNext(r, p);
-            prop.setValueFor(bean, value);
-
-            if ((ix = p.nextFieldName(_fieldMatcher)) < 0) break;
-            prop = readers[ix]; // elem #4
-            value = prop.getReader().readNext(r, p);
-            prop.setValueFor(bean, value);
-
-            if ((ix = p.nextFieldName(_fieldMatcher)) < 0) break;
-            prop = readers[ix]; // elem #5
-            value = prop.getReader().readNext(r, p);
-            prop.setValueFor(bean, value);
-
-            if ((ix = p.nextFieldName(_fieldMatcher)) < 0) break;
-            prop = readers[ix]; // elem #6
-            value = prop.getReader().readNext(r, p);
-            prop.setValueFor(bean, value);
-
-            if ((ix = p.nextFieldName(_fieldMatcher)) < 0) break;
-            prop = readers[ix]; // elem #7
-            value = prop.getReader().readNext(r, p);
-            prop.setValueFor(bean, value);
-
-            if ((ix = p.nextFieldName(_fieldMatcher)) < 0) break;
-            prop = readers[ix]; // elem #8
-            value = prop.getReader().readNext(r, p);
-            prop.setValueFor(bean, value);
-*/
-            // and then for next loop
-            ix = p.nextFieldName(_fieldMatcher);
+        final SerializableString[] names = expected.names;
+        final int[] indexes = expected.indexes;
+        final int end = indexes.length;
+        int i = 0;
+        for (; i < end; ++i) {
+            if (!p.nextFieldName(names[i])) {
+                // Not the expected name: either end of Object or some other name
+                if (p.hasToken(JsonToken.END_OBJECT)) {
+                    _orderMatched();
+                    return bean;
+                }
+                if (!p.hasToken(JsonToken.FIELD_NAME)) {
+                    throw _reportProblem(p);
+                }
+                return _readAfterOrderMiss(r, p, bean, expected, i,
+                        _fieldMatcher.matchName(p.currentName()));
+            }
+            final int ix = indexes[i];
+            if (ix >= 0) {
+                readers[ix].readValueFor(r, p, bean);
+            } else { // unknown property seen (and skipped) last time as well
+                handleUnknown(r, p, names[i].getValue());
+            }
+        }
+        // Otherwise got all expected properties; quite likely end of Object as well
+        final int ix = p.nextFieldName(_fieldMatcher);
+        if (ix == FieldNameMatcher.MATCH_END_OBJECT) {
+            _orderMatched();
+            return bean;
         }
+        return _readAfterOrderMiss(r, p, bean, expected, end, ix);
+    }
 
-        if (ix != FieldNameMatcher.MATCH_END_OBJECT) {
-            if (ix == FieldNameMatcher.MATCH_UNKNOWN_NAME) {
-                return _readWithUnknown(r, p, bean, p.currentName());
+    private final void _orderMatched() {
+        if (_orderMisses != 0) {
+            _orderMisses = 0;
+        }
+    }
+
+    private final Object _readAfterOrderMiss(JSONReader r, JsonParser p, final Object bean,
+            ExpectedOrder expected, int count, int ix)
+        throws IOException
+    {
+        // If content keeps on varying, better stop trying (and re-learning) altogether
+        if (++_orderMisses >= MAX_ORDER_MISSES) {
+            _expectedOrder = NO_ORDER;
+            return _readAndLearnOrder(r, p, bean, null, count, ix, false);
+        }
+        return _readAndLearnOrder(r, p, bean, expected, count, ix, true);
+    }
+
+    /**
+     * Method called to read remaining properties of given bean using field name
+     * matcher, when content does not follow expected property order (or none
+     * has yet been determined): order of properties (including unknown ones)
+     * will be retained as the new expected order, if {@code learn} is {@code true}.
+     * If more than {@link #MAX_UNKNOWN_IN_ORDER} unknown properties are seen,
+     * order is not retained, and learning is stopped altogether.
+     *
+     * @param prefix Expected order that was followed for the first {@code count}
+     *    properties, if any
+     * @param count Number of properties read so far
+     * @param ix Result of field name matching for the current property
+     * @param learn Whether order of properties is to be retained
+     */
+    private final Object _readAndLearnOrder(JSONReader r, JsonParser p, final Object bean,
+            ExpectedOrder prefix, int count, int ix, boolean learn)
+        throws IOException
+    {
+        final BeanPropertyReader[] readers = _fieldReaders;
+        final int maxCount = readers.length + MAX_UNKNOWN_IN_ORDER;
+        // Order is only allocated once there is something to record
+        int[] indexes = null;
+        SerializableString[] names = null;
+        int unknownCount = 0;
+        if (learn) {
+            for (int i = 0; i < count; ++i) {
+                if (prefix.indexes[i] < 0) {
+                    ++unknownCount;
+                }
+            }
+        }
+
+        for (;; ix = p.nextFieldName(_fieldMatcher)) {
+            final boolean known = (ix >= 0);
+            if (!known && (ix != FieldNameMatcher.MATCH_UNKNOWN_NAME)) {
+                break;
             }
+            if (learn) {
+                // Content with lots of unknown properties is unlikely to have stable
+                // order worth matching (or, if it does, to benefit from it)
+                if (!known && (++unknownCount > MAX_UNKNOWN_IN_ORDER)) {
+                    learn = false;
+                    _expectedOrder = NO_ORDER;
+                // Content with duplicates may be arbitrarily long; only retain reasonable
+                // order. Also: expected order is matched using exact names, so with
+                // case-insensitive matching need to avoid learning order from names
+                // that would not match
+                } else if ((count == maxCount)
+                        || (known && _caseInsensitive && !_fieldNames[ix].getValue().equals(p.currentName()))) {
+                    learn = false;
+                } else {
+                    if (indexes == null) {
+                        final int size = Math.min(maxCount, count + 8);
+                        indexes = new int[size];
+                        names = new SerializableString[size];
+                        if (count > 0) {
+                            System.arraycopy(prefix.indexes, 0, indexes, 0, count);
+                            System.arraycopy(prefix.names, 0, names, 0, count);
+                        }
+                    } else if (count == indexes.length) {
+                        final int size = Math.min(maxCount, count + count);
+                        indexes = Arrays.copyOf(indexes, size);
+                        names = Arrays.copyOf(names, size);
+                    }
+                    indexes[count] = known ? ix : -1;
+                    names[count++] = known ? _fieldNames[ix] : new SerializedString(p.currentName());
+                }
+            }
+            if (known) {
+                readers[ix].readValueFor(r, p, bean);
+            } else {
+                handleUnknown(r, p, p.currentName());
+            }
+        }
+        if (ix != FieldNameMatcher.MATCH_END_OBJECT) {
             throw _reportProblem(p);
         }
+        if (learn) {
+            _expectedOrder = (indexes == null) ? ExpectedOrder.EMPTY
+                    : new ExpectedOrder(indexes, names, count);
+        }
         return bean;
     }
 
@@ -332,25 +669,69 @@ public class BeanReader
     }
     */
 
-    private final Object _readWithUnknown(JSONReader r, JsonParser p,
-            final Object bean, String propName)
-        throws IOException
+    /**
+     * Method called to read properties of a type that uses properties-based creator:
+     * values of creator properties are collected as arguments, and values of other
+     * properties buffered, until the end of JSON Object, after which instance is
+     * constructed and other properties assigned.
+     *
+     * @since 3.0
+     */
+    protected Object _readWithCreator(JSONReader r, JsonParser p) throws IOException
     {
-        // first, skip current property
-        handleUnknown(r, p, propName);
-        // then do the rest with looping
-        for (; (propName = p.nextFieldName()) != null; ) {
-            BeanPropertyReader prop = findProperty(propName);
-            if (prop == null) {
-                handleUnknown(r, p, propName);
+        final Object[] args = _creatorDefaults.clone();
+        final BeanPropertyReader[] readers = _fieldReaders;
+        // pairs of non-creator properties, values, if any
+        Object[] buffered = null;
+        int bufferedCount = 0;
+
+        while (true) {
+            final int ix = p.nextFieldName(_fieldMatcher);
+            if (ix >= 0) {
+                final BeanPropertyReader prop = readers[ix];
+                final Object value = prop.getReader().readNext(r, p);
+                final int argIndex = prop.creatorIndex();
+                if (argIndex >= 0) {
+                    // leave defaults for nulls, to avoid failure for primitives
+                    if (value != null) {
+                        args[argIndex] = value;
+                    }
+                } else {
+                    if (buffered == null) {
+                        buffered = new Object[8];
+                    } else if (bufferedCount == buffered.length) {
+                        buffered = Arrays.copyOf(buffered, bufferedCount + bufferedCount);
+                    }
+                    buffered[bufferedCount++] = prop;
+                    buffered[bufferedCount++] = value;
+                }
+                continue;
+            }
+            if (ix == FieldNameMatcher.MATCH_END_OBJECT) {
+                break;
+            }
+            if (ix == FieldNameMatcher.MATCH_UNKNOWN_NAME) {
+                handleUnknown(r, p, p.currentName());
                 continue;
             }
-            prop.setValueFor(bean, prop.getReader().readNext(r, p));
-        }
-        if (!p.hasToken(JsonToken.END_OBJECT)) {
             throw _reportProblem(p);
-        }                    
-        
+        }
+
+        final Object bean;
+        try {
+            bean = _creator.newInstance(args);
+        } catch (Exception e) {
+            Throwable t = e;
+            if ((e instanceof InvocationTargetException) && (e.getCause() instanceof Exception)) {
+                t = e.getCause();
+            }
+            return _reportFailureToCreate(p, (Exception) t);
+        }
+        // same as with beans constructed before reading properties
+        p.setCurrentValue(bean);
+        for (int i = 0; i < bufferedCount; i += 2) {
+            ((BeanPropertyReader) buffered[i]).setValueFor(bean, buffered[i+1]);
+        }
         return bean;
     }
 
@@ -411,4 +792,26 @@ public class BeanReader
         return JSONObjectException.from(p, "Unexpected token %s; should get FIELD_NAME or END_OBJECT",
                 p.currentToken());
     }
+
+    /**
+     * Immutable container for expected order of properties: names (for matching)
+     * and matching property indexes ({@code -1} for unknown properties).
+     */
+    private final static class ExpectedOrder
+    {
+        public final static ExpectedOrder EMPTY = new ExpectedOrder(null, null, 0);
+
+        public final SerializableString[] names;
+        public final int[] indexes;
+
+        public ExpectedOrder(int[] indexes0, SerializableString[] names0, int count) {
+            if (count == 0) {
+                indexes = new int[0];
+                names = new SerializableString[0];
+            } else {
+                indexes = Arrays.copyOf(indexes0, count);
+                names = Arrays.copyOf(names0, count);
+            }
+        }
+    }
 }
@@ -1,6 +1,9 @@
 package com.fasterxml.jackson.jr.ob.impl;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.jr.ob.api.ValueWriter;
@@ -16,7 +19,25 @@ public class BeanWriter
         _valueType = type;
         _properties = props;
     }
-    
+
+    /**
+     * Copy constructor for sub-classes that use given writer as the base.
+     *
+     * @since 3.0
+     */
+    protected BeanWriter(BeanWriter base) {
+        this(base._valueType, base._properties);
+    }
+
+    /**
+     * Accessor for property writers in order they are written.
+     *
+     * @since 3.0
+     */
+    public List<BeanPropertyWriter> properties() {
+        return Collections.unmodifiableList(Arrays.asList(_properties));
+    }
+
     @Override
     public void writeValue(JSONWriter context, JsonGenerator g, Object value)
         throws IOException
@@ -0,0 +1,87 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+/**
+ * Immutable snapshot of statistics for one of internal caches used
+ * by {@link com.fasterxml.jackson.jr.ob.JSON} (like cache of
+ * {@link com.fasterxml.jackson.jr.ob.api.ValueReader}s): accessed
+ * using {@link com.fasterxml.jackson.jr.ob.JSON#cacheStats()}.
+ *<p>
+ * Note that counts are collected without synchronization with cache updates,
+ * so they are only approximately consistent with each other.
+ *
+ * @since 3.0
+ */
+public final class CacheStats
+{
+    private final String _name;
+
+    private final long _hits, _misses, _clears, _evictions;
+
+    private final int _size;
+
+    public CacheStats(String name, long hits, long misses, int size, long clears)
+    {
+        this(name, hits, misses, size, clears, 0L);
+    }
+
+    public CacheStats(String name, long hits, long misses, int size, long clears,
+            long evictions)
+    {
+        _name = name;
+        _hits = hits;
+        _misses = misses;
+        _size = size;
+        _clears = clears;
+        _evictions = evictions;
+    }
+
+    /**
+     * @return Descriptive name of the cache these statistics are for
+     */
+    public String name() { return _name; }
+
+    /**
+     * @return Number of lookups that found an entry; only counted if a
+     *    {@link com.fasterxml.jackson.jr.ob.api.MetricsListener} is registered
+     *    (to avoid overhead for lookups), otherwise {@code 0} (except for
+     *    "types" cache)
+     */
+    public long hits() { return _hits; }
+
+    /**
+     * @return Number of lookups that did not find an entry (and typically led
+     *    to construction of a new entry)
+     */
+    public long misses() { return _misses; }
+
+    /**
+     * @return Number of entries in the cache at the time snapshot was taken
+     */
+    public int size() { return _size; }
+
+    /**
+     * @return Number of times cache was cleared to limit its size
+     */
+    public long clears() { return _clears; }
+
+    /**
+     * @return Number of individual entries evicted to limit cache size (for caches
+     *    that evict entries instead of clearing all of them)
+     */
+    public long evictions() { return _evictions; }
+
+    /**
+     * @return Ratio of hits to all lookups (between 0.0 and 1.0), or 0.0
+     *    if there have been no lookups
+     */
+    public double hitRatio() {
+        final long total = _hits + _misses;
+        return (total == 0L) ? 0.0 : ((double) _hits / total);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[CacheStats '%s': hits=%d, misses=%d, size=%d, clears=%d, evictions=%d]",
+                _name, _hits, _misses, _size, _clears, _evictions);
+    }
+}
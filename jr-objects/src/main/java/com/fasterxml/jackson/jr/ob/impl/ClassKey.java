@@ -29,6 +29,15 @@ public final class ClassKey
      */
     private int _flags;
 
+    /**
+     * Additional discriminator for variations of same class and flags
+     * (such as {@link com.fasterxml.jackson.jr.ob.Projection}s in use), if any;
+     * compared using {@code equals()}.
+     *
+     * @since 3.0
+     */
+    private Object _variant;
+
     /**
      * Let's cache hash code straight away, since we are
      * almost certain to need it.
@@ -50,12 +59,38 @@ public final class ClassKey
         _hashCode = _className.hashCode() + flags;
     }
 
+    /**
+     * @since 3.0
+     */
+    public ClassKey(Class<?> clz, int flags, Object variant)
+    {
+        this(clz, flags);
+        if (variant != null) {
+            _variant = variant;
+            _hashCode += 31 * variant.hashCode();
+        }
+    }
+
     public ClassKey with(Class<?> clz, int flags)
     {
         _class = clz;
         _className = clz.getName();
         _hashCode = _className.hashCode() + flags;
         _flags = flags;
+        _variant = null;
+        return this;
+    }
+
+    /**
+     * @since 3.0
+     */
+    public ClassKey with(Class<?> clz, int flags, Object variant)
+    {
+        with(clz, flags);
+        if (variant != null) {
+            _variant = variant;
+            _hashCode += 31 * variant.hashCode();
+        }
         return this;
     }
 
@@ -81,7 +116,8 @@ public final class ClassKey
             && (other._className.equals(_className))
             && (other._class.getClassLoader() == _class.getClassLoader());
         */
-        return (other._flags == _flags) && (other._class == _class);
+        return (other._flags == _flags) && (other._class == _class)
+                && ((_variant == null) ? (other._variant == null) : _variant.equals(other._variant));
     }
 
     @Override public int hashCode() { return _hashCode; }
@@ -0,0 +1,180 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent bounded cache that uses CLOCK ("second chance") eviction policy:
+ * every entry has a "referenced" flag that is set on access, and when the cache
+ * is full, entries are scanned in insertion order; referenced entries get their
+ * flag cleared (and another chance), and the first non-referenced one is evicted.
+ * This keeps frequently accessed ("hot") entries resident, and evicts rarely used
+ * entries one at a time, instead of dropping all entries.
+ *<p>
+ * Lookups are lock-free (a {@link ConcurrentHashMap} read, plus setting of
+ * the reference flag if not yet set); insertions that need eviction
+ * synchronize on the cache to avoid concurrent scans.
+ *
+ * @since 3.0
+ */
+public class ClockCache<K,V>
+{
+    protected final int _capacity;
+
+    protected final ConcurrentHashMap<K, Entry<K,V>> _map;
+
+    /**
+     * Entries in the order they are to be considered for eviction ("clock hand"
+     * being the head of the queue).
+     */
+    protected final ConcurrentLinkedQueue<Entry<K,V>> _clock;
+
+    protected final LongAdder _hits, _misses, _evictions, _clears;
+
+    /**
+     * Whether hits are counted: misses (and evictions) are always counted,
+     * but counting hits adds shared-memory writes to every lookup.
+     */
+    protected final boolean _countHits;
+
+    public ClockCache(int capacity) {
+        this(capacity, true);
+    }
+
+    /**
+     * @param countHits Whether to count cache hits (misses are always counted)
+     */
+    public ClockCache(int capacity, boolean countHits)
+    {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Cache capacity must be positive, was: "+capacity);
+        }
+        _capacity = capacity;
+        _map = new ConcurrentHashMap<K, Entry<K,V>>(Math.min(16, capacity), 0.75f, 2);
+        _clock = new ConcurrentLinkedQueue<Entry<K,V>>();
+        _hits = new LongAdder();
+        _misses = new LongAdder();
+        _evictions = new LongAdder();
+        _clears = new LongAdder();
+        _countHits = countHits;
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    public int capacity() { return _capacity; }
+
+    public int size() { return _map.size(); }
+
+    /**
+     * @return Cached value for given key, if any; {@code null} if none
+     */
+    public V get(Object key)
+    {
+        final Entry<K,V> entry = _map.get(key);
+        if (entry == null) {
+            _misses.increment();
+            return null;
+        }
+        // avoid writes (and cache line invalidation) for already referenced hot entries
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        if (_countHits) {
+            _hits.increment();
+        }
+        return entry.value;
+    }
+
+    /**
+     * Method for adding given value, unless there already is a value for the
+     * key; if cache becomes full, one or more entries are evicted.
+     *
+     * @return Number of entries evicted (if any) to make room
+     */
+    public int putIfAbsent(K key, V value)
+    {
+        final Entry<K,V> entry = new Entry<K,V>(key, value);
+        if (_map.putIfAbsent(key, entry) != null) {
+            return 0;
+        }
+        _clock.add(entry);
+        if (_map.size() <= _capacity) {
+            return 0;
+        }
+        return _evict();
+    }
+
+    public void clear()
+    {
+        synchronized (this) {
+            _map.clear();
+            _clock.clear();
+        }
+        _clears.increment();
+    }
+
+    /**
+     * Method for taking a snapshot of cache statistics.
+     */
+    public CacheStats stats(String name) {
+        return new CacheStats(name, _hits.sum(), _misses.sum(), _map.size(),
+                _clears.sum(), _evictions.sum());
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    protected synchronized int _evict()
+    {
+        int evicted = 0;
+        // To guarantee progress even if entries are concurrently re-referenced,
+        // only give second chances during first full sweep
+        int secondChances = _map.size();
+
+        while (_map.size() > _capacity) {
+            final Entry<K,V> entry = _clock.poll();
+            if (entry == null) { // should not occur, but just in case
+                break;
+            }
+            if (entry.referenced && (--secondChances >= 0)) {
+                entry.referenced = false;
+                _clock.add(entry);
+                continue;
+            }
+            // may have been removed by `clear()` concurrently: if so, not counted
+            if (_map.remove(entry.key, entry)) {
+                ++evicted;
+            }
+        }
+        if (evicted > 0) {
+            _evictions.add(evicted);
+        }
+        return evicted;
+    }
+
+    protected final static class Entry<K,V>
+    {
+        final K key;
+        final V value;
+
+        /**
+         * Flag set when entry is accessed, cleared when eviction scan passes it.
+         * Races in updates are benign: at worst an entry gets one extra (or one less)
+         * chance.
+         */
+        volatile boolean referenced;
+
+        Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
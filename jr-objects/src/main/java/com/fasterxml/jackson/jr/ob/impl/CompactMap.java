@@ -0,0 +1,279 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+
+/**
+ * A specialized {@link java.util.Map} implementation for small JSON Objects:
+ * keys and values are stored in parallel arrays, and lookups are done by
+ * linear scan (first by identity, as keys are typically interned by parser,
+ * then by equality). No per-entry objects are allocated, except when
+ * iterating over entries.
+ *<p>
+ * If number of entries would grow above {@link #MAX_ENTRIES}, contents are
+ * copied into a regular hash-based {@link java.util.Map}, to which all
+ * access is delegated from that point on.
+ *
+ * @since 3.0
+ */
+public class CompactMap extends AbstractMap<String, Object>
+{
+    /**
+     * Maximum number of entries stored in compact form; above this,
+     * hash-based {@link java.util.Map} is used.
+     */
+    public final static int MAX_ENTRIES = 8;
+
+    private final boolean _ordered;
+
+    private String[] _keys;
+    private Object[] _values;
+    private int _size;
+
+    /**
+     * Hash-based map used once number of entries exceeds {@link #MAX_ENTRIES};
+     * if non-null, arrays are no longer used.
+     */
+    private Map<String, Object> _map;
+
+    public CompactMap(boolean ordered) {
+        this(ordered, 4);
+    }
+
+    public CompactMap(boolean ordered, int initialSize) {
+        _ordered = ordered;
+        initialSize = Math.min(Math.max(initialSize, 1), MAX_ENTRIES);
+        _keys = new String[initialSize];
+        _values = new Object[initialSize];
+    }
+
+    /*
+    /**********************************************************************
+    /* Map implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public int size() {
+        return (_map == null) ? _size : _map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return (_map == null) ? (_size == 0) : _map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (_map != null) {
+            return _map.containsKey(key);
+        }
+        return _indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (_map != null) {
+            return _map.get(key);
+        }
+        int ix = _indexOf(key);
+        return (ix < 0) ? null : _values[ix];
+    }
+
+    @Override
+    public Object put(String key, Object value)
+    {
+        if (_map != null) {
+            return _map.put(key, value);
+        }
+        int ix = _indexOf(key);
+        if (ix >= 0) {
+            Object old = _values[ix];
+            _values[ix] = value;
+            return old;
+        }
+        if (_size == _keys.length) {
+            if (_size == MAX_ENTRIES) {
+                toHashMap().put(key, value);
+                return null;
+            }
+            final int newSize = Math.min(MAX_ENTRIES, _size + _size);
+            _keys = Arrays.copyOf(_keys, newSize);
+            _values = Arrays.copyOf(_values, newSize);
+        }
+        _keys[_size] = key;
+        _values[_size] = value;
+        ++_size;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (_map != null) {
+            return _map.remove(key);
+        }
+        int ix = _indexOf(key);
+        if (ix < 0) {
+            return null;
+        }
+        Object old = _values[ix];
+        _removeAt(ix);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        if (_map != null) {
+            _map.clear();
+        } else {
+            Arrays.fill(_keys, 0, _size, null);
+            Arrays.fill(_values, 0, _size, null);
+            _size = 0;
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (_map != null) {
+            return _map.entrySet();
+        }
+        return new EntrySet();
+    }
+
+    /*
+    /**********************************************************************
+    /* Extended API
+    /**********************************************************************
+     */
+
+    /**
+     * Method that will force conversion of contents into a hash-based
+     * {@link java.util.Map} (if not yet done), and return that map.
+     * After this call, this instance will delegate all access to the
+     * returned map; caller may also use returned map directly.
+     */
+    public Map<String, Object> toHashMap()
+    {
+        if (_map == null) {
+            // sized to avoid resizing when adding a few more entries
+            final int size = _size + (_size >> 1) + 2;
+            Map<String, Object> map = _ordered
+                    ? new LinkedHashMap<String, Object>(size)
+                    : new HashMap<String, Object>(size);
+            for (int i = 0; i < _size; ++i) {
+                map.put(_keys[i], _values[i]);
+            }
+            _keys = null;
+            _values = null;
+            _size = 0;
+            _map = map;
+        }
+        return _map;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private int _indexOf(Object key)
+    {
+        final String[] keys = _keys;
+        final int end = _size;
+        // Keys are usually interned, so first try identity match
+        for (int i = 0; i < end; ++i) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        if (key != null) {
+            for (int i = 0; i < end; ++i) {
+                if (key.equals(keys[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void _removeAt(int ix)
+    {
+        final int last = _size - 1;
+        if (ix < last) {
+            System.arraycopy(_keys, ix+1, _keys, ix, last - ix);
+            System.arraycopy(_values, ix+1, _values, ix, last - ix);
+        }
+        _keys[last] = null;
+        _values[last] = null;
+        _size = last;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>>
+    {
+        @Override
+        public int size() {
+            return CompactMap.this.size();
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator()
+        {
+            // view may outlive conversion to hash-based Map
+            if (_map != null) {
+                return _map.entrySet().iterator();
+            }
+            return new Iterator<Entry<String, Object>>() {
+                private int _index;
+                private boolean _canRemove;
+
+                @Override
+                public boolean hasNext() {
+                    // contents moved to hash-based Map during iteration?
+                    if (_map != null) {
+                        throw new ConcurrentModificationException();
+                    }
+                    return _index < _size;
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    _canRemove = true;
+                    return new ArrayEntry(_index++);
+                }
+
+                @Override
+                public void remove() {
+                    if (!_canRemove || (_map != null)) {
+                        throw new IllegalStateException();
+                    }
+                    _canRemove = false;
+                    _removeAt(--_index);
+                }
+            };
+        }
+    }
+
+    private final class ArrayEntry extends SimpleEntry<String, Object>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int _index;
+
+        ArrayEntry(int index) {
+            super(_keys[index], _values[index]);
+            _index = index;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            // only write through if entry still valid
+            if ((_map == null) && (_index < _size) && (_keys[_index] == getKey())) {
+                _values[_index] = value;
+            }
+            return super.setValue(value);
+        }
+    }
+}
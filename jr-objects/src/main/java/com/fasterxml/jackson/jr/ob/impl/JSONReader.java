@@ -64,6 +64,22 @@ public class JSONReader
      */
     protected final JsonParser _parser;
 
+    /**
+     * Table of {@link MapShape}s shared by {@link ShapedMap}s read during this
+     * operation, if any; lazily constructed.
+     *
+     * @since 3.0
+     */
+    protected MapShapeTable _mapShapes;
+
+    /**
+     * Instance with same configuration as this one but not bound to a parser,
+     * used for deferred binding; lazily constructed.
+     *
+     * @since 3.0
+     */
+    protected JSONReader _detached;
+
     /*
     /**********************************************************************
     /* Blueprint construction
@@ -147,6 +163,38 @@ public class JSONReader
         return new JSONReader(this, features, loc, tc, p);
     }
 
+    /**
+     * Method for constructing a per-operation instance with same configuration
+     * as this (per-operation) instance, but reading from given parser: used for
+     * deferred reading of content (see {@link com.fasterxml.jackson.jr.ob.Lazy}).
+     *
+     * @param p Parser to read from; may be {@code null} for instance that is only
+     *    used for constructing other instances (to avoid retaining parser)
+     *
+     * @since 3.0
+     */
+    public JSONReader withParser(JsonParser p) {
+        return perOperationInstance(_features, _readerLocator, _treeCodec, p);
+    }
+
+    /**
+     * Accessor for a per-operation instance with same configuration as this
+     * instance but not bound to any parser; constructed once per operation
+     * and shared by all values deferred during it (see
+     * {@link com.fasterxml.jackson.jr.ob.Lazy}).
+     *
+     * @since 3.0
+     */
+    public JSONReader detached() {
+        if (_parser == null) {
+            return this;
+        }
+        if (_detached == null) {
+            _detached = withParser(null);
+        }
+        return _detached;
+    }
+
     /*
     /**********************************************************************
     /* Simple accessors
@@ -242,6 +290,59 @@ public class JSONReader
         return (T) _readerLocator.findReader(type).read(this, _parser);
     }
 
+    /**
+     * Method for reading a JSON Object from input and assigning its properties
+     * to given existing Bean instance (instead of constructing a new one).
+     * Note that if input does NOT contain a JSON Object (or JSON {@code null}),
+     * {@link JSONObjectException} will be thrown.
+     *
+     * @return Bean instance passed in; or {@code null} if input contains JSON {@code null}
+     *
+     * @since 3.0
+     */
+    public <T> T readBeanInto(T bean) throws IOException {
+        return readBeanInto(bean, false);
+    }
+
+    /**
+     * Method for reading a JSON Object from input and assigning its properties
+     * to given existing Bean instance (instead of constructing a new one),
+     * optionally first resetting all properties to their default values
+     * (so that properties missing from content will not retain earlier values).
+     *
+     * @param resetProperties Whether all properties of the Bean are to be reset
+     *    to default values ({@code null}, {@code 0}, {@code false}) before reading
+     *
+     * @return Bean instance passed in; or {@code null} if input contains JSON {@code null}
+     *
+     * @since 3.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T readBeanInto(T bean, boolean resetProperties) throws IOException {
+        if (_parser.isExpectedStartObjectToken()) {
+            // note: need actual Bean reader, not one wrapped for metrics
+            final ValueReader vr = _readerLocator.findBeanReader(bean.getClass());
+            if (vr instanceof BeanReader) {
+                final BeanReader br = (BeanReader) vr;
+                if (resetProperties) {
+                    br.resetProperties(bean);
+                }
+                return (T) br.readInto(this, _parser, bean);
+            }
+            if (vr instanceof PrecompiledBeanReader) {
+                return (T) ((PrecompiledBeanReader) vr).readInto(this, _parser, bean, resetProperties);
+            }
+            throw JSONObjectException.from(_parser,
+                    "Can not read into an instance of `%s`: not handled as a Bean type (reader of type `%s`)",
+                    bean.getClass().getName(), vr.getClass().getName());
+        }
+        if (_parser.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        throw JSONObjectException.from(_parser,
+                "Can not read a Bean: expect to see START_OBJECT ('{'), instead got: "+ValueReader._tokenDesc(_parser));
+    }
+
     @SuppressWarnings("unchecked")
     public <T> T[] readArrayOf(Class<T> type) throws IOException {
         if (_parser.isExpectedStartArrayToken()) {
@@ -316,6 +417,16 @@ public class JSONReader
         return (mapType == null) ? _mapBuilder : _mapBuilder.newBuilder(mapType);
     }
 
+    /**
+     * @since 3.0
+     */
+    protected MapShapeTable _mapShapes() {
+        if (_mapShapes == null) {
+            _mapShapes = new MapShapeTable();
+        }
+        return _mapShapes;
+    }
+
     protected CollectionBuilder _collectionBuilder(Class<?> collType) {
         return (collType == null) ? _collectionBuilder : _collectionBuilder.newBuilder(collType);
     }
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.core.*;
 import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.Lazy;
 import com.fasterxml.jackson.jr.ob.api.ValueWriter;
 
 import static com.fasterxml.jackson.jr.ob.impl.ValueWriterLocator.*;
@@ -188,6 +189,15 @@ public class JSONWriter
         case SER_BOOLEAN_ARRAY:
             writeBooleanArrayField(fieldName, (boolean[]) value);
             return;
+        case SER_DOUBLE_ARRAY:
+            writeDoubleArrayField(fieldName, (double[]) value);
+            return;
+        case SER_FLOAT_ARRAY:
+            writeFloatArrayField(fieldName, (float[]) value);
+            return;
+        case SER_SHORT_ARRAY:
+            writeShortArrayField(fieldName, (short[]) value);
+            return;
         case SER_TREE_NODE:
             writeTreeNodeField(fieldName, (TreeNode) value);
             return;
@@ -262,6 +272,10 @@ public class JSONWriter
             writeIterableField(fieldName, (Iterable<?>) value);
             return;
 
+        case SER_LAZY:
+            writeLazyField(fieldName, (Lazy<?>) value);
+            return;
+
         case SER_UNKNOWN:
             writeUnknownField(fieldName, value);
             return;
@@ -269,6 +283,9 @@ public class JSONWriter
 
         if (type < 0) { // Bean type!
             ValueWriter writer = _writerLocator.getValueWriter(type);
+            if (writer == null) { // evicted concurrently?
+                writer = _writerLocator.findValueWriter(value.getClass());
+            }
             if (writer != null) { // sanity check
                 _generator.writeFieldName(fieldName);
                 writer.writeValue(this, _generator, value);
@@ -307,6 +324,15 @@ public class JSONWriter
         case SER_BOOLEAN_ARRAY:
             writeBooleanArrayValue((boolean[]) value);
             return;
+        case SER_DOUBLE_ARRAY:
+            writeDoubleArrayValue((double[]) value);
+            return;
+        case SER_FLOAT_ARRAY:
+            writeFloatArrayValue((float[]) value);
+            return;
+        case SER_SHORT_ARRAY:
+            writeShortArrayValue((short[]) value);
+            return;
         case SER_TREE_NODE:
             writeTreeNodeValue((TreeNode) value);
             return;
@@ -380,6 +406,9 @@ public class JSONWriter
         case SER_ITERABLE:
             writeIterableValue((Iterable<?>) value);
             return;
+        case SER_LAZY:
+            writeLazyValue((Lazy<?>) value);
+            return;
         case SER_UNKNOWN:
             writeUnknownValue(value);
             return;
@@ -387,6 +416,9 @@ public class JSONWriter
 
         if (type < 0) { // explicit ValueWriter
             ValueWriter writer = _writerLocator.getValueWriter(type);
+            if (writer == null) { // evicted concurrently?
+                writer = _writerLocator.findValueWriter(value.getClass());
+            }
             if (writer != null) { // sanity check
                 writer.writeValue(this, _generator, value);
                 return;
@@ -431,6 +463,29 @@ public class JSONWriter
         writeIterableValue(v);
     }
     
+    /**
+     * @since 3.0
+     */
+    protected void writeLazyValue(Lazy<?> v) throws IOException
+    {
+        // if not yet bound, can just copy content as is
+        final String raw = v.rawContent();
+        if (raw != null) {
+            _generator.writeRawValue(raw);
+        } else {
+            writeValue(v.get());
+        }
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected void writeLazyField(String fieldName, Lazy<?> v) throws IOException
+    {
+        _generator.writeFieldName(fieldName);
+        writeLazyValue(v);
+    }
+
     protected void writeListValue(List<?> list) throws IOException
     {
         final int len = list.size();
@@ -552,6 +607,62 @@ public class JSONWriter
         writeBooleanArrayValue(v);
     }
 
+    /**
+     * @since 3.0
+     */
+    protected void writeDoubleArrayValue(double[] v) throws IOException {
+        _generator.writeArray(v, 0, v.length);
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected void writeDoubleArrayField(String fieldName, double[] v) throws IOException {
+        _generator.writeFieldName(fieldName);
+        writeDoubleArrayValue(v);
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected void writeFloatArrayValue(float[] v) throws IOException {
+        final int len = v.length;
+        _generator.writeStartArray(v, len);
+        for (int i = 0; i < len; ++i) {
+            // written as double, same as boxed Floats and `float` properties
+            _generator.writeNumber((double) v[i]);
+        }
+        _generator.writeEndArray();
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected void writeFloatArrayField(String fieldName, float[] v) throws IOException {
+        _generator.writeFieldName(fieldName);
+        writeFloatArrayValue(v);
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected void writeShortArrayValue(short[] v) throws IOException {
+        final int len = v.length;
+        _generator.writeStartArray(v, len);
+        for (int i = 0; i < len; ++i) {
+            _generator.writeNumber(v[i]);
+        }
+        _generator.writeEndArray();
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected void writeShortArrayField(String fieldName, short[] v) throws IOException {
+        _generator.writeFieldName(fieldName);
+        writeShortArrayValue(v);
+    }
+
     protected void writeTreeNodeValue(TreeNode v) throws IOException {
         if (_treeCodec == null) {
             throw new JSONObjectException("No `TreeCodec` configured: can not serialize `TreeNode` values");
@@ -712,110 +823,155 @@ public class JSONWriter
         int left = props.length;
 
         if (left > 3) {
-            int typeId;
             do {
-                BeanPropertyWriter property = props[i];
-                Object value = property.getValueFor(bean);
-                if (value == null) {
-                    typeId = SER_NULL;
-                } else {
-                    typeId = property.typeId;
-                    if (typeId == 0) {
-                        typeId = _writerLocator.findSerializationType(value.getClass());
-                    }
-                }
-                _generator.writeFieldName(property.name);
-                _writeValue(value, typeId);
-
-                property = props[i+1];
-                value = property.getValueFor(bean);
-                if (value == null) {
-                    typeId = SER_NULL;
-                } else {
-                    typeId = property.typeId;
-                    if (typeId == 0) {
-                        typeId = _writerLocator.findSerializationType(value.getClass());
-                    }
-                }
-                _generator.writeFieldName(property.name);
-                _writeValue(value, typeId);
-
-                property = props[i+2];
-                value = property.getValueFor(bean);
-                if (value == null) {
-                    typeId = SER_NULL;
-                } else {
-                    typeId = property.typeId;
-                    if (typeId == 0) {
-                        typeId = _writerLocator.findSerializationType(value.getClass());
-                    }
-                }
-                _generator.writeFieldName(property.name);
-                _writeValue(value, typeId);
-
-                property = props[i+3];
-                value = property.getValueFor(bean);
-                if (value == null) {
-                    typeId = SER_NULL;
-                } else {
-                    typeId = property.typeId;
-                    if (typeId == 0) {
-                        typeId = _writerLocator.findSerializationType(value.getClass());
-                    }
-                }
-                _generator.writeFieldName(property.name);
-                _writeValue(value, typeId);
+                _writeProperty(props[i], bean);
+                _writeProperty(props[i+1], bean);
+                _writeProperty(props[i+2], bean);
+                _writeProperty(props[i+3], bean);
                 left -= 4;
                 i += 4;
             } while (left > 3);
         }
-        BeanPropertyWriter property;
-        Object value;
-        int typeId;
         switch (left) {
         case 3:
-            property = props[i++];
-            value = property.getValueFor(bean);
-            if (value == null) {
-                typeId = SER_NULL;
-            } else {
-                typeId = property.typeId;
-                if (typeId == 0) {
-                    typeId = _writerLocator.findSerializationType(value.getClass());
-                }
-            }
-            _generator.writeFieldName(property.name);
-            _writeValue(value, typeId);
+            _writeProperty(props[i++], bean);
         case 2:
-            property = props[i++];
-            value = property.getValueFor(bean);
-            if (value == null) {
-                typeId = SER_NULL;
-            } else {
-                typeId = property.typeId;
-                if (typeId == 0) {
-                    typeId = _writerLocator.findSerializationType(value.getClass());
-                }
-            }
-            _generator.writeFieldName(property.name);
-            _writeValue(value, typeId);
+            _writeProperty(props[i++], bean);
         case 1:
-            property = props[i++];
-            value = property.getValueFor(bean);
-            if (value == null) {
-                typeId = SER_NULL;
-            } else {
-                typeId = property.typeId;
-                if (typeId == 0) {
-                    typeId = _writerLocator.findSerializationType(value.getClass());
-                }
-            }
-            _generator.writeFieldName(property.name);
-            _writeValue(value, typeId);
+            _writeProperty(props[i++], bean);
         }
         _generator.writeEndObject();
     }
 
+    /**
+     * Helper method for writing name and value of a single Bean property.
+     * Values of primitive properties are accessed and written without boxing.
+     *
+     * @since 3.0
+     */
+    protected final void _writeProperty(BeanPropertyWriter property, Object bean) throws IOException
+    {
+        switch (property.primitiveType) {
+        case BeanPropertyWriter.PRIMITIVE_INT:
+            writeBeanProperty(property, property.getIntFor(bean));
+            return;
+        case BeanPropertyWriter.PRIMITIVE_LONG:
+            writeBeanProperty(property, property.getLongFor(bean));
+            return;
+        case BeanPropertyWriter.PRIMITIVE_DOUBLE:
+            writeBeanProperty(property, property.getDoubleFor(bean));
+            return;
+        case BeanPropertyWriter.PRIMITIVE_FLOAT:
+            // written as double, same as boxed Floats
+            writeBeanProperty(property, (double) property.getFloatFor(bean));
+            return;
+        case BeanPropertyWriter.PRIMITIVE_BOOLEAN:
+            writeBeanProperty(property, property.getBooleanFor(bean));
+            return;
+        default:
+        }
+        writeBeanProperty(property, property.getValueFor(bean));
+    }
+
+    /*
+    /**********************************************************************
+    /* Bean property write methods, for custom or generated writers that
+    /* access property values directly
+    /**********************************************************************
+     */
+
+    /**
+     * Method for writing name and (already accessed) value of given Bean property.
+     *
+     * @since 3.0
+     */
+    public void writeBeanProperty(BeanPropertyWriter property, Object value) throws IOException {
+        writeBeanProperty(property.name, value, property.typeId);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public void writeBeanProperty(BeanPropertyWriter property, int value) throws IOException {
+        writeBeanProperty(property.name, value);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public void writeBeanProperty(BeanPropertyWriter property, long value) throws IOException {
+        writeBeanProperty(property.name, value);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public void writeBeanProperty(BeanPropertyWriter property, double value) throws IOException {
+        writeBeanProperty(property.name, value);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public void writeBeanProperty(BeanPropertyWriter property, boolean value) throws IOException {
+        writeBeanProperty(property.name, value);
+    }
+
+    /**
+     * Method for writing name and (already accessed) value of a Bean property,
+     * for writers that do not use {@link BeanPropertyWriter}s.
+     *
+     * @param name Name of the property
+     * @param value Value of the property
+     * @param typeId Serialization type of the declared property type, if known
+     *    (see {@link ValueWriterLocator}); {@code 0} if it is to be determined from
+     *    the actual value type
+     *
+     * @since 3.0
+     */
+    public void writeBeanProperty(SerializableString name, Object value, int typeId) throws IOException
+    {
+        if (value == null) {
+            typeId = SER_NULL;
+        } else if (typeId == 0) {
+            typeId = _writerLocator.findSerializationType(value.getClass());
+        }
+        _generator.writeFieldName(name);
+        _writeValue(value, typeId);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public void writeBeanProperty(SerializableString name, int value) throws IOException {
+        _generator.writeFieldName(name);
+        writeIntValue(value);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public void writeBeanProperty(SerializableString name, long value) throws IOException {
+        _generator.writeFieldName(name);
+        writeLongValue(value);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public void writeBeanProperty(SerializableString name, double value) throws IOException {
+        _generator.writeFieldName(name);
+        writeDoubleValue(value);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public void writeBeanProperty(SerializableString name, boolean value) throws IOException {
+        _generator.writeFieldName(name);
+        writeBooleanValue(value);
+    }
+
     protected void writeUnknownValue(Object data) throws IOException {
         _checkUnknown(data);
         writeStringValue(data.toString());
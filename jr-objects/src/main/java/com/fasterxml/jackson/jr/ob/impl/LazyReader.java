@@ -0,0 +1,120 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.Lazy;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+
+/**
+ * Reader for {@link Lazy} values: instead of binding value, contents are
+ * copied as JSON text (with numbers copied verbatim, without decoding), to be
+ * bound using configured value reader on first access.
+ *<p>
+ * Since content is retained as text, only textual formats (like JSON) are
+ * supported: reading {@link Lazy} values from a binary format results in
+ * a {@link JSONObjectException}.
+ *
+ * @since 3.0
+ */
+public class LazyReader extends ValueReader
+{
+    protected final TokenStreamFactory _streamFactory;
+
+    protected final ValueReader _valueReader;
+
+    public LazyReader(TokenStreamFactory streamF, ValueReader vr) {
+        super(Lazy.class);
+        _streamFactory = streamF;
+        _valueReader = vr;
+    }
+
+    @Override
+    public Object read(JSONReader r, JsonParser p) throws IOException
+    {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        final StringWriter sw = new StringWriter();
+        final JsonGenerator g;
+        try {
+            g = _streamFactory.createGenerator(ObjectWriteContext.empty(), sw);
+        } catch (UnsupportedOperationException e) {
+            // binary formats can not produce textual content
+            throw JSONObjectException.from(p,
+"Can not read `Lazy` value: format '%s' does not support textual output",
+                    _streamFactory.getFormatName());
+        }
+        try {
+            _copyStructure(p, g);
+        } finally {
+            g.close();
+        }
+        // Must not retain parser: so need reader that is not bound to it
+        return Lazy.deferred(sw.toString(), new Binder(this, r.detached()));
+    }
+
+    /**
+     * Helper method for copying current value (including all contents of
+     * Arrays and Objects) from parser into generator. Unlike with
+     * {@link JsonGenerator#copyCurrentStructure}, numbers are copied using
+     * their textual representation: this both retains full precision and
+     * avoids decoding of values that may never be bound.
+     */
+    protected void _copyStructure(JsonParser p, JsonGenerator g) throws IOException
+    {
+        JsonToken t = p.currentToken();
+        int depth = 0;
+        while (true) {
+            if (t == null) { // should only occur with truncated content
+                throw JSONObjectException.from(p, "Unexpected end-of-input when reading `Lazy` value");
+            }
+            switch (t) {
+            case START_ARRAY:
+            case START_OBJECT:
+                ++depth;
+                g.copyCurrentEvent(p);
+                break;
+            case END_ARRAY:
+            case END_OBJECT:
+                --depth;
+                g.copyCurrentEvent(p);
+                break;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                g.writeNumber(p.getText());
+                break;
+            default:
+                g.copyCurrentEvent(p);
+            }
+            if (depth == 0) {
+                return;
+            }
+            t = p.nextToken();
+        }
+    }
+
+    /**
+     * Binder used for deferred binding of JSON content of a single {@link Lazy} value.
+     */
+    private final static class Binder implements Lazy.Binder<Object>
+    {
+        private final LazyReader _lazyReader;
+        private final JSONReader _reader;
+
+        public Binder(LazyReader lazyReader, JSONReader r) {
+            _lazyReader = lazyReader;
+            _reader = r;
+        }
+
+        @Override
+        public Object bind(String json) throws IOException {
+            try (JsonParser p = _lazyReader._streamFactory.createParser(ObjectReadContext.empty(), json)) {
+                p.nextToken();
+                return _lazyReader._valueReader.read(_reader.withParser(p), p);
+            }
+        }
+    }
+}
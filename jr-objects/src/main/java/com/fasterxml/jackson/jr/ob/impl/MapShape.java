@@ -0,0 +1,107 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+
+/**
+ * Immutable "shape" (sequence of keys) shared by {@link ShapedMap}s read from
+ * JSON Objects with identical property names in identical order; similar to
+ * "hidden classes" used by JavaScript engines.
+ *<p>
+ * Shapes only hold their keys: transitions between shapes are kept in a
+ * {@link MapShapeTable} owned by the per-operation reader, so that resulting
+ * {@link ShapedMap}s do not retain other shapes.
+ *
+ * @since 3.0
+ */
+public final class MapShape
+{
+    /**
+     * Number of keys above which hash-based index is used for key lookups,
+     * instead of linear scan.
+     */
+    private final static int MAX_LINEAR_KEYS = 8;
+
+    final static MapShape EMPTY = new MapShape(0, new String[0]);
+
+    /**
+     * Identifier of this shape within {@link MapShapeTable} that created it.
+     */
+    final int _id;
+
+    private final String[] _keys;
+
+    /**
+     * Lazily constructed key-to-index lookup for shapes with many keys.
+     */
+    private volatile Map<String, Integer> _index;
+
+    private MapShape(int id, String[] keys) {
+        _id = id;
+        _keys = keys;
+    }
+
+    /**
+     * Factory method for constructing shape that has all keys of this shape,
+     * followed by given key.
+     */
+    MapShape withKey(int id, String key) {
+        final int len = _keys.length;
+        String[] keys = Arrays.copyOf(_keys, len+1);
+        keys[len] = key;
+        return new MapShape(id, keys);
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    public int size() {
+        return _keys.length;
+    }
+
+    public String keyAt(int index) {
+        return _keys[index];
+    }
+
+    /**
+     * Method for finding index of given key within shape, if any;
+     * or -1 if no such key.
+     */
+    public int indexOf(Object key)
+    {
+        final String[] keys = _keys;
+        if (keys.length > MAX_LINEAR_KEYS) {
+            Map<String, Integer> index = _index;
+            if (index == null) {
+                index = new HashMap<String, Integer>(keys.length + (keys.length >> 1));
+                for (int i = 0; i < keys.length; ++i) {
+                    index.put(keys[i], i);
+                }
+                _index = index;
+            }
+            Integer ix = index.get(key);
+            return (ix == null) ? -1 : ix.intValue();
+        }
+        // Keys are usually interned, so first try identity match
+        for (int i = 0; i < keys.length; ++i) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        if (key != null) {
+            for (int i = 0; i < keys.length; ++i) {
+                if (key.equals(keys[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return "[MapShape: "+Arrays.toString(_keys)+"]";
+    }
+}
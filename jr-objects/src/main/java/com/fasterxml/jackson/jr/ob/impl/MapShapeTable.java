@@ -0,0 +1,106 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+
+/**
+ * Per-operation table of {@link MapShape}s and transitions between them:
+ * starting from the empty root shape, each distinct key sequence maps to
+ * a single shape instance. Table is only accessed by a single reader, and
+ * is not referenced by shapes themselves, so it (and shapes no longer
+ * used by any {@link ShapedMap}) can be collected once reading completes.
+ *
+ * @since 3.0
+ */
+public final class MapShapeTable
+{
+    /**
+     * Maximum number of shapes created by a single table: above this, no
+     * new shapes are created (and regular {@link java.util.Map}s are to be
+     * used instead), to avoid excessive memory usage for content with
+     * highly varying keys.
+     */
+    public final static int MAX_SHAPES = 1000;
+
+    /**
+     * Maximum number of keys a shape may have: JSON Objects with more keys
+     * are read as regular {@link java.util.Map}s, since each transition
+     * copies all keys of the preceding shape.
+     */
+    public final static int MAX_KEYS = 16;
+
+    /**
+     * Transitions from shapes, indexed by shape id
+     */
+    private Transitions[] _transitions = new Transitions[16];
+
+    private int _shapeCount = 1;
+
+    public MapShape root() {
+        return MapShape.EMPTY;
+    }
+
+    /**
+     * Method for finding (or, if necessary, creating) shape that has all keys
+     * of given shape, followed by given key. Caller must ensure that key is
+     * not yet included in the shape.
+     *
+     * @return Shape with given key added; or {@code null} if shape already has
+     *   {@link #MAX_KEYS} keys, or maximum number of shapes ({@link #MAX_SHAPES})
+     *   has been reached
+     */
+    public MapShape with(MapShape shape, String key)
+    {
+        final int id = shape._id;
+        Transitions tr = (id < _transitions.length) ? _transitions[id] : null;
+        if (tr != null) {
+            MapShape next = tr.find(key);
+            if (next != null) {
+                return next;
+            }
+        }
+        if ((shape.size() >= MAX_KEYS) || (_shapeCount >= MAX_SHAPES)) {
+            return null;
+        }
+        MapShape next = shape.withKey(_shapeCount++, key);
+        if (tr == null) {
+            if (id >= _transitions.length) {
+                _transitions = Arrays.copyOf(_transitions,
+                        Math.max(id+1, _transitions.length + (_transitions.length >> 1)));
+            }
+            _transitions[id] = new Transitions(key, next);
+        } else {
+            tr.add(key, next);
+        }
+        return next;
+    }
+
+    /**
+     * Transitions from a single shape: optimized for the common case of
+     * a single transition.
+     */
+    private final static class Transitions
+    {
+        private final String _firstKey;
+        private final MapShape _first;
+        private Map<String, MapShape> _more;
+
+        Transitions(String key, MapShape shape) {
+            _firstKey = key;
+            _first = shape;
+        }
+
+        MapShape find(String key) {
+            if ((_firstKey == key) || _firstKey.equals(key)) {
+                return _first;
+            }
+            return (_more == null) ? null : _more.get(key);
+        }
+
+        void add(String key, MapShape shape) {
+            if (_more == null) {
+                _more = new HashMap<String, MapShape>();
+            }
+            _more.put(key, shape);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.jr.ob.api.MetricsListener;
+import com.fasterxml.jackson.jr.ob.api.ReaderWriterModifier;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+import com.fasterxml.jackson.jr.ob.api.ValueWriter;
+
+/**
+ * {@link ReaderWriterModifier} registered by {@link com.fasterxml.jackson.jr.ob.JSON}
+ * when one or more {@link MetricsListener}s are configured: wraps
+ * {@link ValueReader}s and {@link ValueWriter}s so that calls are measured
+ * and reported to the listener.
+ *<p>
+ * Note that this modifier is to be registered as the last one, to measure
+ * readers and writers as modified by other modifiers.
+ *
+ * @since 3.0
+ */
+public class MetricsModifier extends ReaderWriterModifier
+{
+    protected final MetricsListener _listener;
+
+    public MetricsModifier(MetricsListener listener) {
+        _listener = listener;
+    }
+
+    public MetricsListener listener() { return _listener; }
+
+    @Override
+    public ValueReader modifyValueReader(JSONReader readContext,
+            Class<?> type, ValueReader defaultReader)
+    {
+        // Scalar readers not wrapped: would defeat optimizations for primitive-valued
+        // properties, and per-property overhead would dominate measurements
+        if ((defaultReader instanceof MeasuringReader)
+                || (defaultReader instanceof SimpleValueReader)
+                || !_listener.tracks(type)) {
+            return defaultReader;
+        }
+        return new MeasuringReader(type, defaultReader, _listener);
+    }
+
+    @Override
+    public ValueWriter modifyValueWriter(JSONWriter writeContext,
+            Class<?> type, ValueWriter defaultWriter)
+    {
+        if ((defaultWriter instanceof MeasuringWriter) || !_listener.tracks(type)) {
+            return defaultWriter;
+        }
+        return new MeasuringWriter(type, defaultWriter, _listener);
+    }
+
+    /*
+    /**********************************************************************
+    /* Wrapper implementations
+    /**********************************************************************
+     */
+
+    /**
+     * {@link ValueReader} that delegates actual reading, measuring elapsed time
+     * and input consumed.
+     */
+    public static class MeasuringReader extends ValueReader
+    {
+        protected final ValueReader _delegate;
+
+        protected final MetricsListener _listener;
+
+        public MeasuringReader(Class<?> type, ValueReader delegate, MetricsListener listener) {
+            super(type);
+            _delegate = delegate;
+            _listener = listener;
+        }
+
+        /**
+         * Accessor for the actual reader being measured
+         */
+        public ValueReader delegate() { return _delegate; }
+
+        @Override
+        public Object read(JSONReader reader, JsonParser p) throws IOException {
+            // parser points to the first token of the value, so start from its location
+            final long startOffset = _offset(p.getTokenLocation());
+            final long start = System.nanoTime();
+            final Object value = _delegate.read(reader, p);
+            final long nanos = System.nanoTime() - start;
+            _listener.valueRead(_valueType, _length(startOffset, p), nanos);
+            return value;
+        }
+
+        @Override
+        public Object readNext(JSONReader reader, JsonParser p) throws IOException {
+            // parser not yet advanced: value starts after current location
+            final long startOffset = _offset(p.getCurrentLocation());
+            final long start = System.nanoTime();
+            final Object value = _delegate.readNext(reader, p);
+            final long nanos = System.nanoTime() - start;
+            _listener.valueRead(_valueType, _length(startOffset, p), nanos);
+            return value;
+        }
+
+        private static long _length(long startOffset, JsonParser p) {
+            if (startOffset < 0L) {
+                return -1L;
+            }
+            long endOffset = _offset(p.getCurrentLocation());
+            return (endOffset < startOffset) ? -1L : (endOffset - startOffset);
+        }
+
+        private static long _offset(JsonLocation loc) {
+            long offset = loc.getByteOffset();
+            return (offset < 0L) ? loc.getCharOffset() : offset;
+        }
+    }
+
+    /**
+     * {@link ValueWriter} that delegates actual writing, measuring elapsed time.
+     */
+    public static class MeasuringWriter implements ValueWriter
+    {
+        protected final Class<?> _valueType;
+
+        protected final ValueWriter _delegate;
+
+        protected final MetricsListener _listener;
+
+        public MeasuringWriter(Class<?> type, ValueWriter delegate, MetricsListener listener) {
+            _valueType = type;
+            _delegate = delegate;
+            _listener = listener;
+        }
+
+        /**
+         * Accessor for the actual writer being measured
+         */
+        public ValueWriter delegate() { return _delegate; }
+
+        @Override
+        public void writeValue(JSONWriter context, JsonGenerator g, Object value) throws IOException {
+            final long start = System.nanoTime();
+            _delegate.writeValue(context, g, value);
+            _listener.valueWritten(_valueType, -1L, System.nanoTime() - start);
+        }
+
+        @Override
+        public Class<?> valueType() {
+            return _valueType;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+
+/**
+ * A specialized {@link java.util.List} implementation used for JSON Arrays
+ * that only contain numbers of the same type ({@link Integer}s, {@link Long}s
+ * or {@link Double}s): values are stored in a primitive array, and only boxed
+ * when accessed.
+ * List is fully mutable: on first structural modification (or when setting
+ * value of different type) values are copied into a regular {@link ArrayList}
+ * that is then used for all access.
+ *
+ * @since 3.0
+ */
+public class NumberArrayList extends AbstractList<Object>
+    implements RandomAccess
+{
+    private int[] _ints;
+    private long[] _longs;
+    private double[] _doubles;
+
+    /**
+     * List used once contents are "inflated" due to modification; if non-null,
+     * primitive arrays are no longer used.
+     */
+    private List<Object> _list;
+
+    public NumberArrayList(int[] values) {
+        _ints = values;
+    }
+
+    public NumberArrayList(long[] values) {
+        _longs = values;
+    }
+
+    public NumberArrayList(double[] values) {
+        _doubles = values;
+    }
+
+    /*
+    /**********************************************************************
+    /* List implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public Object get(int index) {
+        if (_list != null) {
+            return _list.get(index);
+        }
+        if (_ints != null) {
+            return _ints[index];
+        }
+        if (_longs != null) {
+            return _longs[index];
+        }
+        return _doubles[index];
+    }
+
+    @Override
+    public int size() {
+        if (_list != null) {
+            return _list.size();
+        }
+        if (_ints != null) {
+            return _ints.length;
+        }
+        if (_longs != null) {
+            return _longs.length;
+        }
+        return _doubles.length;
+    }
+
+    @Override
+    public Object set(int index, Object value) {
+        if (_list == null) {
+            // Can retain compact representation if type matches:
+            if ((_ints != null) && (value instanceof Integer)) {
+                Object old = _ints[index];
+                _ints[index] = (Integer) value;
+                return old;
+            }
+            if ((_longs != null) && (value instanceof Long)) {
+                Object old = _longs[index];
+                _longs[index] = (Long) value;
+                return old;
+            }
+            if ((_doubles != null) && (value instanceof Double)) {
+                Object old = _doubles[index];
+                _doubles[index] = (Double) value;
+                return old;
+            }
+            _inflate();
+        }
+        return _list.set(index, value);
+    }
+
+    @Override
+    public void add(int index, Object value) {
+        if (_list == null) {
+            _inflate();
+        }
+        _list.add(index, value);
+        ++modCount;
+    }
+
+    @Override
+    public Object remove(int index) {
+        if (_list == null) {
+            _inflate();
+        }
+        Object old = _list.remove(index);
+        ++modCount;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        if (_list == null) {
+            _ints = null;
+            _longs = null;
+            _doubles = null;
+            _list = new ArrayList<Object>();
+        } else {
+            _list.clear();
+        }
+        ++modCount;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private void _inflate()
+    {
+        final int size = size();
+        List<Object> list = new ArrayList<Object>(size + (size >> 2) + 1);
+        for (int i = 0; i < size; ++i) {
+            list.add(get(i));
+        }
+        _ints = null;
+        _longs = null;
+        _doubles = null;
+        _list = list;
+    }
+}
@@ -26,14 +26,42 @@ public class POJODefinition
     public final Constructor<?> stringCtor;
     public final Constructor<?> longCtor;
 
+    /**
+     * Constructor that takes values of (some of) properties as arguments,
+     * if any: only used if there is no default constructor.
+     *
+     * @since 3.0
+     */
+    public final Constructor<?> creatorCtor;
+
+    /**
+     * Names of properties for arguments of {@link #creatorCtor}, if one defined;
+     * null otherwise.
+     *
+     * @since 3.0
+     */
+    public final String[] creatorParamNames;
+
     public POJODefinition(Class<?> type, Prop[] props,
             Constructor<?> defaultCtor0, Constructor<?> stringCtor0, Constructor<?> longCtor0)
+    {
+        this(type, props, defaultCtor0, stringCtor0, longCtor0, null, null);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public POJODefinition(Class<?> type, Prop[] props,
+            Constructor<?> defaultCtor0, Constructor<?> stringCtor0, Constructor<?> longCtor0,
+            Constructor<?> creatorCtor0, String[] creatorParamNames0)
     {
         _type = type;
         _properties = props;
         defaultCtor = defaultCtor0;
         stringCtor = stringCtor0;
         longCtor = longCtor0;
+        creatorCtor = creatorCtor0;
+        creatorParamNames = creatorParamNames0;
         _ignorableNames = null;
     }
 
@@ -45,6 +73,8 @@ public class POJODefinition
         defaultCtor = base.defaultCtor;
         stringCtor = base.stringCtor;
         longCtor = base.longCtor;
+        creatorCtor = base.creatorCtor;
+        creatorParamNames = base.creatorParamNames;
         _ignorableNames = ignorableN;
     }
 
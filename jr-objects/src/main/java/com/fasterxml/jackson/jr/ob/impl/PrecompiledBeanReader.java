@@ -0,0 +1,230 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+
+/**
+ * Base class for Bean readers generated at build time (for types annotated with
+ * {@link com.fasterxml.jackson.jr.ob.api.JrSerializable}): sub-classes construct
+ * instances and assign property values directly, without introspection
+ * or Reflection.
+ *<p>
+ * Readers for property values are resolved lazily, on first read, to allow
+ * for cyclic dependencies between types.
+ *<p>
+ * Reading into existing instances (see {@link JSONReader#readBeanInto}) is
+ * supported for types that have default constructor, but not for types
+ * constructed using properties-based creator.
+ *
+ * @since 3.0
+ */
+public abstract class PrecompiledBeanReader extends ValueReader
+{
+    /**
+     * Names of properties, in index order.
+     */
+    protected final String[] _propertyNames;
+
+    /**
+     * Readers for property values, in index order; resolved on first read.
+     * Only assigned once fully constructed, so volatile is enough for safe
+     * publication.
+     */
+    private volatile ValueReader[] _readers;
+
+    /**
+     * Names of properties to ignore (as if known but skipped), if any;
+     * resolved when first needed.
+     */
+    private volatile Set<String> _ignorableNames;
+
+    protected PrecompiledBeanReader(Class<?> valueType, String[] propertyNames) {
+        super(valueType);
+        _propertyNames = propertyNames;
+    }
+
+    /**
+     * Method called by generated providers to check whether generated readers
+     * can be used with given configuration: they are generated assuming default
+     * settings for features that affect introspection, and if those differ,
+     * standard (Reflection-based) readers need to be used instead.
+     * Generated readers also only match property names exactly.
+     */
+    public static boolean isCompatible(JSONReader r) {
+        return r.isEnabled(JSON.Feature.HANDLE_JAVA_BEANS)
+                && r.isEnabled(JSON.Feature.USE_FIELDS)
+                && r.isEnabled(JSON.Feature.FORCE_REFLECTION_ACCESS)
+                && !r.isEnabled(JSON.Feature.ACCEPT_CASE_INSENSITIVE_PROPERTIES);
+    }
+
+    /*
+    /**********************************************************************
+    /* Abstract methods for sub-classes
+    /**********************************************************************
+     */
+
+    /**
+     * Method called (once) to construct readers for property values, in index order.
+     */
+    protected abstract ValueReader[] _resolveReaders(JSONReader r);
+
+    /**
+     * Method for reading properties of a JSON Object into given existing bean
+     * instance, instead of constructing a new one; parser must point to
+     * the START_OBJECT token. Generated readers for types with default
+     * constructor override this method; default implementation fails.
+     *
+     * @param resetProperties Whether all properties of the Bean are to be reset
+     *    to default values ({@code null}, {@code 0}, {@code false}) before reading
+     *
+     * @return Bean instance passed in
+     */
+    public Object readInto(JSONReader r, JsonParser p, Object bean,
+            boolean resetProperties) throws IOException
+    {
+        throw JSONObjectException.from(p,
+                "Can not read into an existing instance of `%s`: type has properties-based creator",
+                _valueType.getName());
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper methods for sub-classes
+    /**********************************************************************
+     */
+
+    protected final ValueReader[] _readers(JSONReader r) {
+        ValueReader[] readers = _readers;
+        if (readers == null) {
+            _readers = readers = _resolveReaders(r);
+        }
+        return readers;
+    }
+
+    private Set<String> _ignorableNames(JSONReader r) {
+        Set<String> names = _ignorableNames;
+        if (names == null) {
+            _ignorableNames = names = r._readerLocator.findIgnorableNames(_valueType);
+        }
+        return names;
+    }
+
+    /**
+     * Method for locating reader for a non-generic type.
+     */
+    protected static ValueReader _findReader(JSONReader r, Class<?> type) {
+        return r._readerLocator.findReader(type);
+    }
+
+    protected final int _nextInt(JSONReader r, JsonParser p, ValueReader[] readers, int index)
+        throws IOException
+    {
+        if (p.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+            return p.getIntValue();
+        }
+        return ((Number) _readPrimitive(r, p, readers, index)).intValue();
+    }
+
+    protected final long _nextLong(JSONReader r, JsonParser p, ValueReader[] readers, int index)
+        throws IOException
+    {
+        if (p.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+            return p.getLongValue();
+        }
+        return ((Number) _readPrimitive(r, p, readers, index)).longValue();
+    }
+
+    protected final double _nextDouble(JSONReader r, JsonParser p, ValueReader[] readers, int index)
+        throws IOException
+    {
+        final JsonToken t = p.nextToken();
+        if ((t == JsonToken.VALUE_NUMBER_FLOAT) || (t == JsonToken.VALUE_NUMBER_INT)) {
+            return p.getDoubleValue();
+        }
+        return ((Number) _readPrimitive(r, p, readers, index)).doubleValue();
+    }
+
+    protected final boolean _nextBoolean(JSONReader r, JsonParser p, ValueReader[] readers, int index)
+        throws IOException
+    {
+        final JsonToken t = p.nextToken();
+        if (t == JsonToken.VALUE_TRUE) {
+            return true;
+        }
+        if (t == JsonToken.VALUE_FALSE) {
+            return false;
+        }
+        return ((Boolean) _readPrimitive(r, p, readers, index)).booleanValue();
+    }
+
+    /**
+     * Method for reading value of a primitive property of other types
+     * ({@code float}, {@code short}, {@code byte}, {@code char}), to unbox.
+     */
+    protected final Object _nextPrimitive(JSONReader r, JsonParser p, ValueReader[] readers, int index)
+        throws IOException
+    {
+        p.nextToken();
+        return _readPrimitive(r, p, readers, index);
+    }
+
+    private Object _readPrimitive(JSONReader r, JsonParser p, ValueReader[] readers, int index)
+        throws IOException
+    {
+        final Object value = readers[index].read(r, p);
+        if (value == null) {
+            throw JSONObjectException.from(p,
+                    "Can not assign `null` to primitive property '%s' of type `%s`",
+                    _propertyNames[index], _valueType.getName());
+        }
+        return value;
+    }
+
+    protected void _handleUnknown(JSONReader r, JsonParser p, String name) throws IOException
+    {
+        if (r.isEnabled(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                && !_ignorableNames(r).contains(name)) {
+            final String[] names = _propertyNames.clone();
+            Arrays.sort(names);
+            final StringBuilder sb = new StringBuilder(60);
+            for (int i = 0; i < names.length; ++i) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append('"').append(names[i]).append('"');
+            }
+            throw JSONObjectException.from(p,
+"Unrecognized JSON property \"%s\" for Bean type `%s` (known properties: [%s])",
+                    name, _valueType.getName(), sb.toString());
+        }
+        p.nextToken();
+        p.skipChildren();
+    }
+
+    protected Object _reportFailureToCreate(JsonParser p, Exception e) throws IOException
+    {
+        if (e instanceof IOException) {
+            throw (IOException) e;
+        }
+        throw JSONObjectException.from(p, e,
+                "Failed to create an instance of `%s` due to (%s): %s",
+                _valueType.getName(), e.getClass().getName(), e.getMessage());
+    }
+
+    protected Object _reportUnexpectedToken(JsonParser p) throws IOException {
+        throw JSONObjectException.from(p, "Can not create a %s instance out of %s",
+                _valueType.getName(), _tokenDesc(p));
+    }
+
+    protected IOException _reportProblem(JsonParser p) {
+        return JSONObjectException.from(p, "Unexpected token %s; should get FIELD_NAME or END_OBJECT",
+                p.currentToken());
+    }
+}
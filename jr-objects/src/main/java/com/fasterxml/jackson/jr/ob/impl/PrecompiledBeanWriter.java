@@ -0,0 +1,39 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.api.ValueWriter;
+
+/**
+ * Base class for Bean writers generated at build time (for types annotated with
+ * {@link com.fasterxml.jackson.jr.ob.api.JrSerializable}): sub-classes access
+ * property values directly, without introspection or Reflection, and write
+ * them using {@code JSONWriter.writeBeanProperty} methods.
+ *
+ * @since 3.0
+ */
+public abstract class PrecompiledBeanWriter implements ValueWriter
+{
+    protected final Class<?> _valueType;
+
+    protected PrecompiledBeanWriter(Class<?> valueType) {
+        _valueType = valueType;
+    }
+
+    /**
+     * Method called by generated providers to check whether generated writers
+     * can be used with given configuration: they are generated assuming default
+     * settings for features that affect introspection, and if those differ,
+     * standard (Reflection-based) writers need to be used instead.
+     */
+    public static boolean isCompatible(JSONWriter w) {
+        return w.isEnabled(JSON.Feature.HANDLE_JAVA_BEANS)
+                && w.isEnabled(JSON.Feature.USE_FIELDS)
+                && w.isEnabled(JSON.Feature.USE_IS_GETTERS)
+                && w.isEnabled(JSON.Feature.WRITE_READONLY_BEAN_PROPERTIES);
+    }
+
+    @Override
+    public Class<?> valueType() {
+        return _valueType;
+    }
+}
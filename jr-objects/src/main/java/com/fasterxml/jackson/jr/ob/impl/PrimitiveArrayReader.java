@@ -0,0 +1,290 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+
+/**
+ * Reader for Arrays of primitive number and {@code boolean} values
+ * ({@code int[]}, {@code long[]}, {@code double[]}, {@code float[]},
+ * {@code short[]} and {@code boolean[]}): values are collected into
+ * growable primitive buffers (recycled on per-thread basis) and trimmed
+ * into result array once all elements have been read.
+ *
+ * @since 3.0
+ */
+public class PrimitiveArrayReader extends ValueReader
+{
+    private final static int TYPE_INT = 1;
+    private final static int TYPE_LONG = 2;
+    private final static int TYPE_DOUBLE = 3;
+    private final static int TYPE_FLOAT = 4;
+    private final static int TYPE_SHORT = 5;
+    private final static int TYPE_BOOLEAN = 6;
+
+    private final static int INITIAL_BUFFER_SIZE = 64;
+
+    /**
+     * Maximum length of buffers retained for reuse: larger buffers are only
+     * used for reading a single (large) array, to avoid retaining excessive
+     * amounts of memory per thread.
+     */
+    private final static int MAX_RECYCLED_SIZE = 16000;
+
+    /**
+     * Per-thread holder of reusable buffers, similar to how
+     * {@link com.fasterxml.jackson.core.util.BufferRecycler} instances
+     * are retained by streaming parsers.
+     */
+    private final static ThreadLocal<SoftReference<Buffers>> _buffers
+        = new ThreadLocal<SoftReference<Buffers>>();
+
+    protected final int _elementType;
+
+    public PrimitiveArrayReader(Class<?> arrayType) {
+        super(arrayType);
+        _elementType = _elementType(arrayType);
+        if (_elementType == 0) {
+            throw new IllegalArgumentException("Unsupported array type "+arrayType.getName());
+        }
+    }
+
+    private static int _elementType(Class<?> arrayType) {
+        if (arrayType == int[].class) return TYPE_INT;
+        if (arrayType == long[].class) return TYPE_LONG;
+        if (arrayType == double[].class) return TYPE_DOUBLE;
+        if (arrayType == float[].class) return TYPE_FLOAT;
+        if (arrayType == short[].class) return TYPE_SHORT;
+        if (arrayType == boolean[].class) return TYPE_BOOLEAN;
+        return 0;
+    }
+
+    /**
+     * Helper method for checking whether reader can handle given primitive
+     * array type.
+     */
+    public static boolean isSupported(Class<?> arrayType) {
+        return _elementType(arrayType) != 0;
+    }
+
+    @Override
+    public Object readNext(JSONReader r, JsonParser p) throws IOException {
+        p.nextToken();
+        return read(r, p);
+    }
+
+    @Override
+    public Object read(JSONReader r, JsonParser p) throws IOException
+    {
+        if (!p.hasToken(JsonToken.START_ARRAY)) {
+            if (p.hasToken(JsonToken.VALUE_NULL)) {
+                return null;
+            }
+            throw JSONObjectException.from(p, "Unexpected token %s; should get START_ARRAY",
+                    p.currentToken());
+        }
+        switch (_elementType) {
+        case TYPE_INT:
+            return readIntArray(p);
+        case TYPE_LONG:
+            return readLongArray(p);
+        case TYPE_DOUBLE:
+            return readDoubleArray(p);
+        case TYPE_FLOAT:
+            return readFloatArray(p);
+        case TYPE_SHORT:
+            return readShortArray(p);
+        case TYPE_BOOLEAN:
+        default:
+            return readBooleanArray(p);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Read methods, per type; parser must point to START_ARRAY
+    /**********************************************************************
+     */
+
+    protected static int[] readIntArray(JsonParser p) throws IOException
+    {
+        final Buffers b = _buffers();
+        int[] buf = b.ints;
+        if (buf == null) {
+            buf = new int[INITIAL_BUFFER_SIZE];
+        }
+        int count = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            _verifyScalar(p, t, "int[]");
+            if (count == buf.length) {
+                buf = Arrays.copyOf(buf, _nextSize(count));
+            }
+            buf[count++] = p.getValueAsInt();
+        }
+        if (buf.length <= MAX_RECYCLED_SIZE) {
+            b.ints = buf;
+        }
+        return Arrays.copyOf(buf, count);
+    }
+
+    protected static long[] readLongArray(JsonParser p) throws IOException
+    {
+        final Buffers b = _buffers();
+        long[] buf = b.longs;
+        if (buf == null) {
+            buf = new long[INITIAL_BUFFER_SIZE];
+        }
+        int count = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            _verifyScalar(p, t, "long[]");
+            if (count == buf.length) {
+                buf = Arrays.copyOf(buf, _nextSize(count));
+            }
+            buf[count++] = p.getValueAsLong();
+        }
+        if (buf.length <= MAX_RECYCLED_SIZE) {
+            b.longs = buf;
+        }
+        return Arrays.copyOf(buf, count);
+    }
+
+    protected static double[] readDoubleArray(JsonParser p) throws IOException
+    {
+        final Buffers b = _buffers();
+        double[] buf = b.doubles;
+        if (buf == null) {
+            buf = new double[INITIAL_BUFFER_SIZE];
+        }
+        int count = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            _verifyScalar(p, t, "double[]");
+            if (count == buf.length) {
+                buf = Arrays.copyOf(buf, _nextSize(count));
+            }
+            buf[count++] = p.getValueAsDouble();
+        }
+        if (buf.length <= MAX_RECYCLED_SIZE) {
+            b.doubles = buf;
+        }
+        return Arrays.copyOf(buf, count);
+    }
+
+    protected static float[] readFloatArray(JsonParser p) throws IOException
+    {
+        final Buffers b = _buffers();
+        float[] buf = b.floats;
+        if (buf == null) {
+            buf = new float[INITIAL_BUFFER_SIZE];
+        }
+        int count = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            _verifyScalar(p, t, "float[]");
+            if (count == buf.length) {
+                buf = Arrays.copyOf(buf, _nextSize(count));
+            }
+            buf[count++] = (float) p.getValueAsDouble();
+        }
+        if (buf.length <= MAX_RECYCLED_SIZE) {
+            b.floats = buf;
+        }
+        return Arrays.copyOf(buf, count);
+    }
+
+    protected static short[] readShortArray(JsonParser p) throws IOException
+    {
+        final Buffers b = _buffers();
+        short[] buf = b.shorts;
+        if (buf == null) {
+            buf = new short[INITIAL_BUFFER_SIZE];
+        }
+        int count = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            _verifyScalar(p, t, "short[]");
+            if (count == buf.length) {
+                buf = Arrays.copyOf(buf, _nextSize(count));
+            }
+            buf[count++] = (short) p.getValueAsInt();
+        }
+        if (buf.length <= MAX_RECYCLED_SIZE) {
+            b.shorts = buf;
+        }
+        return Arrays.copyOf(buf, count);
+    }
+
+    protected static boolean[] readBooleanArray(JsonParser p) throws IOException
+    {
+        final Buffers b = _buffers();
+        boolean[] buf = b.booleans;
+        if (buf == null) {
+            buf = new boolean[INITIAL_BUFFER_SIZE];
+        }
+        int count = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            _verifyScalar(p, t, "boolean[]");
+            if (count == buf.length) {
+                buf = Arrays.copyOf(buf, _nextSize(count));
+            }
+            buf[count++] = p.getValueAsBoolean();
+        }
+        if (buf.length <= MAX_RECYCLED_SIZE) {
+            b.booleans = buf;
+        }
+        return Arrays.copyOf(buf, count);
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper methods
+    /**********************************************************************
+     */
+
+    private static void _verifyScalar(JsonParser p, JsonToken t, String arrayDesc)
+        throws IOException
+    {
+        if ((t == null) || !t.isScalarValue()) {
+            throw JSONObjectException.from(p, "Unexpected token %s for element of `%s`",
+                    t, arrayDesc);
+        }
+    }
+
+    private static int _nextSize(int size) {
+        // grow by 50%, similar to `ArrayList`
+        return size + (size >> 1);
+    }
+
+    private static Buffers _buffers()
+    {
+        SoftReference<Buffers> ref = _buffers.get();
+        Buffers b = (ref == null) ? null : ref.get();
+        if (b == null) {
+            b = new Buffers();
+            _buffers.set(new SoftReference<Buffers>(b));
+        }
+        return b;
+    }
+
+    /**
+     * Container for reusable buffers; buffers are lazily created when first
+     * needed, and grown up to {@link #MAX_RECYCLED_SIZE}. Since elements are
+     * read without recursion, a single instance per thread suffices.
+     */
+    private final static class Buffers
+    {
+        int[] ints;
+        long[] longs;
+        double[] doubles;
+        float[] floats;
+        short[] shorts;
+        boolean[] booleans;
+    }
+}
@@ -0,0 +1,352 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Helper class for constructing accessors for Bean properties that avoid
+ * Reflection-based access ({@link Method#invoke}), when
+ * {@link com.fasterxml.jackson.jr.ob.JSON.Feature#USE_METHOD_HANDLES} is enabled.
+ *<p>
+ * Accessors for methods are spun using {@link LambdaMetafactory}, so that calls are
+ * direct (and can be inlined by JIT) instead of going through non-constant
+ * {@link MethodHandle}s. This is only possible for public (non-static) methods
+ * of public classes visible to this class. For public methods of classes not
+ * visible to this class (for example, ones loaded by a child class loader),
+ * as well as for public fields (not supported by {@link LambdaMetafactory}),
+ * accessors invoke {@link MethodHandle}s instead, without boxing avoidance.
+ * For other methods and fields, no accessor is constructed and Reflection
+ * is used instead.
+ *
+ * @since 3.0
+ */
+public final class PropertyAccessors
+{
+    /**
+     * Accessor for getting value of a property of given Bean.
+     */
+    public interface Getter {
+        public Object get(Object bean) throws Exception;
+    }
+
+    /**
+     * Accessor for setting value of a property of given Bean.
+     */
+    public interface Setter {
+        public void set(Object bean, Object value) throws Exception;
+    }
+
+    // // // Accessors for primitive values, to avoid boxing
+
+    public interface IntGetter {
+        public int get(Object bean) throws Exception;
+    }
+
+    public interface LongGetter {
+        public long get(Object bean) throws Exception;
+    }
+
+    public interface DoubleGetter {
+        public double get(Object bean) throws Exception;
+    }
+
+    public interface FloatGetter {
+        public float get(Object bean) throws Exception;
+    }
+
+    public interface BooleanGetter {
+        public boolean get(Object bean) throws Exception;
+    }
+
+    public interface IntSetter {
+        public void set(Object bean, int value) throws Exception;
+    }
+
+    public interface LongSetter {
+        public void set(Object bean, long value) throws Exception;
+    }
+
+    public interface DoubleSetter {
+        public void set(Object bean, double value) throws Exception;
+    }
+
+    public interface BooleanSetter {
+        public void set(Object bean, boolean value) throws Exception;
+    }
+
+    private final static MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private PropertyAccessors() { }
+
+    /*
+    /**********************************************************************
+    /* Factory methods
+    /**********************************************************************
+     */
+
+    /**
+     * Factory method for constructing accessor for reading value of
+     * property using given getter.
+     *
+     * @return Accessor constructed, if possible; {@code null} if not
+     *   (in which case caller needs to use Reflection)
+     */
+    public static Getter getterFor(Method getter)
+    {
+        final Class<?> valueType = getter.getReturnType();
+        Getter g = (Getter) _spin(getter, valueType, "get", Getter.class,
+                MethodType.methodType(Object.class, Object.class),
+                MethodType.methodType(_wrap(valueType), getter.getDeclaringClass()));
+        if ((g == null) && _canAccess(getter)) {
+            try {
+                g = new HandleGetter(LOOKUP.unreflect(getter)
+                        .asType(MethodType.methodType(Object.class, Object.class)));
+            } catch (Exception e) { } // if not, Reflection will have to do
+        }
+        return g;
+    }
+
+    /**
+     * Factory method for constructing accessor for assigning value of
+     * property using given setter.
+     *
+     * @return Accessor constructed, if possible; {@code null} if not
+     *   (in which case caller needs to use Reflection)
+     */
+    public static Setter setterFor(Method setter)
+    {
+        final Class<?> valueType = setter.getParameterTypes()[0];
+        Setter s = (Setter) _spin(setter, valueType, "set", Setter.class,
+                MethodType.methodType(Void.TYPE, Object.class, Object.class),
+                MethodType.methodType(Void.TYPE, setter.getDeclaringClass(), _wrap(valueType)));
+        if ((s == null) && _canAccess(setter)) {
+            try {
+                s = new HandleSetter(LOOKUP.unreflect(setter)
+                        .asType(MethodType.methodType(Void.TYPE, Object.class, Object.class)));
+            } catch (Exception e) { } // if not, Reflection will have to do
+        }
+        return s;
+    }
+
+    /**
+     * Factory method for constructing accessor for calling given getter that
+     * returns a primitive value, without boxing: returned accessor is one of
+     * {@link IntGetter}, {@link LongGetter}, {@link DoubleGetter},
+     * {@link FloatGetter} or {@link BooleanGetter}, matching return type
+     * of the getter.
+     *
+     * @return Accessor constructed, if possible; {@code null} if not
+     *   (in which case caller needs to use Reflection)
+     */
+    public static Object primitiveGetterFor(Method getter)
+    {
+        final Class<?> valueType = getter.getReturnType();
+        final Class<?> accessorType;
+        if (valueType == Integer.TYPE) {
+            accessorType = IntGetter.class;
+        } else if (valueType == Long.TYPE) {
+            accessorType = LongGetter.class;
+        } else if (valueType == Double.TYPE) {
+            accessorType = DoubleGetter.class;
+        } else if (valueType == Float.TYPE) {
+            accessorType = FloatGetter.class;
+        } else if (valueType == Boolean.TYPE) {
+            accessorType = BooleanGetter.class;
+        } else {
+            return null;
+        }
+        return _spin(getter, valueType, "get", accessorType,
+                MethodType.methodType(valueType, Object.class),
+                MethodType.methodType(valueType, getter.getDeclaringClass()));
+    }
+
+    /**
+     * Factory method for constructing accessor for calling given setter that
+     * takes a primitive value, without boxing: returned accessor is one of
+     * {@link IntSetter}, {@link LongSetter}, {@link DoubleSetter} or
+     * {@link BooleanSetter}, matching parameter type of the setter.
+     *
+     * @return Accessor constructed, if possible; {@code null} if not
+     *   (in which case caller needs to use Reflection)
+     */
+    public static Object primitiveSetterFor(Method setter)
+    {
+        final Class<?> valueType = setter.getParameterTypes()[0];
+        final Class<?> accessorType;
+        if (valueType == Integer.TYPE) {
+            accessorType = IntSetter.class;
+        } else if (valueType == Long.TYPE) {
+            accessorType = LongSetter.class;
+        } else if (valueType == Double.TYPE) {
+            accessorType = DoubleSetter.class;
+        } else if (valueType == Boolean.TYPE) {
+            accessorType = BooleanSetter.class;
+        } else {
+            return null;
+        }
+        return _spin(setter, valueType, "set", accessorType,
+                MethodType.methodType(Void.TYPE, Object.class, valueType),
+                MethodType.methodType(Void.TYPE, setter.getDeclaringClass(), valueType));
+    }
+
+    /**
+     * Factory method for constructing accessor for reading value of
+     * given public field.
+     *
+     * @return Accessor constructed, if possible; {@code null} if not
+     *   (in which case caller needs to use Reflection)
+     */
+    public static Getter getterFor(Field field)
+    {
+        if (!_canAccess(field)) {
+            return null;
+        }
+        try {
+            return new HandleGetter(LOOKUP.unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, Object.class)));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Factory method for constructing accessor for assigning value of
+     * given public (non-final) field.
+     *
+     * @return Accessor constructed, if possible; {@code null} if not
+     *   (in which case caller needs to use Reflection)
+     */
+    public static Setter setterFor(Field field)
+    {
+        if (!_canAccess(field) || Modifier.isFinal(field.getModifiers())) {
+            return null;
+        }
+        try {
+            return new HandleSetter(LOOKUP.unreflectSetter(field)
+                    .asType(MethodType.methodType(Void.TYPE, Object.class, Object.class)));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private static Object _spin(Method m, Class<?> valueType,
+            String name, Class<?> accessorType,
+            MethodType samType, MethodType instantiatedType)
+    {
+        if (!_canSpin(m, valueType)) {
+            return null;
+        }
+        try {
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP, name,
+                    MethodType.methodType(accessorType),
+                    samType, LOOKUP.unreflect(m), instantiatedType);
+            return site.getTarget().invoke();
+        } catch (Throwable t) { // can fail due to access restrictions; Reflection will have to do
+            return null;
+        }
+    }
+
+    /**
+     * Spun accessor classes are linked using class loader of this class, and
+     * without access to non-public members, so we need to verify that
+     * all types involved are accessible.
+     */
+    private static boolean _canSpin(Method m, Class<?> valueType)
+    {
+        if (!Modifier.isPublic(m.getModifiers())
+                // static "setters" would need different signature
+                || Modifier.isStatic(m.getModifiers())) {
+            return false;
+        }
+        return _isVisible(m.getDeclaringClass()) && _isVisible(valueType);
+    }
+
+    private static boolean _isVisible(Class<?> cls)
+    {
+        while (cls.isArray()) {
+            cls = cls.getComponentType();
+        }
+        if (cls.isPrimitive()) {
+            return true;
+        }
+        if (!Modifier.isPublic(cls.getModifiers())) {
+            return false;
+        }
+        final ClassLoader ourLoader = PropertyAccessors.class.getClassLoader();
+        if (cls.getClassLoader() == ourLoader) {
+            return true;
+        }
+        try {
+            return Class.forName(cls.getName(), false, ourLoader) == cls;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Access using {@link MethodHandle}s only requires member and its declaring
+     * class to be public: unlike with spun accessors, class loader does not matter.
+     */
+    private static boolean _canAccess(Member m)
+    {
+        final int mods = m.getModifiers();
+        return Modifier.isPublic(mods) && !Modifier.isStatic(mods)
+                && Modifier.isPublic(m.getDeclaringClass().getModifiers());
+    }
+
+    private static Class<?> _wrap(Class<?> type) {
+        if (type.isPrimitive()) {
+            return MethodType.methodType(type).wrap().returnType();
+        }
+        return type;
+    }
+
+    private final static class HandleGetter implements Getter
+    {
+        private final MethodHandle _handle;
+
+        HandleGetter(MethodHandle h) {
+            _handle = h;
+        }
+
+        @Override
+        public Object get(Object bean) throws Exception {
+            try {
+                return (Object) _handle.invokeExact(bean);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+    }
+
+    private final static class HandleSetter implements Setter
+    {
+        private final MethodHandle _handle;
+
+        HandleSetter(MethodHandle h) {
+            _handle = h;
+        }
+
+        @Override
+        public void set(Object bean, Object value) throws Exception {
+            try {
+                _handle.invokeExact(bean, value);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+
+/**
+ * A specialized {@link java.util.Map} implementation used for JSON Objects
+ * when {@link com.fasterxml.jackson.jr.ob.JSON.Feature#USE_SHAPED_MAPS} is
+ * enabled: keys are stored in a {@link MapShape} shared by all Maps with the same
+ * key sequence, and each Map only holds its values.
+ *<p>
+ * Replacing value of an existing key retains shared shape; but other
+ * modifications (adding or removing keys) cause contents to be copied into
+ * a private {@link java.util.Map}, to which all access is delegated from that
+ * point on.
+ *
+ * @since 3.0
+ */
+public class ShapedMap extends AbstractMap<String, Object>
+{
+    private final boolean _ordered;
+
+    private MapShape _shape;
+
+    private Object[] _values;
+
+    /**
+     * Private Map used once contents have been modified; if non-null,
+     * shape and values are no longer used.
+     */
+    private Map<String, Object> _map;
+
+    public ShapedMap(MapShape shape, Object[] values, boolean ordered) {
+        _shape = shape;
+        _values = values;
+        _ordered = ordered;
+    }
+
+    /*
+    /**********************************************************************
+    /* Map implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public int size() {
+        return (_map == null) ? _values.length : _map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (_map != null) {
+            return _map.containsKey(key);
+        }
+        return _shape.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (_map != null) {
+            return _map.get(key);
+        }
+        int ix = _shape.indexOf(key);
+        return (ix < 0) ? null : _values[ix];
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (_map == null) {
+            int ix = _shape.indexOf(key);
+            if (ix >= 0) {
+                Object old = _values[ix];
+                _values[ix] = value;
+                return old;
+            }
+            _makePrivate();
+        }
+        return _map.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (_map == null) {
+            if (_shape.indexOf(key) < 0) {
+                return null;
+            }
+            _makePrivate();
+        }
+        return _map.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        if (_map == null) {
+            _makePrivate();
+        }
+        _map.clear();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (_map != null) {
+            return _map.entrySet();
+        }
+        return new EntrySet();
+    }
+
+    /*
+    /**********************************************************************
+    /* Extended API
+    /**********************************************************************
+     */
+
+    /**
+     * Accessor for shared shape of this Map, if it still has one; {@code null}
+     * if Map has been modified to have a private copy of its contents.
+     */
+    public MapShape shape() {
+        return (_map == null) ? _shape : null;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private void _makePrivate()
+    {
+        final int len = _values.length;
+        final int size = len + (len >> 1) + 2;
+        Map<String, Object> map = _ordered
+                ? new LinkedHashMap<String, Object>(size)
+                : new HashMap<String, Object>(size);
+        for (int i = 0; i < len; ++i) {
+            map.put(_shape.keyAt(i), _values[i]);
+        }
+        _shape = null;
+        _values = null;
+        _map = map;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>>
+    {
+        @Override
+        public int size() {
+            return ShapedMap.this.size();
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator()
+        {
+            // view may outlive copying of contents into private Map
+            if (_map != null) {
+                return _map.entrySet().iterator();
+            }
+            return new ShapeIterator();
+        }
+    }
+
+    /**
+     * Iterator over shared-shape contents; if an entry is removed, contents
+     * are copied into a private Map, and iteration continues over the original
+     * keys and values.
+     */
+    private final class ShapeIterator implements Iterator<Entry<String, Object>>
+    {
+        private final MapShape _iterShape = _shape;
+        private final Object[] _iterValues = _values;
+
+        /**
+         * Private Map this iterator expects to be in use: {@code null} until
+         * iterator itself removes an entry.
+         */
+        private Map<String, Object> _expectedMap;
+
+        private int _index;
+        private boolean _canRemove;
+
+        @Override
+        public boolean hasNext() {
+            return _index < _iterValues.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            _checkForComodification();
+            _canRemove = true;
+            final int ix = _index++;
+            return new SimpleEntry<String, Object>(_iterShape.keyAt(ix), _iterValues[ix]) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public Object setValue(Object value) {
+                    _checkForComodification();
+                    if (_map == null) {
+                        _iterValues[ix] = value;
+                    } else if (_map.containsKey(getKey())) { // unless removed
+                        _map.put(getKey(), value);
+                    }
+                    return super.setValue(value);
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if (!_canRemove) {
+                throw new IllegalStateException();
+            }
+            _checkForComodification();
+            _canRemove = false;
+            if (_map == null) {
+                _makePrivate();
+                _expectedMap = _map;
+            }
+            _map.remove(_iterShape.keyAt(_index-1));
+        }
+
+        private void _checkForComodification() {
+            if (_map != _expectedMap) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -244,8 +244,13 @@ public class SimpleValueReader extends ValueReader
     
     protected int[] _readIntArray(JsonParser p) throws IOException
     {
-        // !!! TODO
-        throw new JSONObjectException("Reading of int[] not yet implemented");
+        if (!p.hasToken(JsonToken.START_ARRAY)) {
+            if (p.hasToken(JsonToken.VALUE_NULL)) {
+                return null;
+            }
+            throw JSONObjectException.from(p, "Can not create a `int[]` instance out of "+_tokenDesc(p));
+        }
+        return PrimitiveArrayReader.readIntArray(p);
     }
 
     protected long _fetchLong(JsonParser p) throws IOException
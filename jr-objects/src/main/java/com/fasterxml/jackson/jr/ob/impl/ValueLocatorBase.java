@@ -9,6 +9,7 @@ import java.util.*;
 
 import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.Lazy;
 
 abstract class ValueLocatorBase
 {
@@ -117,6 +118,32 @@ abstract class ValueLocatorBase
      */
     public final static int SER_ITERABLE = 32;
 
+    // // // Other
+
+    /**
+     * {@link Lazy} value: either bound value or raw JSON content, if not yet bound
+     *
+     * @since 3.0
+     */
+    public final static int SER_LAZY = 33;
+
+    // // // Arrays of other primitive types (added later; hence not grouped with others)
+
+    /**
+     * @since 3.0
+     */
+    public final static int SER_DOUBLE_ARRAY = 34;
+
+    /**
+     * @since 3.0
+     */
+    public final static int SER_FLOAT_ARRAY = 35;
+
+    /**
+     * @since 3.0
+     */
+    public final static int SER_SHORT_ARRAY = 36;
+
     /*
     /**********************************************************************
     /* Other constants
@@ -154,6 +181,15 @@ abstract class ValueLocatorBase
                 if (raw == boolean[].class) {
                     return SER_BOOLEAN_ARRAY;
                 }
+                if (raw == double[].class) {
+                    return SER_DOUBLE_ARRAY;
+                }
+                if (raw == float[].class) {
+                    return SER_FLOAT_ARRAY;
+                }
+                if (raw == short[].class) {
+                    return SER_SHORT_ARRAY;
+                }
                 // Hmmh. Could support all types; add as/when needed
                 return SER_UNKNOWN;
             }
@@ -238,6 +274,9 @@ abstract class ValueLocatorBase
         if (CharSequence.class.isAssignableFrom(raw)) {
             return SER_CHARACTER_SEQUENCE;
         }
+        if (raw == Lazy.class) {
+            return SER_LAZY;
+        }
         /* `Iterable` can be added on all kinds of things, and it won't
          * help at all with deserialization; hence only use for serialization.
          */
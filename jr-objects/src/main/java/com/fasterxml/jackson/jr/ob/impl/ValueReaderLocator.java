@@ -2,10 +2,12 @@ package com.fasterxml.jackson.jr.ob.impl;
 
 import java.lang.reflect.*;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 import com.fasterxml.jackson.core.TokenStreamFactory;
 import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.Lazy;
+import com.fasterxml.jackson.jr.ob.Projection;
+import com.fasterxml.jackson.jr.ob.api.MetricsListener;
 import com.fasterxml.jackson.jr.ob.api.ReaderWriterModifier;
 import com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider;
 import com.fasterxml.jackson.jr.ob.api.ValueReader;
@@ -31,8 +33,10 @@ public class ValueReaderLocator
      * While we should be able to cache all types in the active working set,
      * we should also avoid potential unbounded retention, since there is
      * often just one big instance per JVM (or at least ClassLoader).
+     * This is the default maximum; may be changed with
+     * {@link com.fasterxml.jackson.jr.ob.JSON.Builder#readerCacheSize(int)}.
      */
-    protected final static int MAX_CACHED_READERS = 500;
+    public final static int MAX_CACHED_READERS = 500;
 
     /*
     /**********************************************************************
@@ -68,6 +72,30 @@ public class ValueReaderLocator
      */
     protected final ReaderWriterModifier _readerModifier;
 
+    /**
+     * Listener to notify of introspection and cache events, if any; may be null.
+     *
+     * @since 3.0
+     */
+    protected final MetricsListener _metrics;
+
+    /**
+     * Projections (subsets of properties to read) by Bean type, if any;
+     * empty {@link Map} if none.
+     *
+     * @since 3.0
+     */
+    protected final Map<Class<?>, Projection> _projections;
+
+    /**
+     * Key variant for readers constructed using {@link #_projections}, to
+     * keep them apart from readers of same types without projections in
+     * shared reader cache; {@code null} if no projections.
+     *
+     * @since 3.0
+     */
+    private final ProjectionsKey _projectionsKey;
+
     /*
     /**********************************************************************
     /* Caching
@@ -75,9 +103,10 @@ public class ValueReaderLocator
      */
     
     /**
-     * Set of {@link ValueReader}s that we have resolved
+     * Set of {@link ValueReader}s that we have resolved; bounded in size,
+     * with least recently used readers evicted as necessary (since 3.0).
      */
-    protected final ConcurrentHashMap<ClassKey, ValueReader> _knownReaders;
+    protected final ClockCache<ClassKey, ValueReader> _knownReaders;
 
     /**
      * During resolution, some readers may be in-progress, but need to be
@@ -126,12 +155,26 @@ public class ValueReaderLocator
      */
     protected ValueReaderLocator(TokenStreamFactory streamF,
             ReaderWriterProvider rwp, ReaderWriterModifier rwm)
+    {
+        this(streamF, rwp, rwm, MAX_CACHED_READERS);
+    }
+
+    /**
+     * Constructor for the blueprint instance
+     *
+     * @since 3.0
+     */
+    protected ValueReaderLocator(TokenStreamFactory streamF,
+            ReaderWriterProvider rwp, ReaderWriterModifier rwm, int maxCachedReaders)
     {
         _streamFactory = streamF;
         _features = 0;
         _readerProvider = rwp;
         _readerModifier = rwm;
-        _knownReaders = new ConcurrentHashMap<ClassKey, ValueReader>(10, 0.75f, 2);
+        _metrics = null;
+        _projections = Collections.emptyMap();
+        _projectionsKey = null;
+        _knownReaders = new ClockCache<ClassKey, ValueReader>(maxCachedReaders, false);
         _typeResolver = new TypeResolver();
         _readerLock = new Object();
         _readContext = null;
@@ -143,6 +186,9 @@ public class ValueReaderLocator
         _readContext = r;
         _readerProvider = base._readerProvider;
         _readerModifier = base._readerModifier;
+        _metrics = base._metrics;
+        _projections = base._projections;
+        _projectionsKey = base._projectionsKey;
         _knownReaders = base._knownReaders;
         _typeResolver = base._typeResolver;
         _readerLock = base._readerLock;
@@ -150,16 +196,50 @@ public class ValueReaderLocator
 
     protected ValueReaderLocator(ValueReaderLocator base,
             ReaderWriterProvider rwp, ReaderWriterModifier rwm)
+    {
+        this(base, rwp, rwm, base._metrics);
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected ValueReaderLocator(ValueReaderLocator base,
+            ReaderWriterProvider rwp, ReaderWriterModifier rwm, MetricsListener metrics)
     {
         _streamFactory = base._streamFactory;
-        // create new cache as there may be custom writers:
-        _knownReaders = new ConcurrentHashMap<ClassKey, ValueReader>(10, 0.75f, 2);
+        // create new cache as there may be custom writers; hits only counted
+        // if someone is listening
+        _knownReaders = new ClockCache<ClassKey, ValueReader>(base._knownReaders.capacity(),
+                (metrics != null));
         _readerLock = new Object();
-        
+
         _features = base._features;
         _readContext = base._readContext;
         _readerProvider = rwp;
         _readerModifier = rwm;
+        _metrics = metrics;
+        _projections = base._projections;
+        _projectionsKey = base._projectionsKey;
+        _typeResolver = base._typeResolver;
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected ValueReaderLocator(ValueReaderLocator base, Map<Class<?>, Projection> projections)
+    {
+        _streamFactory = base._streamFactory;
+        // readers are shared, but keyed by projections used
+        _knownReaders = base._knownReaders;
+        _readerLock = base._readerLock;
+
+        _features = base._features;
+        _readContext = base._readContext;
+        _readerProvider = base._readerProvider;
+        _readerModifier = base._readerModifier;
+        _metrics = base._metrics;
+        _projections = projections;
+        _projectionsKey = projections.isEmpty() ? null : new ProjectionsKey(projections);
         _typeResolver = base._typeResolver;
     }
 
@@ -168,6 +248,17 @@ public class ValueReaderLocator
         return new ValueReaderLocator(streamF, rwp, rwm);
     }
 
+    /**
+     * @param maxCachedReaders Maximum number of {@link ValueReader}s to retain;
+     *    if exceeded, least recently used readers are evicted
+     *
+     * @since 3.0
+     */
+    public final static ValueReaderLocator blueprint(TokenStreamFactory streamF,
+            ReaderWriterProvider rwp, ReaderWriterModifier rwm, int maxCachedReaders) {
+        return new ValueReaderLocator(streamF, rwp, rwm, maxCachedReaders);
+    }
+
     public ValueReaderLocator with(ReaderWriterProvider rwp) {
         if (rwp == _readerProvider) {
             return this;
@@ -181,7 +272,40 @@ public class ValueReaderLocator
         }
         return new ValueReaderLocator(this, _readerProvider, rwm);
     }
+
+    /**
+     * @since 3.0
+     */
+    public ValueReaderLocator with(MetricsListener metrics) {
+        if (metrics == _metrics) {
+            return this;
+        }
+        return new ValueReaderLocator(this, _readerProvider, _readerModifier, metrics);
+    }
     
+    /**
+     * Mutant factory for constructing locator that uses given projections
+     * (in addition to ones this locator has, if any; replacing ones for same types)
+     * when constructing Bean readers. Resulting locator shares reader cache
+     * with this locator, but readers are cached separately for each set of
+     * projections.
+     *
+     * @since 3.0
+     */
+    public ValueReaderLocator withProjections(Projection... projections) {
+        if (projections.length == 0) {
+            return this;
+        }
+        Map<Class<?>, Projection> result = new HashMap<>(_projections);
+        for (Projection projection : projections) {
+            result.put(projection.getType(), projection);
+        }
+        if (result.equals(_projections)) {
+            return this;
+        }
+        return new ValueReaderLocator(this, Collections.unmodifiableMap(result));
+    }
+
     public ValueReaderLocator perOperationInstance(JSONReader r, int features) {
         return new ValueReaderLocator(this, features & CACHE_FLAGS, r);
     }
@@ -196,6 +320,18 @@ public class ValueReaderLocator
 
     public ReaderWriterModifier readerWriterModifier() { return _readerModifier; }
 
+    /**
+     * Accessor for statistics of caches used by this locator: {@link ValueReader}s
+     * and resolved generic types.
+     *
+     * @since 3.0
+     */
+    public List<CacheStats> cacheStats() {
+        return Arrays.asList(
+                _knownReaders.stats("readers"),
+                _typeResolver.cacheStats());
+    }
+
     /*
     /**********************************************************************
     /* Public API, operations
@@ -214,7 +350,8 @@ public class ValueReaderLocator
      */
     public ValueReader findReader(Class<?> raw)
     {
-        ClassKey k = (_key == null) ? new ClassKey(raw, _features) : _key.with(raw, _features);
+        ClassKey k = (_key == null) ? new ClassKey(raw, _features, _projectionsKey)
+                : _key.with(raw, _features, _projectionsKey);
         ValueReader vr = _knownReaders.get(k);
         if (vr != null) {
             return vr;
@@ -222,10 +359,36 @@ public class ValueReaderLocator
         vr = createReader(null, raw, raw);
         // 15-Jun-2016, tatu: Let's limit maximum number of readers to prevent
         //   unbounded memory retention (at least wrt readers)
-        if (_knownReaders.size() >= MAX_CACHED_READERS) {
-            _knownReaders.clear();
+        //   ... but only evict least recently used ones, instead of
+        //   clearing everything (and forcing re-introspection of hot types)
+        final int evicted = _knownReaders.putIfAbsent(new ClassKey(raw, _features, _projectionsKey), vr);
+        if ((evicted > 0) && (_metrics != null)) {
+            _metrics.readersEvicted(evicted);
+        }
+        return vr;
+    }
+
+    /**
+     * Method similar to {@link #findReader}, but one that looks through wrapper
+     * readers added by {@link MetricsModifier}, to find the actual reader
+     * that handles given type: needed for operations like reading into
+     * existing Bean instances, that are only supported by Bean readers.
+     *<p>
+     * Note that readers wrapped by custom {@link ReaderWriterModifier}s can not
+     * be unwrapped.
+     *
+     * @param raw Type-erased type of value to find reader for
+     *
+     * @return ValueReader that actually handles values of given type
+     *
+     * @since 3.0
+     */
+    public ValueReader findBeanReader(Class<?> raw)
+    {
+        ValueReader vr = findReader(raw);
+        while (vr instanceof MetricsModifier.MeasuringReader) {
+            vr = ((MetricsModifier.MeasuringReader) vr).delegate();
         }
-        _knownReaders.putIfAbsent(new ClassKey(raw, _features), vr);
         return vr;
     }
 
@@ -276,10 +439,16 @@ public class ValueReaderLocator
         // simple type check, to allow overriding handling of `String` etc
         if (_readerProvider != null) {
             ValueReader r = _readerProvider.findValueReader(_readContext, type);
-            if (r != null) {
+            // Generated readers can not be projected, so need to use standard
+            // reader if projection is used; custom readers are used as is
+            if ((r != null)
+                    && !((r instanceof PrecompiledBeanReader) && _projections.containsKey(type))) {
                 return r;
             }
         }
+        if (type == Lazy.class) {
+            return lazyReader(contextType, genericType);
+        }
         int typeId = _findSimpleType(type, false);
         if (typeId > 0) {
             return new SimpleValueReader(type, typeId);
@@ -300,6 +469,9 @@ public class ValueReaderLocator
             return new ArrayReader(arrayType, elemType,
                     createReader(contextType, elemType, elemType));
         }
+        if (PrimitiveArrayReader.isSupported(arrayType)) {
+            return new PrimitiveArrayReader(arrayType);
+        }
         int typeId = _findSimpleType(arrayType, false);
         if (typeId > 0) {
             return new SimpleValueReader(arrayType, typeId);
@@ -316,6 +488,30 @@ public class ValueReaderLocator
         return new EnumReader(enumType, enums, byName);
     }
 
+    /**
+     * @since 3.0
+     */
+    protected ValueReader lazyReader(Class<?> contextType, Type lazyType)
+    {
+        ResolvedType t = _typeResolver.resolve(_bindings(contextType), lazyType);
+        List<ResolvedType> params = t.typeParametersFor(Lazy.class);
+        final ValueReader valueReader;
+        if ((params == null) || params.isEmpty()) {
+            valueReader = AnyReader.std;
+        } else {
+            final ResolvedType valueType = params.get(0);
+            final Class<?> rawValueType = valueType.erasedType();
+            if (Collection.class.isAssignableFrom(rawValueType)) {
+                valueReader = collectionReader(rawValueType, valueType.typeParametersFor(Collection.class).get(0));
+            } else if (Map.class.isAssignableFrom(rawValueType)) {
+                valueReader = mapReader(rawValueType, valueType.typeParametersFor(Map.class).get(1));
+            } else {
+                valueReader = findReader(rawValueType);
+            }
+        }
+        return new LazyReader(_streamFactory, valueReader);
+    }
+
     protected ValueReader collectionReader(Class<?> contextType, Type collectionType)
     {
         ResolvedType t = _typeResolver.resolve(_bindings(contextType), collectionType);
@@ -381,7 +577,7 @@ public class ValueReaderLocator
     {
         // NOTE: caller (must) handle custom reader lookup earlier, not done here
 
-        final ClassKey key = new ClassKey(type, _features);
+        final ClassKey key = new ClassKey(type, _features, _projectionsKey);
         synchronized (_readerLock) {
             if (_incompleteReaders == null) {
                 _incompleteReaders = new HashMap<ClassKey, ValueReader>();
@@ -391,7 +587,12 @@ public class ValueReaderLocator
                     return vr;
                 }
             }
-            final BeanReader def = _resolveBeanForDeser(type, _resolveBeanDef(type));
+            POJODefinition beanDef = _resolveBeanDef(type);
+            final Projection projection = _projections.get(type);
+            if (projection != null) {
+                beanDef = _project(beanDef, projection);
+            }
+            final BeanReader def = _resolveBeanForDeser(type, beanDef);
             try {
                 _incompleteReaders.put(key, def);
                 for (Map.Entry<String, BeanPropertyReader> entry : def.propertiesByName().entrySet()) {
@@ -399,7 +600,8 @@ public class ValueReaderLocator
                     entry.setValue(prop.withReader(createReader(type,
                             prop.rawSetterType(), prop.genericSetterType())));
                 }
-                def.initFieldMatcher(_streamFactory);
+                def.initFieldMatcher(_streamFactory,
+                        JSON.Feature.ACCEPT_CASE_INSENSITIVE_PROPERTIES.isEnabled(_features));
             } finally {
                 _incompleteReaders.remove(key);
             }
@@ -414,6 +616,19 @@ public class ValueReaderLocator
      */
 
     protected POJODefinition _resolveBeanDef(Class<?> raw) {
+        if (_metrics == null) {
+            return _introspectBeanDef(raw);
+        }
+        final long start = System.nanoTime();
+        final POJODefinition def = _introspectBeanDef(raw);
+        _metrics.pojoIntrospected(raw, false, System.nanoTime() - start);
+        return def;
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected POJODefinition _introspectBeanDef(Class<?> raw) {
         try {
             if (_readerModifier != null) {
                 POJODefinition def = _readerModifier.pojoDefinitionForDeserialization(_readContext, raw);
@@ -429,13 +644,67 @@ public class ValueReaderLocator
         }
     }
 
+    /**
+     * Method for finding names of properties of given Bean type that are to be
+     * skipped (instead of being reported as unknown), as indicated by
+     * definition from {@link ReaderWriterModifier}, if any. Used by readers
+     * that do not use {@link POJODefinition} otherwise, such as
+     * {@link PrecompiledBeanReader}.
+     *
+     * @since 3.0
+     */
+    public Set<String> findIgnorableNames(Class<?> raw) {
+        if (_readerModifier != null) {
+            POJODefinition def = _readerModifier.pojoDefinitionForDeserialization(_readContext, raw);
+            if (def != null) {
+                return def.getIgnorableNames();
+            }
+        }
+        return Collections.emptySet();
+    }
+
+    /**
+     * Method for removing properties not included in given projection from Bean
+     * definition: names of such properties (and their aliases) are added as
+     * ignorable names, so that their values are skipped.
+     *
+     * @since 3.0
+     */
+    protected POJODefinition _project(POJODefinition beanDef, Projection projection)
+    {
+        final List<POJODefinition.Prop> included = new ArrayList<>();
+        final Set<String> ignorable = new HashSet<>(beanDef.getIgnorableNames());
+        for (POJODefinition.Prop prop : beanDef.getProperties()) {
+            if (projection.includes(prop.name)) {
+                included.add(prop);
+            } else {
+                ignorable.add(prop.name);
+                if (prop.hasAliases()) {
+                    for (String alias : prop.aliases()) {
+                        ignorable.add(alias);
+                    }
+                }
+            }
+        }
+        return beanDef.withProperties(included).withIgnorals(ignorable);
+    }
+
     protected BeanReader _resolveBeanForDeser(Class<?> raw, POJODefinition beanDef)
     {
         Constructor<?> defaultCtor = beanDef.defaultCtor;
         Constructor<?> stringCtor = beanDef.stringCtor;
         Constructor<?> longCtor = beanDef.longCtor;
+        // Properties-based creator only used if there is no default constructor
+        Constructor<?> creatorCtor = (defaultCtor == null) ? beanDef.creatorCtor : null;
 
         final boolean forceAccess = JSON.Feature.FORCE_REFLECTION_ACCESS.isEnabled(_features);
+        if (creatorCtor != null) {
+            if (forceAccess) {
+                creatorCtor.setAccessible(true);
+            } else if (!Modifier.isPublic(creatorCtor.getModifiers())) {
+                creatorCtor = null;
+            }
+        }
         if (forceAccess) {
             if (defaultCtor != null) {
                 defaultCtor.setAccessible(true);
@@ -453,13 +722,26 @@ public class ValueReaderLocator
         final Map<String, BeanPropertyReader> propMap;
         Map<String, String> aliasMapping = null;
 
-        if (len == 0) {
+        if ((len == 0) && (creatorCtor == null)) {
             propMap = Collections.emptyMap();
         } else {
             propMap = new HashMap<String, BeanPropertyReader>();
+            if (creatorCtor != null) {
+                final String[] names = beanDef.creatorParamNames;
+                for (int i = 0; i < names.length; ++i) {
+                    propMap.put(names[i], new BeanPropertyReader(names[i], creatorCtor, i));
+                }
+            }
             final boolean useFields = JSON.Feature.USE_FIELDS.isEnabled(_features);
+            final boolean useHandles = JSON.Feature.USE_METHOD_HANDLES.isEnabled(_features);
             for (int i = 0; i < len; ++i) {
                 POJODefinition.Prop rawProp = rawProps.get(i);
+                // creator properties have precedence over setters, fields
+                // (but aliases still apply)
+                if (propMap.containsKey(rawProp.name)) {
+                    aliasMapping = _addAliases(rawProp, aliasMapping);
+                    continue;
+                }
                 Method m = rawProp.setter;
                 Field f = useFields ? rawProp.field : null;
 
@@ -484,23 +766,34 @@ public class ValueReaderLocator
                     }
                 }
 
-                propMap.put(rawProp.name, new BeanPropertyReader(rawProp.name, f, m));
-
-                // 25-Jan-2020, tatu: Aliases are bit different because we can not tie them into
-                //   specific reader instance, due to resolution of cyclic dependencies. Instead,
-                //   we must link via name of primary property, unfortunately:
-                if (rawProp.hasAliases()) {
-                    if (aliasMapping == null) {
-                        aliasMapping = new HashMap<String, String>();
-                    }
-                    for (String alias : rawProp.aliases()) {
-                        aliasMapping.put(alias, rawProp.name);
-                    }
+                PropertyAccessors.Setter accessor = null;
+                if (useHandles) {
+                    accessor = (m != null) ? PropertyAccessors.setterFor(m) : PropertyAccessors.setterFor(f);
                 }
+                propMap.put(rawProp.name, new BeanPropertyReader(rawProp.name, f, m, accessor));
+
+                aliasMapping = _addAliases(rawProp, aliasMapping);
             }
         }
         return BeanReader.construct(raw, propMap, defaultCtor, stringCtor, longCtor,
-                beanDef.getIgnorableNames(), aliasMapping);
+                creatorCtor, beanDef.getIgnorableNames(), aliasMapping);
+    }
+
+    private static Map<String, String> _addAliases(POJODefinition.Prop rawProp,
+            Map<String, String> aliasMapping)
+    {
+        // 25-Jan-2020, tatu: Aliases are bit different because we can not tie them into
+        //   specific reader instance, due to resolution of cyclic dependencies. Instead,
+        //   we must link via name of primary property, unfortunately:
+        if (rawProp.hasAliases()) {
+            if (aliasMapping == null) {
+                aliasMapping = new HashMap<String, String>();
+            }
+            for (String alias : rawProp.aliases()) {
+                aliasMapping.put(alias, rawProp.name);
+            }
+        }
+        return aliasMapping;
     }
 
     private TypeBindings _bindings(Class<?> ctxt) {
@@ -509,4 +802,30 @@ public class ValueReaderLocator
         }
         return TypeBindings.create(ctxt, (ResolvedType[]) null);
     }
+
+    /**
+     * Key for set of projections in use: immutable, with hash code
+     * calculated once, as needed for every reader lookup.
+     */
+    private final static class ProjectionsKey
+    {
+        private final Map<Class<?>, Projection> _projections;
+
+        private final int _hashCode;
+
+        ProjectionsKey(Map<Class<?>, Projection> projections) {
+            _projections = projections;
+            _hashCode = projections.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) return true;
+            if ((o == null) || (o.getClass() != getClass())) return false;
+            return _projections.equals(((ProjectionsKey) o)._projections);
+        }
+
+        @Override
+        public int hashCode() { return _hashCode; }
+    }
 }
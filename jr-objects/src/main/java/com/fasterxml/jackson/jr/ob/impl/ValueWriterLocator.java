@@ -2,10 +2,11 @@ package com.fasterxml.jackson.jr.ob.impl;
 
 import java.lang.reflect.*;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.api.MetricsListener;
 import com.fasterxml.jackson.jr.ob.api.ReaderWriterModifier;
 import com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider;
 import com.fasterxml.jackson.jr.ob.api.ValueWriter;
@@ -33,12 +34,31 @@ public class ValueWriterLocator extends ValueLocatorBase
      */
 
     /**
-     * Mapping from classes to resolved type constants or indexes, to use
-     * for serialization.
+     * Reference to the current registry of resolved type constants and
+     * registered {@link ValueWriter}s (indexes), to use for serialization.
+     * Registry is only replaced with a new one if it is full and no slots
+     * can be reused.
+     *<p>
+     * Note: before 3.0, unbounded Map and List were used.
+     *
+     * @since 3.0
+     */
+    protected final AtomicReference<WriterRegistry> _registryRef;
+
+    /**
+     * Counters for type lookups, shared between blueprint
+     * and per-operation instances.
+     *
+     * @since 3.0
      */
-    protected final ConcurrentHashMap<ClassKey, Integer> _knownSerTypes;
+    protected final LongAdder _typeHits, _typeMisses;
 
-    protected final CopyOnWriteArrayList<ValueWriter> _knownWriters;
+    /**
+     * Counters for {@link ValueWriter} lookups and registrations.
+     *
+     * @since 3.0
+     */
+    protected final LongAdder _writerHits, _writerRegistrations;
 
     /**
      * Provider for custom writers, if any; may be null.
@@ -54,6 +74,13 @@ public class ValueWriterLocator extends ValueLocatorBase
      */
     protected final ReaderWriterModifier _writerModifier;
 
+    /**
+     * Listener to notify of introspection and registration events, if any; may be null.
+     *
+     * @since 3.0
+     */
+    protected final MetricsListener _metrics;
+
     /*
     /**********************************************************************
     /* Instance configuration
@@ -71,9 +98,13 @@ public class ValueWriterLocator extends ValueLocatorBase
      */
 
     /**
-     * Reusable lookup key; only used by per-thread instances.
+     * Registry used by this instance: per-operation instances keep using
+     * the same registry (so that type ids remain stable), unless it becomes
+     * full (with no slots to reuse) and needs to be replaced.
+     *
+     * @since 3.0
      */
-    private ClassKey _key;
+    protected WriterRegistry _registry;
 
     private Class<?> _prevClass;
 
@@ -90,13 +121,37 @@ public class ValueWriterLocator extends ValueLocatorBase
      */
     protected ValueWriterLocator(int features,
             ReaderWriterProvider rwp, ReaderWriterModifier rwm)
+    {
+        this(features, rwp, rwm, null);
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected ValueWriterLocator(int features,
+            ReaderWriterProvider rwp, ReaderWriterModifier rwm, MetricsListener metrics)
+    {
+        this(features, rwp, rwm, metrics, WriterRegistry.DEFAULT_MAX_WRITERS);
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected ValueWriterLocator(int features,
+            ReaderWriterProvider rwp, ReaderWriterModifier rwm, MetricsListener metrics,
+            int maxWriters)
     {
         _features = features;
-        _knownSerTypes = new ConcurrentHashMap<ClassKey, Integer>(20, 0.75f, 2);
-        _knownWriters = new CopyOnWriteArrayList<ValueWriter>();
+        _registry = new WriterRegistry(maxWriters);
+        _registryRef = new AtomicReference<WriterRegistry>(_registry);
+        _typeHits = new LongAdder();
+        _typeMisses = new LongAdder();
+        _writerHits = new LongAdder();
+        _writerRegistrations = new LongAdder();
         _writeContext = null;
         _writerProvider = rwp;
         _writerModifier = rwm;
+        _metrics = metrics;
     }
 
     // for per-call instances
@@ -104,22 +159,39 @@ public class ValueWriterLocator extends ValueLocatorBase
             int features, JSONWriter w) {
         _features = features;
         _writeContext = w;
-        _knownSerTypes = base._knownSerTypes;
-        _knownWriters = base._knownWriters;
+        _registryRef = base._registryRef;
+        _registry = _registryRef.get();
+        _typeHits = base._typeHits;
+        _typeMisses = base._typeMisses;
+        _writerHits = base._writerHits;
+        _writerRegistrations = base._writerRegistrations;
         _writerProvider = base._writerProvider;
         _writerModifier = base._writerModifier;
+        _metrics = base._metrics;
     }
 
     public final static ValueWriterLocator blueprint(ReaderWriterProvider rwp, ReaderWriterModifier rwm) {
         return new ValueWriterLocator(0, rwp, rwm);
     }
 
+    /**
+     * @param maxWriters Maximum number of {@link ValueWriter}s to keep registered;
+     *    above this, writers not recently used are evicted
+     *
+     * @since 3.0
+     */
+    public final static ValueWriterLocator blueprint(ReaderWriterProvider rwp, ReaderWriterModifier rwm,
+            int maxWriters) {
+        return new ValueWriterLocator(0, rwp, rwm, null, maxWriters);
+    }
+
     public ValueWriterLocator with(ReaderWriterProvider rwp) {
         if (rwp == _writerProvider) {
             return this;
         }
         // nothing much to reuse if so, use blueprint ctor
-        return new ValueWriterLocator(_features, rwp, _writerModifier);
+        return new ValueWriterLocator(_features, rwp, _writerModifier, _metrics,
+                _registry.capacity());
     }
 
     public ValueWriterLocator with(ReaderWriterModifier rwm) {
@@ -127,13 +199,47 @@ public class ValueWriterLocator extends ValueLocatorBase
             return this;
         }
         // nothing much to reuse if so, use blueprint ctor
-        return new ValueWriterLocator(_features, _writerProvider, rwm);
+        return new ValueWriterLocator(_features, _writerProvider, rwm, _metrics,
+                _registry.capacity());
+    }
+
+    /**
+     * @since 3.0
+     */
+    public ValueWriterLocator with(MetricsListener metrics) {
+        if (metrics == _metrics) {
+            return this;
+        }
+        return new ValueWriterLocator(_features, _writerProvider, _writerModifier, metrics,
+                _registry.capacity());
     }
 
     public ValueWriterLocator perOperationInstance(JSONWriter w, int features) {
         return new ValueWriterLocator(this, features & CACHE_FLAGS, w);
     }
 
+    /*
+    /**********************************************************************
+    /* Public API: config access
+    /**********************************************************************
+     */
+
+    /**
+     * Accessor for statistics of caches used by this locator: resolved
+     * serialization types and registered {@link ValueWriter}s.
+     *
+     * @since 3.0
+     */
+    public List<CacheStats> cacheStats() {
+        final WriterRegistry reg = _registryRef.get();
+        // "clears" are registry replacements, once full
+        return Arrays.asList(
+                new CacheStats("serializationTypes", _typeHits.sum(), _typeMisses.sum(),
+                        reg.typeCount(), reg.generation()),
+                new CacheStats("writers", _writerHits.sum(), _writerRegistrations.sum(),
+                        reg.writerCount(), reg.generation(), reg.evictions()));
+    }
+
     /*
     /**********************************************************************
     /* Public API: writer lookup
@@ -142,10 +248,26 @@ public class ValueWriterLocator extends ValueLocatorBase
 
     public ValueWriter getValueWriter(int index) {
         // for simplicity, let's allow caller to pass negative id as is
-        if (index < 0) {
-            index = -(index+1);
+        // (and only count hits if someone is listening, to keep this path cheap)
+        if (_metrics != null) {
+            _writerHits.increment();
         }
-        return _knownWriters.get(index);
+        return _registry.writerFor(index);
+    }
+
+    /**
+     * Method called if writer for type id resolved earlier is no longer
+     * registered (having been evicted concurrently): re-resolves writer for
+     * given type.
+     *
+     * @return Writer for given type, if one is registered; {@code null} if not
+     *
+     * @since 3.0
+     */
+    public ValueWriter findValueWriter(Class<?> raw) {
+        _prevClass = null;
+        final int type = findSerializationType(raw);
+        return (type < 0) ? _registry.writerFor(type) : null;
     }
 
     /**
@@ -157,19 +279,23 @@ public class ValueWriterLocator extends ValueLocatorBase
         if (raw == _prevClass) {
             return _prevType;
         }
-        if (raw == String.class && (_writerModifier == null)) {
+        // Can only short-cut if no modifier could override handling; metrics-only
+        // modifier does not (it only wraps POJO and custom writers)
+        if ((raw == String.class)
+                && ((_writerModifier == null) || (_writerModifier instanceof MetricsModifier))) {
             return SER_STRING;
         }
-        ClassKey k = (_key == null) ? new ClassKey(raw, _features) : _key.with(raw, _features);
-        int type;
-
-        Integer I = _knownSerTypes.get(k);
+        int type = _registry.findType(raw, _features);
 
-        if (I == null) {
+        if (type == WriterRegistry.TYPE_NOT_FOUND) {
+            _typeMisses.increment();
             type = _findPOJOSerializationType(raw);
-            _knownSerTypes.put(new ClassKey(raw, _features), Integer.valueOf(type));
-        } else {
-            type = I.intValue();
+            // registered writers are already added; others not
+            if (type >= 0) {
+                _registry.addType(raw, _features, type);
+            }
+        } else if (_metrics != null) {
+            _typeHits.increment();
         }
         _prevType = type;
         _prevClass = raw;
@@ -183,6 +309,19 @@ public class ValueWriterLocator extends ValueLocatorBase
      */
 
     protected POJODefinition _resolveBeanDef(Class<?> raw) {
+        if (_metrics == null) {
+            return _introspectBeanDef(raw);
+        }
+        final long start = System.nanoTime();
+        final POJODefinition def = _introspectBeanDef(raw);
+        _metrics.pojoIntrospected(raw, true, System.nanoTime() - start);
+        return def;
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected POJODefinition _introspectBeanDef(Class<?> raw) {
         try {
             if (_writerModifier != null) {
                 POJODefinition def = _writerModifier.pojoDefinitionForSerialization(_writeContext, raw);
@@ -250,20 +389,26 @@ public class ValueWriterLocator extends ValueLocatorBase
     }
     
     private int _registerWriter(Class<?> rawType, ValueWriter valueWriter) {
-        // Due to concurrent access, possible that someone might have added it
-        synchronized (_knownWriters) {
-            // Important: do NOT try to reuse shared instance; caller needs it
-            ClassKey k = new ClassKey(rawType, _features);
-            Integer I = _knownSerTypes.get(k);
-            // if it was already concurrently added, we'll just discard this copy, return earlier
-            if (I != null) {
-                return I.intValue();
+        while (true) {
+            // Adds at the end, uses -(index+1) as id; or if it was already concurrently
+            // added, we'll just discard this copy, return earlier id
+            final WriterRegistry reg = _registry;
+            final int typeId = reg.register(rawType, _features, valueWriter);
+            if (typeId != WriterRegistry.REGISTRY_FULL) {
+                if ((typeId < 0) && (reg.writerFor(typeId) == valueWriter)) {
+                    _writerRegistrations.increment();
+                    if (_metrics != null) {
+                        _metrics.writerRegistered(rawType, typeId);
+                    }
+                }
+                return typeId;
             }
-            // otherwise add at the end, use -(index+1) as id
-            _knownWriters.add(valueWriter);
-            int typeId = -_knownWriters.size();
-            _knownSerTypes.put(k, Integer.valueOf(typeId));
-            return typeId;
+            // Full, with no slot to reuse: as last resort, start over with a new
+            // registry (unless another thread already did that). Ids returned by old
+            // registry are not valid for new one, but caller resolves writers
+            // immediately so this is safe.
+            _registry = _registryRef.updateAndGet(curr -> (curr == reg) ? reg.nextGeneration() : curr);
+            _prevClass = null;
         }
     }
     
@@ -275,6 +420,7 @@ public class ValueWriterLocator extends ValueLocatorBase
         final boolean includeReadOnly = JSON.Feature.WRITE_READONLY_BEAN_PROPERTIES.isEnabled(_features);
         final boolean forceAccess = JSON.Feature.FORCE_REFLECTION_ACCESS.isEnabled(_features);
         final boolean useFields = JSON.Feature.USE_FIELDS.isEnabled(_features);
+        final boolean useHandles = JSON.Feature.USE_METHOD_HANDLES.isEnabled(_features);
 
         for (int i = 0; i < len; ++i) {
             POJODefinition.Prop rawProp = rawProps.get(i);
@@ -307,7 +453,11 @@ public class ValueWriterLocator extends ValueLocatorBase
                 }
             }
             int typeId = _findSimpleType(type, true);
-            props.add(new BeanPropertyWriter(typeId, rawProp.name, rawProp.field, m));
+            PropertyAccessors.Getter accessor = null;
+            if (useHandles) {
+                accessor = (m != null) ? PropertyAccessors.getterFor(m) : PropertyAccessors.getterFor(f);
+            }
+            props.add(new BeanPropertyWriter(typeId, rawProp.name, rawProp.field, m, accessor));
         }
         int plen = props.size();
         BeanPropertyWriter[] propArray = (plen == 0) ? NO_PROPS_FOR_WRITE
@@ -0,0 +1,378 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.fasterxml.jackson.jr.ob.api.ValueWriter;
+
+/**
+ * Registry used by {@link ValueWriterLocator} for keeping track of resolved
+ * serialization type ids and registered {@link ValueWriter}s, addressed by
+ * negative type ids.
+ *<p>
+ * Registry has fixed capacity for writers: once it is full, slots are reused
+ * using CLOCK ("second chance") policy, similar to {@link ClockCache}: slots
+ * of writers whose classes have been unloaded are reclaimed, and otherwise
+ * the first writer whose type has not been looked up since the previous sweep
+ * is evicted.
+ * Type id of a writer encodes both its slot and the number of times that slot
+ * has been reused, so that ids of evicted writers never resolve to other
+ * writers. Only if no slot can be reused, caller needs to create a new
+ * "generation" (see {@link #nextGeneration()}); type ids are only stable within
+ * a single registry instance. Appends are constant-time operations.
+ *<p>
+ * Resolved types are associated with classes using {@link ClassValue}, and
+ * registry only holds weak references to writers, so that neither
+ * the registry nor writers prevent unloading of classes (writers are strongly
+ * reachable only through the {@link Class} they are for).
+ *
+ * @since 3.0
+ */
+public class WriterRegistry
+{
+    /**
+     * Default maximum number of {@link ValueWriter}s in a single registry
+     */
+    public final static int DEFAULT_MAX_WRITERS = 500;
+
+    /**
+     * Value returned by {@link #register} if registry is full and no slot
+     * could be reused.
+     * Note: never a valid id for registered writers, which are negative.
+     */
+    public final static int REGISTRY_FULL = 0;
+
+    /**
+     * Value returned by {@link #findType} if no type id has been resolved
+     * for the type. Note: {@code 0} can not be used as it is a valid
+     * (cached) id for unknown types.
+     */
+    public final static int TYPE_NOT_FOUND = Integer.MIN_VALUE;
+
+    protected final int _maxWriters;
+
+    /**
+     * Number of "generations" (registries) created before this one.
+     */
+    protected final int _generation;
+
+    protected final ClassValue<TypeSlot> _types = new ClassValue<TypeSlot>() {
+        @Override
+        protected TypeSlot computeValue(Class<?> type) {
+            return new TypeSlot();
+        }
+    };
+
+    protected final AtomicReferenceArray<WriterSlot> _writers;
+
+    /**
+     * Number of writers registered; only modified when holding lock
+     * on this registry, but read without locking.
+     */
+    protected volatile int _writerCount;
+
+    /**
+     * Maximum number of times a single slot may be reused, to keep type ids
+     * within {@code int} range.
+     */
+    protected final int _maxReuse;
+
+    /**
+     * Index of the next slot to consider for reuse ("clock hand"); only accessed
+     * when holding lock on this registry.
+     */
+    protected int _clockHand;
+
+    /**
+     * Number of writers evicted (not including ones for unloaded classes)
+     */
+    protected final AtomicInteger _evictions = new AtomicInteger();
+
+    /**
+     * Number of resolved type ids (including ones for registered writers)
+     */
+    protected final AtomicInteger _typeCount = new AtomicInteger();
+
+    public WriterRegistry(int maxWriters) {
+        this(maxWriters, 0);
+    }
+
+    protected WriterRegistry(int maxWriters, int generation) {
+        if (maxWriters < 1) {
+            throw new IllegalArgumentException("Writer registry size must be positive, was: "+maxWriters);
+        }
+        _maxWriters = maxWriters;
+        _generation = generation;
+        _writers = new AtomicReferenceArray<WriterSlot>(maxWriters);
+        _maxReuse = (Integer.MAX_VALUE - maxWriters) / maxWriters;
+    }
+
+    /**
+     * Factory method for constructing an empty registry to replace this one,
+     * once it has become full and no slots can be reused.
+     */
+    public WriterRegistry nextGeneration() {
+        return new WriterRegistry(_maxWriters, _generation+1);
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    public int capacity() { return _maxWriters; }
+
+    public int generation() { return _generation; }
+
+    public int writerCount() { return _writerCount; }
+
+    public int typeCount() { return _typeCount.get(); }
+
+    public int evictions() { return _evictions.get(); }
+
+    /*
+    /**********************************************************************
+    /* Lookup, registration
+    /**********************************************************************
+     */
+
+    /**
+     * @return Type id resolved for given class (with given feature flags), if any;
+     *    {@link #TYPE_NOT_FOUND} if none
+     */
+    public int findType(Class<?> raw, int features) {
+        for (TypeEntry e = _types.get(raw).first; e != null; e = e.next) {
+            if (e.features == features) {
+                final int typeId = e.typeId;
+                if (typeId < 0) {
+                    _markReferenced(typeId);
+                }
+                return typeId;
+            }
+        }
+        return TYPE_NOT_FOUND;
+    }
+
+    /**
+     * Method for adding mapping for a type that does not require
+     * registration of a {@link ValueWriter}.
+     */
+    public void addType(Class<?> raw, int features, int typeId) {
+        final TypeSlot slot = _types.get(raw);
+        synchronized (slot) {
+            if (slot.find(features) == null) {
+                slot.first = new TypeEntry(features, typeId, null, slot.first);
+                _typeCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Method for registering given writer for given type (with given features),
+     * unless one was already (concurrently) registered. If registry is full,
+     * a slot is reused (see class description).
+     *
+     * @return Type id for the writer registered for type (negative),
+     *    or {@link #REGISTRY_FULL} if registry is full and no slot could be reused
+     */
+    public int register(Class<?> raw, int features, ValueWriter w) {
+        final TypeSlot slot = _types.get(raw);
+        synchronized (this) {
+            // Due to concurrent access, possible that someone might have added it
+            TypeEntry e = slot.find(features);
+            if (e != null) {
+                return e.typeId;
+            }
+            final int typeId;
+            int index = _writerCount;
+            if (index < _maxWriters) {
+                typeId = -(index+1);
+                _writerCount = index+1;
+            } else {
+                index = _reuseSlot();
+                if (index < 0) {
+                    return REGISTRY_FULL;
+                }
+                final int reuse = _reuseCount(_writers.get(index)) + 1;
+                typeId = -(1 + index + (reuse * _maxWriters));
+            }
+            _writers.set(index, new WriterSlot(typeId, w, slot));
+            synchronized (slot) {
+                slot.first = new TypeEntry(features, typeId, w, slot.first);
+            }
+            _typeCount.incrementAndGet();
+            return typeId;
+        }
+    }
+
+    /**
+     * @param typeId Type id, as returned by {@link #register}; or index of
+     *    writer slot
+     *
+     * @return Writer registered with given type id; or {@code null} if none
+     *    (including case where writer has been evicted)
+     */
+    public ValueWriter writerFor(int typeId) {
+        final WriterSlot ws;
+        if (typeId < 0) {
+            ws = _writers.get((-(typeId+1)) % _maxWriters);
+            if ((ws == null) || (ws.typeId != typeId)) {
+                return null;
+            }
+        } else {
+            ws = _writers.get(typeId);
+            if (ws == null) {
+                return null;
+            }
+        }
+        return ws.writer.get();
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    /**
+     * Method for finding a slot to reuse, and releasing writer in it: called
+     * when holding lock on this registry, once all slots are in use.
+     *
+     * @return Index of slot to reuse; or -1 if none could be reused
+     */
+    protected int _reuseSlot()
+    {
+        // Two full sweeps: first may just clear "referenced" flags
+        for (int i = 0, end = _maxWriters + _maxWriters; i < end; ++i) {
+            final int index = _clockHand;
+            _clockHand = (index + 1 == _maxWriters) ? 0 : index + 1;
+            final WriterSlot ws = _writers.get(index);
+            final boolean unloaded = (ws.writer.get() == null);
+            if (!unloaded && ws.referenced) {
+                ws.referenced = false;
+                continue;
+            }
+            // can not reuse slot any more without overflowing type ids
+            if (_reuseCount(ws) >= _maxReuse) {
+                continue;
+            }
+            _release(ws);
+            if (!unloaded) {
+                _evictions.incrementAndGet();
+            }
+            return index;
+        }
+        return -1;
+    }
+
+    private void _markReferenced(int typeId) {
+        final WriterSlot ws = _writers.get((-(typeId+1)) % _maxWriters);
+        // avoid writes (and cache line invalidation) for already referenced hot writers
+        if ((ws != null) && (ws.typeId == typeId) && !ws.referenced) {
+            ws.referenced = true;
+        }
+    }
+
+    private int _reuseCount(WriterSlot ws) {
+        return (-(ws.typeId+1)) / _maxWriters;
+    }
+
+    /**
+     * Method for removing type id mapping of a writer to be evicted, if the
+     * class it is for is still loaded.
+     */
+    private void _release(WriterSlot ws)
+    {
+        final TypeSlot slot = ws.types.get();
+        if (slot != null) {
+            synchronized (slot) {
+                slot.first = slot.without(ws.typeId);
+            }
+        }
+        _typeCount.decrementAndGet();
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper classes
+    /**********************************************************************
+     */
+
+    /**
+     * Container for type ids resolved for a single class; usually there
+     * is just one entry (one set of feature flags in use).
+     *<p>
+     * NOTE: must not refer back to the registry (or its {@link ClassValue}),
+     * to allow registry to be collected.
+     */
+    protected final static class TypeSlot {
+        volatile TypeEntry first;
+
+        TypeEntry find(int features) {
+            for (TypeEntry e = first; e != null; e = e.next) {
+                if (e.features == features) {
+                    return e;
+                }
+            }
+            return null;
+        }
+
+        // Entries are immutable, so need to re-create list; order does not
+        // matter as there is at most one entry per set of features
+        TypeEntry without(int typeId) {
+            TypeEntry result = null;
+            for (TypeEntry e = first; e != null; e = e.next) {
+                if (e.typeId != typeId) {
+                    result = new TypeEntry(e.features, e.typeId, e.writer, result);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Registry slot for a single writer. Only holds weak references, to avoid
+     * preventing unloading of the class writer is for.
+     */
+    protected final static class WriterSlot {
+        final int typeId;
+        final WeakReference<ValueWriter> writer;
+        final WeakReference<TypeSlot> types;
+
+        /**
+         * Flag set when type id of writer is looked up again after registration,
+         * cleared when reuse scan passes it.
+         * Races in updates are benign: at worst a writer gets one extra (or one less)
+         * chance.
+         */
+        volatile boolean referenced;
+
+        WriterSlot(int typeId, ValueWriter w, TypeSlot types) {
+            this.typeId = typeId;
+            writer = new WeakReference<ValueWriter>(w);
+            this.types = new WeakReference<TypeSlot>(types);
+        }
+    }
+
+    protected final static class TypeEntry {
+        final int features;
+        final int typeId;
+
+        /**
+         * Writer for the type, if any: strong reference from here
+         * is what keeps writer reachable.
+         */
+        final ValueWriter writer;
+
+        final TypeEntry next;
+
+        TypeEntry(int features, int typeId, ValueWriter writer, TypeEntry next) {
+            this.features = features;
+            this.typeId = typeId;
+            this.writer = writer;
+            this.next = next;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.io.Serializable;
 import java.lang.reflect.*;
 import java.util.*;
 
+import com.fasterxml.jackson.jr.ob.impl.CacheStats;
 import com.fasterxml.jackson.jr.ob.impl.ClassKey;
 
 /**
@@ -54,6 +55,10 @@ public class TypeResolver implements Serializable
     
     protected final transient Map<ClassKey,ResolvedType> _cache = new HashMap<ClassKey,ResolvedType>(16, 0.8f);
 
+    // Statistics for `_cache`; only modified when holding lock to it
+    // @since 3.0
+    protected transient long _cacheHits, _cacheMisses, _cacheClears;
+
     public TypeResolver() { }
 
     // To make sure we have empty but valid TypeResolver do this:
@@ -64,6 +69,17 @@ public class TypeResolver implements Serializable
         return this;
     }
 
+    /**
+     * Accessor for statistics of the cache of resolved non-generic types.
+     *
+     * @since 3.0
+     */
+    public CacheStats cacheStats() {
+        synchronized (_cache) {
+            return new CacheStats("types", _cacheHits, _cacheMisses, _cache.size(), _cacheClears);
+        }
+    }
+
     /**
      * Factory method for resolving specified Java {@link java.lang.reflect.Type}, given
      * {@link TypeBindings} needed to resolve any type variables.
@@ -129,13 +145,16 @@ public class TypeResolver implements Serializable
             synchronized (_cache) {
                 type = _cache.get(key);
                 if (type != null) {
+                    ++_cacheHits;
                     return type;
                 }
+                ++_cacheMisses;
             }
             type = _constructType(context, rawType, typeBindings);
             synchronized (_cache) {
                 if (_cache.size() >= 100) { // so hash table max 128 entries
                     _cache.clear();
+                    ++_cacheClears;
                 }
                 _cache.put(key, type);
             }
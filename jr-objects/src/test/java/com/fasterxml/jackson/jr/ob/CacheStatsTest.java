@@ -0,0 +1,112 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.*;
+
+import com.fasterxml.jackson.jr.ob.api.MetricsListener;
+import com.fasterxml.jackson.jr.ob.impl.CacheStats;
+
+public class CacheStatsTest extends TestBase
+{
+    static class Point {
+        public int x, y;
+
+        public Point() { }
+        public Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    static class Path {
+        public List<Point> points;
+    }
+
+    public void testInitialStats() throws Exception
+    {
+        List<CacheStats> stats = JSON.builder().build().cacheStats();
+        assertEquals(4, stats.size());
+        assertEquals("readers", stats.get(0).name());
+        assertEquals("types", stats.get(1).name());
+        assertEquals("serializationTypes", stats.get(2).name());
+        assertEquals("writers", stats.get(3).name());
+        for (CacheStats s : stats) {
+            assertEquals(0L, s.hits());
+            assertEquals(0L, s.misses());
+            assertEquals(0L, s.clears());
+            assertEquals(0, s.size());
+        }
+    }
+
+    public void testReaderStats() throws Exception
+    {
+        // hits only counted if metrics are collected
+        final JSON json = JSON.builder().metricsListener(new MetricsListener() { }).build();
+        final String doc = a2q("{'x':1,'y':2}");
+        json.beanFrom(Point.class, doc);
+        CacheStats readers = _stats(json, "readers");
+        assertEquals(0L, readers.hits());
+        assertEquals(1L, readers.misses());
+        assertEquals(1, readers.size());
+
+        json.beanFrom(Point.class, doc);
+        json.beanFrom(Point.class, doc);
+        readers = _stats(json, "readers");
+        assertEquals(2L, readers.hits());
+        assertEquals(1L, readers.misses());
+        assertEquals(2.0 / 3.0, readers.hitRatio(), 0.0001);
+
+        // generic List property should also resolve type; and element
+        // reader is found from cache
+        json.beanFrom(Path.class, a2q("{'points':[{'x':1,'y':2}]}"));
+        assertTrue(_stats(json, "types").misses() > 0L);
+        readers = _stats(json, "readers");
+        assertEquals(3L, readers.hits());
+        assertEquals(2L, readers.misses());
+
+        // and stats are shared with instances created via mutant factories
+        json.with(JSON.Feature.PRETTY_PRINT_OUTPUT).beanFrom(Point.class, doc);
+        assertEquals(4L, _stats(json, "readers").hits());
+    }
+
+    public void testWriterStats() throws Exception
+    {
+        final JSON json = JSON.builder().metricsListener(new MetricsListener() { }).build();
+        json.asString(new Point(1, 2));
+        CacheStats types = _stats(json, "serializationTypes");
+        assertEquals(1L, types.misses());
+        assertEquals(1, types.size());
+        CacheStats writers = _stats(json, "writers");
+        assertEquals(1, writers.size());
+
+        json.asString(new Point(3, 4));
+        assertEquals(1L, _stats(json, "serializationTypes").hits());
+        assertEquals(1, _stats(json, "writers").size());
+    }
+
+    public void testHitsNotCountedWithoutMetrics() throws Exception
+    {
+        final JSON json = JSON.builder().build();
+        final String doc = a2q("{'x':1,'y':2}");
+        json.beanFrom(Point.class, doc);
+        json.beanFrom(Point.class, doc);
+        CacheStats readers = _stats(json, "readers");
+        assertEquals(0L, readers.hits());
+        assertEquals(1L, readers.misses());
+
+        json.asString(new Point(1, 2));
+        json.asString(new Point(3, 4));
+        assertEquals(0L, _stats(json, "serializationTypes").hits());
+        assertEquals(1L, _stats(json, "serializationTypes").misses());
+        assertEquals(0L, _stats(json, "writers").hits());
+    }
+
+    private CacheStats _stats(JSON json, String name) {
+        for (CacheStats s : json.cacheStats()) {
+            if (name.equals(s.name())) {
+                return s;
+            }
+        }
+        fail("No stats for '"+name+"'");
+        return null;
+    }
+}
@@ -0,0 +1,128 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.*;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+import com.fasterxml.jackson.jr.ob.impl.JSONReader;
+
+public class LazyValueTest extends TestBase
+{
+    static class LazyBean {
+        public String id;
+        public Lazy<List<NameBean>> names;
+        public Lazy<Map<String, Integer>> counts;
+    }
+
+    static class LazyIntBean {
+        public Lazy<Integer> value;
+    }
+
+    static class LazyDecimalBean {
+        public Lazy<BigDecimal> value;
+        public Lazy<List<BigDecimal>> values;
+    }
+
+    // Reader that binds eagerly, to verify custom readers take precedence
+    static class EagerLazyProvider extends ReaderWriterProvider {
+        @Override
+        public ValueReader findValueReader(JSONReader readContext, Class<?> type) {
+            if (type == Lazy.class) {
+                return new ValueReader(Lazy.class) {
+                    @Override
+                    public Object read(JSONReader r, JsonParser p) throws IOException {
+                        return Lazy.of(p.getIntValue());
+                    }
+                };
+            }
+            return null;
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Test methods
+    /**********************************************************************
+     */
+
+    public void testLazyRead() throws Exception
+    {
+        final String input = aposToQuotes(
+                "{'id':'abc','names':[{'first':'Bob','last':'Burger'},{'first':'Bill'}],"
+                +"'counts':{'a':1, 'b':2}}");
+        LazyBean bean = JSON.std.beanFrom(LazyBean.class, input);
+        assertEquals("abc", bean.id);
+        assertFalse(bean.names.isBound());
+        assertFalse(bean.counts.isBound());
+
+        List<NameBean> names = bean.names.get();
+        assertTrue(bean.names.isBound());
+        assertEquals(2, names.size());
+        assertEquals("Bob", names.get(0).first);
+        assertEquals("Burger", names.get(0).last);
+        assertEquals("Bill", names.get(1).first);
+        // and same value returned on subsequent calls
+        assertSame(names, bean.names.get());
+
+        Map<String, Integer> counts = bean.counts.get();
+        assertEquals(2, counts.size());
+        assertEquals(Integer.valueOf(2), counts.get("b"));
+
+        bean = JSON.std.beanFrom(LazyBean.class, aposToQuotes("{'names':null}"));
+        assertNull(bean.names);
+    }
+
+    public void testLazyWrite() throws Exception
+    {
+        LazyBean bean = JSON.std.beanFrom(LazyBean.class,
+                aposToQuotes("{'counts':{'a':1},'id':'x','names':[{'first':'Bob'}]}"));
+        // unbound content written as-is
+        assertEquals(aposToQuotes("{'counts':{'a':1},'id':'x','names':[{'first':'Bob'}]}"),
+                JSON.std.asString(bean));
+
+        // bound (and possibly modified) values as usual
+        bean.counts.get().put("b", 3);
+        assertEquals(aposToQuotes("{'counts':{'a':1,'b':3},'id':'x','names':[{'first':'Bob'}]}"),
+                JSON.std.asString(bean));
+
+        bean.counts = Lazy.of(Collections.singletonMap("c", 4));
+        bean.names = Lazy.of(null);
+        assertEquals(aposToQuotes("{'counts':{'c':4},'id':'x','names':null}"),
+                JSON.std.asString(bean));
+    }
+
+    public void testLazyHighPrecisionDecimal() throws Exception
+    {
+        final String num = "1234567890123456789012345.678901234567890123456789";
+        final String input = aposToQuotes("{'value':"+num+",'values':[0.1,"+num+"]}");
+        LazyDecimalBean bean = JSON.std.beanFrom(LazyDecimalBean.class, input);
+        // numbers copied verbatim, so written as-is when not bound
+        assertEquals(input, JSON.std.asString(bean));
+        assertEquals(new BigDecimal(num), bean.value.get());
+        assertEquals(Arrays.asList(new BigDecimal("0.1"), new BigDecimal(num)),
+                bean.values.get());
+    }
+
+    public void testLazyBindFailure() throws Exception
+    {
+        LazyIntBean bean = JSON.std.beanFrom(LazyIntBean.class, aposToQuotes("{'value':[1, 2]}"));
+        try {
+            bean.value.get();
+            fail("Should not pass");
+        } catch (UncheckedIOException e) {
+            verifyException(e, "Integer");
+        }
+    }
+
+    public void testLazyWithCustomReader() throws Exception
+    {
+        JSON json = jsonWithProvider(new EagerLazyProvider());
+        LazyIntBean bean = json.beanFrom(LazyIntBean.class, aposToQuotes("{'value':42}"));
+        assertTrue(bean.value.isBound());
+        assertEquals(Integer.valueOf(42), bean.value.get());
+    }
+}
@@ -51,6 +51,10 @@ public class ReadBeansTest extends TestBase
         public void setURL(String s) { url = s; } 
     }
 
+    static class XYZBean {
+        public int x, y, z;
+    }
+
     /*
     /**********************************************************************
     /* Test methods
@@ -250,4 +254,116 @@ public class ReadBeansTest extends TestBase
                 .beanFrom(URLBean.class, aposToQuotes("{'URL':'"+expURL+"'}"));
         assertEquals(expURL, bean.url);
     }
+
+    // Reader speculatively matches properties in order seen last time,
+    // so verify that changes in ordering are handled correctly
+    public void testVaryingPropertyOrder() throws Exception
+    {
+        final JSON json = JSON.std.with(JSON.Feature.USE_FIELDS);
+        final String[] docs = new String[] {
+                "{'x':1,'y':2,'z':3}",
+                "{'x':1,'y':2,'z':3}",
+                "{'z':3,'y':2,'x':1}",
+                "{'z':3,'y':2}",
+                "{'z':3,'y':2,'x':1,'x':1}",
+                "{'y':2,'x':1,'z':3}",
+                "{'y':2,'bogus':[true],'x':1,'z':3}",
+                "{}",
+                "{'x':1,'y':2,'z':3}",
+                "{'x':1,'z':3,'y':2}",
+        };
+        for (int i = 0; i < 3; ++i) {
+            for (String doc : docs) {
+                final String input = aposToQuotes(doc);
+                XYZBean bean = json.beanFrom(XYZBean.class, input);
+                assertEquals(input.contains("\"x\"") ? 1 : 0, bean.x);
+                assertEquals(input.contains("\"y\"") ? 2 : 0, bean.y);
+                assertEquals(input.contains("\"z\"") ? 3 : 0, bean.z);
+            }
+        }
+    }
+
+    public void testBeanInto() throws Exception
+    {
+        final XYZBean bean = new XYZBean();
+        bean.z = 7;
+        assertSame(bean, JSON.std.beanInto(bean, aposToQuotes("{'x':1,'y':2}")));
+        assertEquals(1, bean.x);
+        assertEquals(2, bean.y);
+        assertEquals(7, bean.z);
+
+        // and partial update
+        assertSame(bean, JSON.std.beanInto(bean, aposToQuotes("{'y':-3}")));
+        assertEquals(1, bean.x);
+        assertEquals(-3, bean.y);
+        assertEquals(7, bean.z);
+
+        // nested values get constructed as usual
+        TestBean tb = new TestBean();
+        JSON.std.beanInto(tb, aposToQuotes("{'name':{'first':'Bob'},'x':13}"));
+        assertEquals(13, tb.x);
+        assertEquals("Bob", tb.name.first);
+
+        assertNull(JSON.std.beanInto(bean, "null"));
+
+        try {
+            JSON.std.beanInto(bean, "[ 1 ]");
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Can not read a Bean");
+        }
+        try {
+            JSON.std.beanInto(new ArrayList<Object>(), "{ }");
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Can not read into an instance");
+        }
+        try {
+            JSON.std.beanInto(null, "{ }");
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Can not pass `null` target");
+        }
+    }
+
+    // Order is learned including unknown properties, which still need to be
+    // skipped (or reported) when matched in expected order
+    public void testUnknownPropertiesInOrder() throws Exception
+    {
+        final JSON json = JSON.std.with(JSON.Feature.USE_FIELDS);
+        final String input = aposToQuotes("{'x':1,'extra':{'a':[1,2]},'y':2,'z':3}");
+        for (int i = 0; i < 5; ++i) {
+            XYZBean bean = json.beanFrom(XYZBean.class, input);
+            assertEquals(1, bean.x);
+            assertEquals(2, bean.y);
+            assertEquals(3, bean.z);
+        }
+        try {
+            json.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .beanFrom(XYZBean.class, input);
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Unrecognized JSON property \"extra\"");
+        }
+    }
+
+    // With more unknown properties than are retained in expected order, order
+    // learning is stopped, but properties still need to be read normally
+    public void testManyUnknownProperties() throws Exception
+    {
+        final JSON json = JSON.std.with(JSON.Feature.USE_FIELDS);
+        final String[] docs = new String[] {
+                "{'x':1,'a':1,'b':2,'y':2,'c':3,'d':4,'e':5,'z':3}",
+                "{'x':1,'y':2,'z':3}",
+                "{'x':1,'a':1,'y':2,'z':3}",
+        };
+        for (int i = 0; i < 3; ++i) {
+            for (String doc : docs) {
+                XYZBean bean = json.beanFrom(XYZBean.class, aposToQuotes(doc));
+                assertEquals(1, bean.x);
+                assertEquals(2, bean.y);
+                assertEquals(3, bean.z);
+            }
+        }
+    }
 }
@@ -10,6 +10,11 @@ public class ReadFeaturesTest extends TestBase
         public int getValue() { return 42; }
     }
 
+    static class NameAndValueBean {
+        public String name;
+        public int value;
+    }
+
     /*
     /**********************************************************************
     /* Test methdods
@@ -60,4 +65,37 @@ public class ReadFeaturesTest extends TestBase
             verifyException(e, "Duplicate key");
         }
     }
+
+    public void testCaseInsensitiveProperties() throws Exception
+    {
+        final String json = aposToQuotes("{'NAME':'Bob','Value':3}");
+
+        // Not matched by default
+        NameAndValueBean bean = JSON.std.beanFrom(NameAndValueBean.class, json);
+        assertNull(bean.name);
+        assertEquals(0, bean.value);
+
+        // but with feature enabled are; and readers are cached separately
+        final JSON ciJson = JSON.std.with(JSON.Feature.ACCEPT_CASE_INSENSITIVE_PROPERTIES);
+        for (int i = 0; i < 3; ++i) {
+            bean = ciJson.beanFrom(NameAndValueBean.class, json);
+            assertEquals("Bob", bean.name);
+            assertEquals(3, bean.value);
+            bean = ciJson.beanFrom(NameAndValueBean.class, aposToQuotes("{'name':'Bill','value':4}"));
+            assertEquals("Bill", bean.name);
+            assertEquals(4, bean.value);
+        }
+
+        // and same instance still does not match after disabling
+        bean = ciJson.without(JSON.Feature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+                .beanFrom(NameAndValueBean.class, json);
+        assertNull(bean.name);
+        try {
+            JSON.std.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .beanFrom(NameAndValueBean.class, json);
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Unrecognized JSON property \"NAME\"");
+        }
+    }
 }
@@ -4,6 +4,7 @@ import java.util.*;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.jr.ob.api.CollectionBuilder;
+import com.fasterxml.jackson.jr.ob.impl.NumberArrayList;
 
 public class ReadListTest extends TestBase
 {
@@ -123,4 +124,52 @@ public class ReadListTest extends TestBase
         assertEquals(LinkedList.class, stuff.getClass());
         assertEquals(Arrays.asList("a", "b", "c"), stuff);
     }
+
+    public void testCompactNumberLists() throws Exception
+    {
+        final JSON json = JSON.builder()
+                .collectionBuilder(CollectionBuilder.compactNumbersImpl())
+                .build();
+        List<Object> ints = json.listFrom(a2q("[1, 2, 3, -4]"));
+        assertEquals(NumberArrayList.class, ints.getClass());
+        assertEquals(Arrays.asList(1, 2, 3, -4), ints);
+
+        List<Object> longs = json.listFrom(a2q("[12345678901, 12345678902]"));
+        assertEquals(NumberArrayList.class, longs.getClass());
+        assertEquals(Arrays.asList(12345678901L, 12345678902L), longs);
+
+        List<Object> doubles = json.listFrom(a2q("[0.5, 1.25, -2.0]"));
+        assertEquals(NumberArrayList.class, doubles.getClass());
+        assertEquals(Arrays.asList(0.5, 1.25, -2.0), doubles);
+
+        // mixed types fall back to regular List, retaining values
+        List<Object> mixed = json.listFrom(a2q("[1, 2, 3.5, 'x']"));
+        assertEquals(ArrayList.class, mixed.getClass());
+        assertEquals(Arrays.asList(1, 2, 3.5, "x"), mixed);
+
+        // nested, as well as in Maps
+        Map<String, Object> map = json.mapFrom(a2q("{'a':[[1,2],[3, 1.0]],'b':[7,8]}"));
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 1.0)), map.get("a"));
+        assertEquals(NumberArrayList.class, map.get("b").getClass());
+        assertEquals(a2q("{'a':[[1,2],[3,1.0]],'b':[7,8]}"), json.asString(map));
+
+        // and Object[]s still work
+        Object[] arr = json.arrayFrom(a2q("[1, 2, 3]"));
+        assertEquals(3, arr.length);
+        assertEquals(Integer.valueOf(3), arr[2]);
+    }
+
+    public void testCompactNumberListMutation() throws Exception
+    {
+        final JSON json = JSON.std.with(CollectionBuilder.compactNumbersImpl());
+        List<Object> ints = json.listFrom(a2q("[1, 2, 3]"));
+        ints.set(0, 5);
+        assertEquals(Arrays.asList(5, 2, 3), ints);
+        ints.set(1, "x");
+        ints.add(4L);
+        ints.remove(2);
+        assertEquals(Arrays.asList(5, "x", 4L), ints);
+        ints.clear();
+        assertTrue(ints.isEmpty());
+    }
 }
@@ -5,6 +5,9 @@ import java.util.*;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.jr.ob.api.MapBuilder;
+import com.fasterxml.jackson.jr.ob.impl.CompactMap;
+import com.fasterxml.jackson.jr.ob.impl.MapShapeTable;
+import com.fasterxml.jackson.jr.ob.impl.ShapedMap;
 
 // for [jackson-jr#49], where `DeferredMap` explodes
 public class ReadMapTest extends TestBase
@@ -101,6 +104,182 @@ public class ReadMapTest extends TestBase
         assertEquals(Arrays.asList("a", "b"), new ArrayList<String>(map.keySet()));
     }
 
+    public void testCompactMaps() throws Exception
+    {
+        final JSON json = JSON.std.with(JSON.Feature.USE_COMPACT_MAPS);
+        Map<String, Object> map = json.mapFrom(a2q("{'a':1,'b':{'c':true},'d':[],'e':{}}"));
+        assertEquals(CompactMap.class, map.getClass());
+        assertEquals(4, map.size());
+        assertEquals(Integer.valueOf(1), map.get("a"));
+        assertEquals(CompactMap.class, map.get("b").getClass());
+        assertEquals(Collections.singletonMap("c", Boolean.TRUE), map.get("b"));
+        assertEquals(Arrays.asList("a", "b", "d", "e"), new ArrayList<>(map.keySet()));
+        assertTrue(map.containsKey(new String("d")));
+        assertFalse(map.containsKey("x"));
+        assertEquals(a2q("{'a':1,'b':{'c':true},'d':[],'e':{}}"), json.asString(map));
+
+        // Mutation, including growing beyond compact size
+        assertEquals(Integer.valueOf(1), map.put("a", 2));
+        assertEquals(Integer.valueOf(2), map.remove("a"));
+        for (int i = 0; i < 10; ++i) {
+            map.put("key"+i, i);
+        }
+        assertEquals(13, map.size());
+        assertEquals(Integer.valueOf(9), map.get("key9"));
+        assertEquals(Arrays.asList("b", "d", "e", "key0"), new ArrayList<>(map.keySet()).subList(0, 4));
+
+        // but bigger Maps are not built as compact ones
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i <= CompactMap.MAX_ENTRIES; ++i) {
+            if (i > 0) sb.append(',');
+            sb.append(quote("k"+i)).append(':').append(i);
+        }
+        map = json.mapFrom(sb.append('}').toString());
+        assertFalse(map instanceof CompactMap);
+        assertEquals(CompactMap.MAX_ENTRIES+1, map.size());
+        assertEquals(Integer.valueOf(3), map.get("k3"));
+    }
+
+    public void testCompactMapIteration() throws Exception
+    {
+        final JSON json = JSON.std.with(JSON.Feature.USE_COMPACT_MAPS);
+        Map<String, Object> map = json.mapFrom(a2q("{'a':1,'b':2}"));
+        Set<Map.Entry<String, Object>> entries = map.entrySet();
+        Iterator<Map.Entry<String, Object>> it = entries.iterator();
+        assertTrue(it.hasNext());
+        it.next();
+        // growing beyond compact size mid-iteration must not silently end iteration
+        for (int i = 0; i < CompactMap.MAX_ENTRIES; ++i) {
+            map.put("key"+i, i);
+        }
+        assertEquals(map.size(), entries.size());
+        try {
+            it.hasNext();
+            fail("Should not pass");
+        } catch (ConcurrentModificationException e) {
+            ; // expected
+        }
+        // but view itself remains usable
+        int count = 0;
+        for (Iterator<?> it2 = entries.iterator(); it2.hasNext(); it2.next()) {
+            ++count;
+        }
+        assertEquals(map.size(), count);
+    }
+
+    public void testCompactMapDuplicates() throws Exception
+    {
+        final JSON json = JSON.std.with(JSON.Feature.USE_COMPACT_MAPS,
+                JSON.Feature.FAIL_ON_DUPLICATE_MAP_KEYS);
+        try {
+            json.mapFrom(a2q("{'a':1,'b':2,'a':3}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Duplicate key");
+        }
+    }
+
+    public void testShapedMaps() throws Exception
+    {
+        final JSON json = JSON.std.with(JSON.Feature.USE_SHAPED_MAPS);
+        List<Object> list = json.listFrom(a2q("[{'id':1,'name':'a','tags':{'x':true}},"
+                +"{'id':2,'name':'b','tags':{'x':false}},{'name':'c','id':3}]"));
+        assertEquals(3, list.size());
+        ShapedMap m1 = (ShapedMap) list.get(0);
+        ShapedMap m2 = (ShapedMap) list.get(1);
+        ShapedMap m3 = (ShapedMap) list.get(2);
+        assertSame(m1.shape(), m2.shape());
+        assertSame(((ShapedMap) m1.get("tags")).shape(), ((ShapedMap) m2.get("tags")).shape());
+        // different key order, different shape
+        assertNotSame(m1.shape(), m3.shape());
+
+        assertEquals(Integer.valueOf(2), m2.get("id"));
+        assertEquals("c", m3.get("name"));
+        assertNull(m3.get("tags"));
+        assertTrue(m1.containsKey(new String("name")));
+        assertEquals(Arrays.asList("name", "id"), new ArrayList<>(m3.keySet()));
+        assertEquals(a2q("{'id':2,'name':'b','tags':{'x':false}}"), json.asString(m2));
+
+        // replacing values retains shape
+        m1.put("id", 5);
+        assertSame(m1.shape(), m2.shape());
+        assertEquals(Integer.valueOf(5), m1.get("id"));
+        assertEquals(Integer.valueOf(2), m2.get("id"));
+
+        // but other changes do not (and do not affect other Maps)
+        m2.put("extra", true);
+        assertNull(m2.shape());
+        assertEquals(4, m2.size());
+        assertEquals(Arrays.asList("id", "name", "tags", "extra"), new ArrayList<>(m2.keySet()));
+        m1.remove("name");
+        assertEquals(2, m1.size());
+        assertFalse(m1.containsKey("name"));
+        assertEquals("c", m3.get("name"));
+    }
+
+    public void testShapedMapViews() throws Exception
+    {
+        final JSON json = JSON.std.with(JSON.Feature.USE_SHAPED_MAPS,
+                JSON.Feature.PRESERVE_FIELD_ORDERING);
+        List<Object> list = json.listFrom(a2q("[{'a':1,'b':2,'c':3},{'a':4,'b':5,'c':6}]"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> m1 = (Map<String, Object>) list.get(0);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> m2 = (Map<String, Object>) list.get(1);
+
+        // view obtained before contents are copied into private Map
+        Set<Map.Entry<String, Object>> entries = m1.entrySet();
+        m1.put("d", 7);
+        List<String> keys = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : entries) {
+            keys.add(entry.getKey());
+        }
+        assertEquals(Arrays.asList("a", "b", "c", "d"), keys);
+
+        // removal via views
+        assertTrue(m2.keySet().remove("b"));
+        assertEquals(a2q("{'a':4,'c':6}"), json.asString(m2));
+        assertTrue(m2.values().removeIf(v -> Integer.valueOf(4).equals(v)));
+        assertEquals(a2q("{'c':6}"), json.asString(m2));
+
+        Map<String, Object> m3 = json.mapFrom(a2q("{'a':1,'b':2,'c':3}"));
+        assertTrue(m3.entrySet().removeIf(e -> !"b".equals(e.getKey())));
+        assertEquals(Collections.singletonMap("b", 2), m3);
+        // and earlier modifications retained
+        assertEquals(a2q("{'a':1,'b':2,'c':3,'d':7}"), json.asString(m1));
+    }
+
+    public void testShapedMapsWithManyKeys() throws Exception
+    {
+        final JSON json = JSON.std.with(JSON.Feature.USE_SHAPED_MAPS);
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i <= MapShapeTable.MAX_KEYS; ++i) {
+            if (i > 0) sb.append(',');
+            sb.append(quote("k"+i)).append(':').append(i);
+        }
+        Map<String, Object> map = json.mapFrom(sb.append('}').toString());
+        assertFalse(map instanceof ShapedMap);
+        assertEquals(MapShapeTable.MAX_KEYS+1, map.size());
+        assertEquals(Integer.valueOf(3), map.get("k3"));
+        assertEquals("k0", map.keySet().iterator().next());
+    }
+
+    public void testShapedMapDuplicates() throws Exception
+    {
+        Map<String, Object> map = JSON.std.with(JSON.Feature.USE_SHAPED_MAPS)
+                .mapFrom(a2q("{'a':1,'b':2,'a':3}"));
+        assertEquals(2, map.size());
+        assertEquals(Integer.valueOf(3), map.get("a"));
+
+        try {
+            JSON.std.with(JSON.Feature.USE_SHAPED_MAPS, JSON.Feature.FAIL_ON_DUPLICATE_MAP_KEYS)
+                .mapFrom(a2q("{'a':1,'b':2,'a':3}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Duplicate key");
+        }
+    }
+
     public void testIssue49() throws Exception
     {
         for (int i : new int[] { 7, 99, 513, 1099, 3003, 5005, 10001, 90003, 111111 }) {
@@ -0,0 +1,93 @@
+package com.fasterxml.jackson.jr.ob;
+
+public class ReadPrimitivePropertiesTest extends TestBase
+{
+    static class FieldBean {
+        public int i;
+        public long l;
+        public double d;
+        public boolean b;
+    }
+
+    static class SetterBean {
+        protected int _i;
+        protected long _l;
+        protected double _d;
+        protected boolean _b;
+
+        public void setI(int v) { _i = v; }
+        public void setL(long v) { _l = v; }
+        public void setD(double v) { _d = v; }
+        public void setB(boolean v) { _b = v; }
+    }
+
+    static class FailingBean {
+        public void setValue(int v) {
+            throw new IllegalArgumentException("Bad value: "+v);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Test methods
+    /**********************************************************************
+     */
+
+    public void testFields() throws Exception
+    {
+        FieldBean bean = JSON.std.beanFrom(FieldBean.class,
+                a2q("{'i':-42,'l':12345678901,'d':0.5,'b':true}"));
+        assertEquals(-42, bean.i);
+        assertEquals(12345678901L, bean.l);
+        assertEquals(0.5, bean.d);
+        assertTrue(bean.b);
+
+        // integral values fine for double as well
+        bean = JSON.std.beanFrom(FieldBean.class, a2q("{'d':3,'b':false}"));
+        assertEquals(3.0, bean.d);
+        assertFalse(bean.b);
+    }
+
+    public void testSetters() throws Exception
+    {
+        SetterBean bean = JSON.std.beanFrom(SetterBean.class,
+                a2q("{'i':7,'l':-3,'d':-0.25,'b':true}"));
+        assertEquals(7, bean._i);
+        assertEquals(-3L, bean._l);
+        assertEquals(-0.25, bean._d);
+        assertTrue(bean._b);
+    }
+
+    // Coercions are handled by standard readers, as before
+    public void testCoercions() throws Exception
+    {
+        FieldBean bean = JSON.std.beanFrom(FieldBean.class,
+                a2q("{'i':'12','l':'13','d':'1.5','b':'true'}"));
+        assertEquals(12, bean.i);
+        assertEquals(13L, bean.l);
+        assertEquals(1.5, bean.d);
+        assertTrue(bean.b);
+
+        bean = JSON.std.beanFrom(FieldBean.class, a2q("{'i':2.75,'b':null}"));
+        assertEquals(2, bean.i);
+        assertFalse(bean.b);
+    }
+
+    public void testFailures() throws Exception
+    {
+        try {
+            JSON.std.beanFrom(FieldBean.class, a2q("{'i':12345678901}"));
+            fail("Should not pass");
+        } catch (Exception e) {
+            verifyException(e, "out of range");
+        }
+
+        try {
+            JSON.std.beanFrom(FailingBean.class, a2q("{'value':3}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Failed to set property 'value'");
+            verifyException(e, "Bad value: 3");
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.IOException;
+import java.util.*;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+import com.fasterxml.jackson.jr.ob.impl.CacheStats;
+import com.fasterxml.jackson.jr.ob.impl.JSONReader;
+import com.fasterxml.jackson.jr.ob.impl.PrecompiledBeanReader;
+
+public class ReadProjectionTest extends TestBase
+{
+    static class Event {
+        public long id;
+        public String status;
+        public NameBean name;
+        public List<String> tags;
+
+        protected int count;
+
+        public void setCount(int c) { count = c; }
+    }
+
+    static class Events {
+        public List<Event> events;
+    }
+
+    static class Point {
+        public int x, y;
+    }
+
+    // hand-written equivalent of a generated reader
+    static class PointReader extends PrecompiledBeanReader {
+        public PointReader() {
+            super(Point.class, new String[] { "x", "y" });
+        }
+
+        @Override
+        protected ValueReader[] _resolveReaders(JSONReader r) {
+            return new ValueReader[] { _findReader(r, Integer.TYPE), _findReader(r, Integer.TYPE) };
+        }
+
+        @Override
+        public Object read(JSONReader r, JsonParser p) throws IOException {
+            if (p.currentToken() != JsonToken.START_OBJECT) {
+                return _reportUnexpectedToken(p);
+            }
+            final ValueReader[] readers = _readers(r);
+            final Point point = new Point();
+            String name;
+            while ((name = p.nextFieldName()) != null) {
+                if ("x".equals(name)) {
+                    point.x = _nextInt(r, p, readers, 0);
+                } else if ("y".equals(name)) {
+                    point.y = _nextInt(r, p, readers, 1);
+                } else {
+                    _handleUnknown(r, p, name);
+                }
+            }
+            return point;
+        }
+    }
+
+    // custom reader that binds "x" as "y" and vice versa
+    static class SwappingPointReader extends ValueReader {
+        public SwappingPointReader() {
+            super(Point.class);
+        }
+
+        @Override
+        public Object read(JSONReader r, JsonParser p) throws IOException {
+            Map<String, Object> map = r.readMap();
+            Point point = new Point();
+            point.x = ((Number) map.get("y")).intValue();
+            point.y = ((Number) map.get("x")).intValue();
+            return point;
+        }
+    }
+
+    static class PointReaderProvider extends ReaderWriterProvider {
+        private final ValueReader _reader;
+
+        public PointReaderProvider(ValueReader r) {
+            _reader = r;
+        }
+
+        @Override
+        public ValueReader findValueReader(JSONReader ctxt, Class<?> type) {
+            return (type == Point.class) ? _reader : null;
+        }
+    }
+
+    private final String EVENT_JSON = aposToQuotes(
+            "{'id':3,'name':{'first':'Bob','last':'Burger'},'tags':['a','b'],'count':5,'status':'ok'}");
+
+    /*
+    /**********************************************************************
+    /* Test methods
+    /**********************************************************************
+     */
+
+    public void testSimpleProjection() throws Exception
+    {
+        final JSON json = JSON.std.withProjections(Projection.of(Event.class, "id", "status"));
+        Event ev = json.beanFrom(Event.class, EVENT_JSON);
+        assertEquals(3L, ev.id);
+        assertEquals("ok", ev.status);
+        assertNull(ev.name);
+        assertNull(ev.tags);
+        assertEquals(0, ev.count);
+
+        // but original instance not affected
+        ev = JSON.std.beanFrom(Event.class, EVENT_JSON);
+        assertEquals("Bob", ev.name.first);
+        assertEquals(Arrays.asList("a", "b"), ev.tags);
+        assertEquals(5, ev.count);
+    }
+
+    public void testNestedProjection() throws Exception
+    {
+        final JSON json = JSON.std.withProjections(Projection.of(Event.class, "count"));
+        Events evs = json.beanFrom(Events.class,
+                "{\"events\":["+EVENT_JSON+","+EVENT_JSON+"]}");
+        assertEquals(2, evs.events.size());
+        for (Event ev : evs.events) {
+            assertEquals(0L, ev.id);
+            assertNull(ev.status);
+            assertEquals(5, ev.count);
+        }
+    }
+
+    public void testProjectionWithUnknown() throws Exception
+    {
+        final JSON json = JSON.std.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .withProjections(Projection.of(Event.class, "id"));
+        // Properties excluded by projection are not considered unknown
+        Event ev = json.beanFrom(Event.class, EVENT_JSON);
+        assertEquals(3L, ev.id);
+        assertNull(ev.status);
+
+        // but actually unknown ones are
+        try {
+            json.beanFrom(Event.class, aposToQuotes("{'id':1,'bogus':true}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Unrecognized JSON property \"bogus\"");
+        }
+    }
+
+    public void testProjectionOverride() throws Exception
+    {
+        final JSON json1 = JSON.std.withProjections(Projection.of(Event.class, "id"));
+        assertSame(json1, json1.withProjections(Projection.of(Event.class, "id")));
+
+        final JSON json2 = json1.withProjections(Projection.of(Event.class, "status"));
+        Event ev = json2.beanFrom(Event.class, EVENT_JSON);
+        assertEquals(0L, ev.id);
+        assertEquals("ok", ev.status);
+    }
+
+    public void testProjectedReadersShareCache() throws Exception
+    {
+        final JSON json = JSON.builder().build();
+        final JSON projected = json.withProjections(Projection.of(Event.class, "id"));
+
+        // readers for same type, with and without projection, must not get mixed up
+        assertEquals("ok", json.beanFrom(Event.class, EVENT_JSON).status);
+        final int size = json.cacheStats().get(0).size();
+        Event ev = projected.beanFrom(Event.class, EVENT_JSON);
+        assertEquals(3L, ev.id);
+        assertNull(ev.status);
+        assertEquals("ok", json.beanFrom(Event.class, EVENT_JSON).status);
+
+        CacheStats readers = json.cacheStats().get(0);
+        assertEquals(size + 1, readers.size());
+        assertEquals(readers.size(), projected.cacheStats().get(0).size());
+
+        // and equal projections share readers too
+        final JSON projected2 = json.withProjections(Projection.of(Event.class, "id"));
+        assertNull(projected2.beanFrom(Event.class, EVENT_JSON).status);
+        assertEquals(size + 1, json.cacheStats().get(0).size());
+    }
+
+    public void testProjectionWithPrecompiledReader() throws Exception
+    {
+        final JSON json = jsonWithProvider(new PointReaderProvider(new PointReader()));
+        final String doc = a2q("{'x':1,'y':2}");
+        Point p = json.beanFrom(Point.class, doc);
+        assertEquals(1, p.x);
+        assertEquals(2, p.y);
+
+        // generated readers can not be projected, so standard one is used instead
+        p = json.withProjections(Projection.of(Point.class, "y")).beanFrom(Point.class, doc);
+        assertEquals(0, p.x);
+        assertEquals(2, p.y);
+    }
+
+    public void testProjectionWithCustomReader() throws Exception
+    {
+        // custom readers are used as is, without projection
+        final JSON json = jsonWithProvider(new PointReaderProvider(new SwappingPointReader()))
+                .withProjections(Projection.of(Point.class, "y"));
+        Point p = json.beanFrom(Point.class, a2q("{'x':1,'y':2}"));
+        assertEquals(2, p.x);
+        assertEquals(1, p.y);
+    }
+}
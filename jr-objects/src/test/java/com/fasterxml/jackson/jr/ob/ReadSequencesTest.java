@@ -138,6 +138,39 @@ public class ReadSequencesTest extends TestBase
         assertFalse(it.hasNext());
     }
 
+    public void testBeanSequenceReusing() throws Exception
+    {
+        final String INPUT = aposToQuotes("{'id':1, 'msg':'foo'}\n{'id':2}\n{'msg':'bar'}\n");
+        final Bean reused = new Bean();
+        ValueIterator<Bean> it = JSON.std.beanSequenceFrom(Bean.class, INPUT)
+                .reusing(reused);
+
+        assertTrue(it.hasNext());
+        assertSame(reused, it.nextValue());
+        assertEquals(1, reused.id);
+        assertEquals("foo", reused.msg);
+
+        // missing properties are reset
+        assertSame(reused, it.nextValue());
+        assertEquals(2, reused.id);
+        assertNull(reused.msg);
+
+        assertSame(reused, it.nextValue());
+        assertEquals(0, reused.id);
+        assertEquals("bar", reused.msg);
+
+        assertFalse(it.hasNext());
+        it.close();
+
+        // and only supported for Beans
+        try {
+            JSON.std.anySequenceFrom("1 2").reusing(Integer.valueOf(3));
+            fail("Should not pass");
+        } catch (IllegalStateException e) {
+            verifyException(e, "Can only reuse instances");
+        }
+    }
+
     /*
     /**********************************************************************
     /* See if resync might work...
@@ -22,6 +22,14 @@ public class ReadSimpleTest extends TestBase
         public int[] value;
     }
 
+    static class PrimitiveArraysWrapper {
+        public long[] longs;
+        public double[] doubles;
+        public float[] floats;
+        public short[] shorts;
+        public boolean[] booleans;
+    }
+
     static class TreeWrapper {
         public TreeNode value;
     }
@@ -334,13 +342,76 @@ public class ReadSimpleTest extends TestBase
         }
     }
 
-    // not yet supported (but probably should)
     public void testIntArray() throws Exception {
+        IntArrayWrapper w = JSON.std.beanFrom(IntArrayWrapper.class, "{\"value\":[ 3, -1, 7 ]}");
+        assertEquals(3, w.value.length);
+        assertEquals(3, w.value[0]);
+        assertEquals(-1, w.value[1]);
+        assertEquals(7, w.value[2]);
+
+        w = JSON.std.beanFrom(IntArrayWrapper.class, "{\"value\":[ ]}");
+        assertEquals(0, w.value.length);
+        w = JSON.std.beanFrom(IntArrayWrapper.class, "{\"value\":null}");
+        assertNull(w.value);
+
+        // and bigger than initial buffer size
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 1000; ++i) {
+            if (i > 0) sb.append(',');
+            sb.append(i);
+        }
+        int[] result = JSON.std.beanFrom(int[].class, sb.append(']').toString());
+        assertEquals(1000, result.length);
+        for (int i = 0; i < 1000; ++i) {
+            assertEquals(i, result[i]);
+        }
+
+        // as well as bigger than maximum recycled buffer; should not affect later reads
+        sb = new StringBuilder("[");
+        for (int i = 0; i < 20000; ++i) {
+            if (i > 0) sb.append(',');
+            sb.append(i);
+        }
+        result = JSON.std.beanFrom(int[].class, sb.append(']').toString());
+        assertEquals(20000, result.length);
+        assertEquals(19999, result[19999]);
+        result = JSON.std.beanFrom(int[].class, "[1,2]");
+        assertEquals(2, result.length);
+        assertEquals(2, result[1]);
+    }
+
+    public void testOtherPrimitiveArrays() throws Exception {
+        PrimitiveArraysWrapper w = JSON.std.beanFrom(PrimitiveArraysWrapper.class,
+                aposToQuotes("{'longs':[1, 9876543210],'doubles':[0.25, -2, 1e3],"
+                        +"'floats':[1.5],'shorts':[7, -3],'booleans':[true, false, true]}"));
+        assertTrue(Arrays.equals(new long[] { 1L, 9876543210L }, w.longs));
+        assertTrue(Arrays.equals(new double[] { 0.25, -2.0, 1000.0 }, w.doubles));
+        assertTrue(Arrays.equals(new float[] { 1.5f }, w.floats));
+        assertTrue(Arrays.equals(new short[] { 7, -3 }, w.shorts));
+        assertTrue(Arrays.equals(new boolean[] { true, false, true }, w.booleans));
+
+        // also as root values, and within Object arrays
+        assertTrue(Arrays.equals(new double[] { 1.0, 2.5 },
+                JSON.std.beanFrom(double[].class, "[1,2.5]")));
+        long[][] nested = JSON.std.beanFrom(long[][].class, "[[1,2],[],[3]]");
+        assertEquals(3, nested.length);
+        assertTrue(Arrays.equals(new long[] { 1L, 2L }, nested[0]));
+        assertEquals(0, nested[1].length);
+        assertTrue(Arrays.equals(new long[] { 3L }, nested[2]));
+    }
+
+    public void testPrimitiveArrayFail() throws Exception {
+        try {
+            JSON.std.beanFrom(double[].class, "[1,[2]]");
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Unexpected token START_ARRAY for element of `double[]`");
+        }
         try {
-            JSON.std.beanFrom(IntArrayWrapper.class, "{\"value\":[ 3 ]}");
+            JSON.std.beanFrom(IntArrayWrapper.class, "{\"value\":{}}");
             fail("Should not pass");
         } catch (JSONObjectException e) {
-            verifyException(e, "not yet implemented");
+            verifyException(e, "should get START_ARRAY");
         }
     }
 
@@ -0,0 +1,162 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.*;
+
+import com.fasterxml.jackson.jr.ob.api.ReaderWriterModifier;
+import com.fasterxml.jackson.jr.ob.impl.BeanPropertyIntrospector;
+import com.fasterxml.jackson.jr.ob.impl.JSONReader;
+import com.fasterxml.jackson.jr.ob.impl.POJODefinition;
+
+/**
+ * Tests for reading immutable types via "properties-based" constructors,
+ * that is, constructors whose parameter names (available when compiled
+ * with {@code -parameters}) match property names.
+ */
+public class ReadWithCreatorTest extends TestBase
+{
+    static class Point {
+        protected final int x, y;
+
+        public Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    static class NamedPoint {
+        protected final String name;
+        protected final Point point;
+        protected String note;
+
+        public NamedPoint(String name, Point point) {
+            this.name = name;
+            this.point = point;
+        }
+
+        public void setNote(String n) { note = n; }
+    }
+
+    static class Validated {
+        public Validated(String value) { }
+
+        public Validated(String value, int count) {
+            if (count < 0) {
+                throw new IllegalArgumentException("Negative count: "+count);
+            }
+        }
+    }
+
+    // only a private constructor: not to be used as creator
+    static class PrivateCreator {
+        protected final int value;
+
+        private PrivateCreator(int value) {
+            this.value = value;
+        }
+
+        public static PrivateCreator of(int value) {
+            return new PrivateCreator(value);
+        }
+    }
+
+    // Adds aliases for "x" and "y" of Point
+    static class PointAliasModifier extends ReaderWriterModifier
+    {
+        @Override
+        public POJODefinition pojoDefinitionForDeserialization(JSONReader readContext,
+                Class<?> pojoType)
+        {
+            POJODefinition def = BeanPropertyIntrospector.instance()
+                    .pojoDefinitionForDeserialization(readContext, pojoType);
+            if (pojoType != Point.class) {
+                return def;
+            }
+            List<POJODefinition.Prop> props = new ArrayList<POJODefinition.Prop>(def.getProperties());
+            props.add(new POJODefinition.Prop("x", null, null, null, null,
+                    Arrays.asList("left")));
+            props.add(new POJODefinition.Prop("y", null, null, null, null,
+                    Arrays.asList("top")));
+            return def.withProperties(props);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Test methods
+    /**********************************************************************
+     */
+
+    public void testSimpleCreator() throws Exception
+    {
+        Point p = JSON.std.beanFrom(Point.class, aposToQuotes("{'y':2,'x':-1}"));
+        assertEquals(-1, p.x);
+        assertEquals(2, p.y);
+    }
+
+    public void testMissingAndNullCreatorProperties() throws Exception
+    {
+        Point p = JSON.std.beanFrom(Point.class, aposToQuotes("{'y':3}"));
+        assertEquals(0, p.x);
+        assertEquals(3, p.y);
+
+        p = JSON.std.beanFrom(Point.class, aposToQuotes("{'x':null,'y':4}"));
+        assertEquals(0, p.x);
+        assertEquals(4, p.y);
+    }
+
+    public void testCreatorWithOtherProperties() throws Exception
+    {
+        // non-creator property before creator properties, to be buffered
+        NamedPoint np = JSON.std.beanFrom(NamedPoint.class,
+                aposToQuotes("{'note':'origin','point':{'x':1,'y':1},'name':'a'}"));
+        assertEquals("a", np.name);
+        assertEquals("origin", np.note);
+        assertNotNull(np.point);
+        assertEquals(1, np.point.x);
+        assertEquals(1, np.point.y);
+    }
+
+    public void testUnknownWithCreator() throws Exception
+    {
+        Point p = JSON.std.beanFrom(Point.class,
+                aposToQuotes("{'x':1,'extra':[1,2],'y':2}"));
+        assertEquals(1, p.x);
+        assertEquals(2, p.y);
+
+        try {
+            JSON.std.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .beanFrom(Point.class, aposToQuotes("{'x':1,'extra':3}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Unrecognized JSON property \"extra\"");
+        }
+    }
+
+    public void testCreatorFailure() throws Exception
+    {
+        try {
+            JSON.std.beanFrom(Validated.class, aposToQuotes("{'value':'a','count':-3}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Negative count: -3");
+        }
+    }
+
+    public void testNonPublicCreatorNotUsed() throws Exception
+    {
+        try {
+            JSON.std.beanFrom(PrivateCreator.class, aposToQuotes("{'value':3}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "does not have default constructor");
+        }
+    }
+
+    public void testCreatorPropertyAliases() throws Exception
+    {
+        Point p = jsonWithModifier(new PointAliasModifier())
+                .beanFrom(Point.class, aposToQuotes("{'top':5,'left':-2}"));
+        assertEquals(-2, p.x);
+        assertEquals(5, p.y);
+    }
+}
@@ -0,0 +1,100 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.*;
+
+import com.fasterxml.jackson.jr.ob.api.MetricsListener;
+import com.fasterxml.jackson.jr.ob.impl.CacheStats;
+import com.fasterxml.jackson.jr.ob.impl.ClockCache;
+
+public class ReaderCacheSizeTest extends TestBase
+{
+    static class Hot {
+        public int value;
+    }
+
+    static class RareA {
+        public int a;
+    }
+
+    static class RareB {
+        public int b;
+    }
+
+    static class RareC {
+        public int c;
+    }
+
+    static class EvictionCounter extends MetricsListener {
+        int evicted;
+
+        @Override
+        public void readersEvicted(int count) {
+            evicted += count;
+        }
+    }
+
+    public void testInvalidSize() throws Exception
+    {
+        try {
+            JSON.builder().readerCacheSize(0);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "must be positive");
+        }
+    }
+
+    public void testHotReaderRetained() throws Exception
+    {
+        final EvictionCounter counter = new EvictionCounter();
+        final JSON json = JSON.builder()
+                .readerCacheSize(2)
+                .metricsListener(counter)
+                .build();
+        final String doc = a2q("{'value':3}");
+        json.beanFrom(Hot.class, doc);
+        json.beanFrom(Hot.class, doc);
+
+        // rarely used types should only displace each other, not the hot one
+        for (Class<?> rare : Arrays.<Class<?>>asList(RareA.class, RareB.class, RareC.class)) {
+            json.beanFrom(rare, "{}");
+            assertEquals(3, json.beanFrom(Hot.class, doc).value);
+        }
+        CacheStats readers = json.cacheStats().get(0);
+        assertEquals(2, readers.size());
+        // one miss per type, no misses for re-reads of hot type
+        assertEquals(4L, readers.misses());
+        assertEquals(4L, readers.hits());
+        assertEquals(0L, readers.clears());
+        assertEquals(2L, readers.evictions());
+        assertEquals(2, counter.evicted);
+    }
+
+    public void testClockEviction() throws Exception
+    {
+        ClockCache<String,Integer> cache = new ClockCache<>(3);
+        assertEquals(0, cache.putIfAbsent("a", 1));
+        assertEquals(0, cache.putIfAbsent("b", 2));
+        assertEquals(0, cache.putIfAbsent("c", 3));
+        // existing entry not replaced
+        assertEquals(0, cache.putIfAbsent("a", 10));
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        assertEquals(Integer.valueOf(3), cache.get("c"));
+
+        // "b" is the only one not accessed, so gets evicted
+        assertEquals(1, cache.putIfAbsent("d", 4));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.size());
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        assertEquals(Integer.valueOf(3), cache.get("c"));
+        assertEquals(Integer.valueOf(4), cache.get("d"));
+
+        // and if everything is referenced, one is still evicted
+        assertEquals(1, cache.putIfAbsent("e", 5));
+        assertEquals(3, cache.size());
+        assertEquals(2L, cache.stats("test").evictions());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(1L, cache.stats("test").clears());
+    }
+}
@@ -0,0 +1,69 @@
+package com.fasterxml.jackson.jr.ob;
+
+public class WritePrimitivePropertiesTest extends TestBase
+{
+    static class FieldBean {
+        public int i = -3;
+        public long l = 1234567890123L;
+        public double d = 0.5;
+        public float f = 0.25f;
+        public boolean b = true;
+    }
+
+    static class GetterBean {
+        public int getI() { return 42; }
+        public boolean isEnabled() { return false; }
+        public double getD() { return -1.5; }
+    }
+
+    static class FailingBean {
+        public long getValue() { throw new IllegalStateException("No value"); }
+    }
+
+    // primitive and wrapper properties should produce same output
+    static class MixedBean {
+        public int a = 1;
+        public Integer b = 2;
+        public float c = 0.1f;
+        public Float d = 0.1f;
+    }
+
+    /*
+    /**********************************************************************
+    /* Test methods
+    /**********************************************************************
+     */
+
+    public void testFields() throws Exception
+    {
+        assertEquals(a2q("{'b':true,'d':0.5,'f':0.25,'i':-3,'l':1234567890123}"),
+                JSON.std.asString(new FieldBean()));
+    }
+
+    public void testGetters() throws Exception
+    {
+        assertEquals(a2q("{'d':-1.5,'enabled':false,'i':42}"),
+                JSON.std.asString(new GetterBean()));
+    }
+
+    public void testSameAsBoxed() throws Exception
+    {
+        final String json = JSON.std.asString(new MixedBean());
+        MixedBean result = JSON.std.beanFrom(MixedBean.class, json);
+        assertEquals(1, result.a);
+        assertEquals(Integer.valueOf(2), result.b);
+        // floats written as doubles, either way
+        assertEquals(a2q("{'a':1,'b':2,'c':"+((double) 0.1f)+",'d':"+((double) 0.1f)+"}"), json);
+    }
+
+    public void testFailure() throws Exception
+    {
+        try {
+            JSON.std.asString(new FailingBean());
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Failed to access property 'value'");
+            verifyException(e, "No value");
+        }
+    }
+}
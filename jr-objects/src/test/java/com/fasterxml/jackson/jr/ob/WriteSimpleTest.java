@@ -21,6 +21,12 @@ public class WriteSimpleTest extends TestBase
 
     enum ABC { A, B, C; }
 
+    final static class FloatBean {
+        public float value = 0.1f;
+        public Float boxed = 0.1f;
+        public float[] values = new float[] { 0.1f };
+    }
+
     final static class Address {
         public String name;
 
@@ -81,6 +87,29 @@ public class WriteSimpleTest extends TestBase
         assertEquals("[true,false]", JSON.std.asString(new Boolean[] { true, false }));
     }
     
+    public void testOtherPrimitiveArrays() throws Exception {
+        assertEquals("[0.25,-1.0]", JSON.std.asString(new double[] { 0.25, -1.0 }));
+        assertEquals("[1.5]", JSON.std.asString(new float[] { 1.5f }));
+        assertEquals("[7,-3]", JSON.std.asString(new short[] { 7, -3 }));
+        assertEquals("[]", JSON.std.asString(new double[0]));
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("d", new double[] { 2.0 });
+        map.put("f", new float[] { 0.5f });
+        map.put("s", new short[] { 1 });
+        assertEquals(aposToQuotes("{'d':[2.0],'f':[0.5],'s':[1]}"), JSON.std.asString(map));
+    }
+
+    // All float values are written as doubles, whether primitive, boxed or in arrays
+    public void testFloatRepresentation() throws Exception {
+        final String exp = "0.10000000149011612";
+        assertEquals(exp, JSON.std.asString(Float.valueOf(0.1f)));
+        assertEquals("["+exp+"]", JSON.std.asString(new float[] { 0.1f }));
+        assertEquals("["+exp+"]", JSON.std.asString(new Float[] { 0.1f }));
+        assertEquals(aposToQuotes("{'boxed':"+exp+",'value':"+exp+",'values':["+exp+"]}"),
+                JSON.std.asString(new FloatBean()));
+    }
+
     public void testSimpleStringArray() throws Exception {
         assertEquals(aposToQuotes("['abc','def']"), JSON.std.asString(new String[] { "abc", "def" }));
     }
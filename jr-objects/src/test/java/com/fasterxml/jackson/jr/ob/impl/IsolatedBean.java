@@ -0,0 +1,15 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+/**
+ * Bean type loaded by a separate class loader by {@link PropertyAccessorsTest}:
+ * needs to be a top-level class so it has no dependencies to test class.
+ */
+public class IsolatedBean
+{
+    private int _x;
+
+    public String name;
+
+    public int getX() { return _x; }
+    public void setX(int x) { _x = x; }
+}
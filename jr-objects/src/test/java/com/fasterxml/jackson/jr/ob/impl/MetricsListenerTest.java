@@ -0,0 +1,137 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JacksonJrExtension;
+import com.fasterxml.jackson.jr.ob.TestBase;
+import com.fasterxml.jackson.jr.ob.ValueIterator;
+import com.fasterxml.jackson.jr.ob.api.ExtensionContext;
+import com.fasterxml.jackson.jr.ob.api.MetricsListener;
+
+public class MetricsListenerTest extends TestBase
+{
+    static class CountingListener extends MetricsListener
+    {
+        final Map<Class<?>, AtomicLong> reads = new ConcurrentHashMap<>();
+        final Map<Class<?>, AtomicLong> readLengths = new ConcurrentHashMap<>();
+        final Map<Class<?>, AtomicLong> writes = new ConcurrentHashMap<>();
+
+        @Override
+        public void valueRead(Class<?> type, long inputLength, long nanos) {
+            reads.computeIfAbsent(type, t -> new AtomicLong()).incrementAndGet();
+            readLengths.computeIfAbsent(type, t -> new AtomicLong()).addAndGet(inputLength);
+            assertTrue(nanos >= 0L);
+        }
+
+        @Override
+        public void valueWritten(Class<?> type, long outputLength, long nanos) {
+            writes.computeIfAbsent(type, t -> new AtomicLong()).incrementAndGet();
+            assertTrue(nanos >= 0L);
+        }
+
+        long reads(Class<?> type) {
+            AtomicLong l = reads.get(type);
+            return (l == null) ? 0L : l.get();
+        }
+
+        long writes(Class<?> type) {
+            AtomicLong l = writes.get(type);
+            return (l == null) ? 0L : l.get();
+        }
+    }
+
+    // Listener that only cares about NameBean
+    static class NameBeanListener extends CountingListener
+    {
+        @Override
+        public boolean tracks(Class<?> type) {
+            return type == NameBean.class;
+        }
+    }
+
+    public void testReadMetrics() throws Exception
+    {
+        final CountingListener listener = new CountingListener();
+        final JSON json = JSON.builder().metricsListener(listener).build();
+        final String doc = a2q("{'first':'Bob','last':'Burger'}");
+
+        NameBean bean = json.beanFrom(NameBean.class, doc);
+        assertEquals("Bob", bean.getFirst());
+        assertEquals(1L, listener.reads(NameBean.class));
+        // Scalar types are not wrapped
+        assertEquals(0L, listener.reads(String.class));
+        assertEquals(doc.length(), listener.readLengths.get(NameBean.class).get());
+
+        List<NameBean> list = json.listOfFrom(NameBean.class, "["+doc+","+doc+"]");
+        assertEquals(2, list.size());
+        assertEquals(3L, listener.reads(NameBean.class));
+    }
+
+    // Readers wrapped for metrics must still allow reading into existing instances
+    public void testReadIntoWithMetrics() throws Exception
+    {
+        final CountingListener listener = new CountingListener();
+        final JSON json = JSON.builder().metricsListener(listener).build();
+
+        final NameBean bean = new NameBean("Bob", "Burger");
+        assertSame(bean, json.beanInto(bean, a2q("{'first':'Billy'}")));
+        assertEquals("Billy", bean.getFirst());
+        assertEquals("Burger", bean.getLast());
+
+        ValueIterator<NameBean> it = json.beanSequenceFrom(NameBean.class,
+                a2q("{'first':'a','last':'b'} {'first':'c'}"))
+                .reusing(bean);
+        assertSame(bean, it.nextValue());
+        assertEquals("a", bean.getFirst());
+        assertEquals("b", bean.getLast());
+        assertSame(bean, it.nextValue());
+        assertEquals("c", bean.getFirst());
+        assertNull(bean.getLast());
+        assertFalse(it.hasNext());
+        it.close();
+    }
+
+    public void testWriteMetrics() throws Exception
+    {
+        final CountingListener listener = new CountingListener();
+        final JSON json = JSON.builder().metricsListener(listener).build();
+
+        assertEquals(a2q("{'first':'Bob','last':'Burger'}"),
+                json.asString(new NameBean("Bob", "Burger")));
+        assertEquals(1L, listener.writes(NameBean.class));
+        json.asString(Arrays.asList(new NameBean("a", "b"), new NameBean("c", "d")));
+        assertEquals(3L, listener.writes(NameBean.class));
+        // Standard types are not wrapped
+        assertEquals(0L, listener.writes(String.class));
+    }
+
+    public void testTypeFiltering() throws Exception
+    {
+        final CountingListener listener = new NameBeanListener();
+        final JSON json = JSON.builder().metricsListener(listener).build();
+        json.beanFrom(NameBean.class, a2q("{'first':'Bob','last':'Burger'}"));
+        assertEquals(1L, listener.reads(NameBean.class));
+        assertEquals(0L, listener.reads(String.class));
+    }
+
+    public void testMultipleListenersViaExtension() throws Exception
+    {
+        final CountingListener l1 = new CountingListener();
+        final CountingListener l2 = new CountingListener();
+        final JSON json = JSON.builder()
+                .metricsListener(l1)
+                .register(new JacksonJrExtension() {
+                    @Override
+                    protected void register(ExtensionContext ctxt) {
+                        ctxt.addMetricsListener(l2);
+                    }
+                })
+                .build();
+        json.beanFrom(NameBean.class, a2q("{'first':'Bob','last':'Burger'}"));
+        assertEquals(1L, l1.reads(NameBean.class));
+        assertEquals(1L, l2.reads(NameBean.class));
+    }
+}
@@ -0,0 +1,218 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.TestBase;
+
+public class PropertyAccessorsTest extends TestBase
+{
+    public static class PublicBean {
+        private int _x;
+        private String _name;
+        public long count;
+        public List<String> tags;
+
+        public int getX() { return _x; }
+        public void setX(int x) { _x = x; }
+
+        public String getName() { return _name; }
+        public void setName(String n) { _name = n; }
+    }
+
+    // non-public class, requires forced access (and can not use lambda)
+    static class HiddenBean {
+        private double _value;
+
+        public double getValue() { return _value; }
+        public void setValue(double v) { _value = v; }
+    }
+
+    public static class FailingBean {
+        public int getValue() { throw new IllegalStateException("no value"); }
+        public void setValue(int v) { throw new IllegalArgumentException("bad value: "+v); }
+    }
+
+    // Loader that defines given class itself, instead of delegating to parent
+    static class IsolatingLoader extends ClassLoader {
+        private final String _className;
+
+        public IsolatingLoader(String className) {
+            super(PropertyAccessorsTest.class.getClassLoader());
+            _className = className;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(_className)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> cls = findLoadedClass(name);
+                if (cls == null) {
+                    byte[] data = _classBytes(name);
+                    cls = defineClass(name, data, 0, data.length);
+                }
+                return cls;
+            }
+        }
+
+        private byte[] _classBytes(String name) throws ClassNotFoundException {
+            final String path = "/"+name.replace('.', '/')+".class";
+            try (InputStream in = PropertyAccessorsTest.class.getResourceAsStream(path)) {
+                if (in == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4000];
+                int count;
+                while ((count = in.read(buffer)) > 0) {
+                    bytes.write(buffer, 0, count);
+                }
+                return bytes.toByteArray();
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+
+    private final JSON JSON_WITH_HANDLES = JSON.std.with(JSON.Feature.USE_METHOD_HANDLES);
+
+    /*
+    /**********************************************************************
+    /* Test methods
+    /**********************************************************************
+     */
+
+    public void testAccessorConstruction() throws Exception
+    {
+        Method getter = PublicBean.class.getMethod("getX");
+        Method setter = PublicBean.class.getMethod("setX", Integer.TYPE);
+        PropertyAccessors.Getter g = PropertyAccessors.getterFor(getter);
+        PropertyAccessors.Setter s = PropertyAccessors.setterFor(setter);
+        assertNotNull(g);
+        assertNotNull(s);
+
+        PublicBean bean = new PublicBean();
+        s.set(bean, Integer.valueOf(42));
+        assertEquals(42, bean.getX());
+        assertEquals(Integer.valueOf(42), g.get(bean));
+
+        // and then non-boxing variants
+        Object ps = PropertyAccessors.primitiveSetterFor(setter);
+        assertTrue(ps instanceof PropertyAccessors.IntSetter);
+        ((PropertyAccessors.IntSetter) ps).set(bean, -7);
+        Object pg = PropertyAccessors.primitiveGetterFor(getter);
+        assertTrue(pg instanceof PropertyAccessors.IntGetter);
+        assertEquals(-7, ((PropertyAccessors.IntGetter) pg).get(bean));
+
+        // but none for non-primitive types
+        assertNull(PropertyAccessors.primitiveGetterFor(PublicBean.class.getMethod("getName")));
+    }
+
+    public void testFieldAccessors() throws Exception
+    {
+        Field f = PublicBean.class.getField("count");
+        PropertyAccessors.Getter g = PropertyAccessors.getterFor(f);
+        PropertyAccessors.Setter s = PropertyAccessors.setterFor(f);
+        assertNotNull(g);
+        assertNotNull(s);
+
+        PublicBean bean = new PublicBean();
+        s.set(bean, Long.valueOf(99L));
+        assertEquals(99L, bean.count);
+        assertEquals(Long.valueOf(99L), g.get(bean));
+
+        // but not for fields of non-public classes
+        assertNull(PropertyAccessors.getterFor(HiddenBean.class.getDeclaredField("_value")));
+    }
+
+    public void testBeanFromOtherLoader() throws Exception
+    {
+        final Class<?> beanType = new IsolatingLoader(IsolatedBean.class.getName())
+                .loadClass(IsolatedBean.class.getName());
+        assertNotSame(IsolatedBean.class, beanType);
+
+        Method getter = beanType.getMethod("getX");
+        Method setter = beanType.getMethod("setX", Integer.TYPE);
+        // can not spin accessors for class not visible to us, but can use handles
+        PropertyAccessors.Getter g = PropertyAccessors.getterFor(getter);
+        PropertyAccessors.Setter s = PropertyAccessors.setterFor(setter);
+        assertNotNull(g);
+        assertNotNull(s);
+        Object bean = beanType.newInstance();
+        s.set(bean, Integer.valueOf(13));
+        assertEquals(Integer.valueOf(13), g.get(bean));
+        assertNull(PropertyAccessors.primitiveGetterFor(getter));
+
+        // same for fields
+        PropertyAccessors.Setter fs = PropertyAccessors.setterFor(beanType.getField("name"));
+        assertNotNull(fs);
+        fs.set(bean, "Bill");
+        assertEquals("Bill", PropertyAccessors.getterFor(beanType.getField("name")).get(bean));
+
+        // and reading, writing works
+        bean = JSON_WITH_HANDLES.beanFrom(beanType, a2q("{'x':7,'name':'Bob'}"));
+        assertSame(beanType, bean.getClass());
+        assertEquals(Integer.valueOf(7), getter.invoke(bean));
+        assertEquals("Bob", beanType.getField("name").get(bean));
+        assertEquals(JSON.std.asString(bean), JSON_WITH_HANDLES.asString(bean));
+    }
+
+    public void testInaccessible() throws Exception
+    {
+        // non-public class: no accessor even if access is forced
+        Method m = HiddenBean.class.getMethod("getValue");
+        assertNull(PropertyAccessors.getterFor(m));
+        m.setAccessible(true);
+        assertNull(PropertyAccessors.getterFor(m));
+        assertNull(PropertyAccessors.primitiveGetterFor(m));
+    }
+
+    public void testRoundTrip() throws Exception
+    {
+        PublicBean input = new PublicBean();
+        input.setX(-3);
+        input.setName("Bob");
+        input.count = 123456789L;
+        input.tags = Arrays.asList("a", "b");
+        String json = JSON_WITH_HANDLES.asString(input);
+        assertEquals(JSON.std.asString(input), json);
+
+        PublicBean result = JSON_WITH_HANDLES.beanFrom(PublicBean.class, json);
+        assertEquals(-3, result.getX());
+        assertEquals("Bob", result.getName());
+        assertEquals(123456789L, result.count);
+        assertEquals(Arrays.asList("a", "b"), result.tags);
+    }
+
+    public void testNonPublicClass() throws Exception
+    {
+        HiddenBean input = new HiddenBean();
+        input.setValue(0.25);
+        String json = JSON_WITH_HANDLES.asString(input);
+        assertEquals(a2q("{'value':0.25}"), json);
+        assertEquals(0.25, JSON_WITH_HANDLES.beanFrom(HiddenBean.class, json).getValue());
+    }
+
+    public void testAccessorFailures() throws Exception
+    {
+        try {
+            JSON_WITH_HANDLES.beanFrom(FailingBean.class, a2q("{'value':3}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Failed to set property 'value'");
+            verifyException(e, "bad value: 3");
+        }
+        try {
+            JSON_WITH_HANDLES.asString(new FailingBean());
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Failed to access property 'value'");
+        }
+    }
+}
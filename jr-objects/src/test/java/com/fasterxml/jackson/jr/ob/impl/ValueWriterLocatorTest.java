@@ -1,8 +1,13 @@
 package com.fasterxml.jackson.jr.ob.impl;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 
+import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.jr.ob.TestBase;
+import com.fasterxml.jackson.jr.ob.api.ValueWriter;
 import com.fasterxml.jackson.jr.ob.impl.ValueWriterLocator;
 
 public class ValueWriterLocatorTest extends TestBase
@@ -48,6 +53,9 @@ public class ValueWriterLocatorTest extends TestBase
         assertEquals(ValueWriterLocator.SER_INT_ARRAY, td.findSerializationType(int[].class));
         assertEquals(ValueWriterLocator.SER_LONG_ARRAY, td.findSerializationType(long[].class));
         assertEquals(ValueWriterLocator.SER_BOOLEAN_ARRAY, td.findSerializationType(boolean[].class));
+        assertEquals(ValueWriterLocator.SER_DOUBLE_ARRAY, td.findSerializationType(double[].class));
+        assertEquals(ValueWriterLocator.SER_FLOAT_ARRAY, td.findSerializationType(float[].class));
+        assertEquals(ValueWriterLocator.SER_SHORT_ARRAY, td.findSerializationType(short[].class));
         assertEquals(ValueWriterLocator.SER_OBJECT_ARRAY, td.findSerializationType(Object[].class));
         assertEquals(ValueWriterLocator.SER_CHARACTER_SEQUENCE, td.findSerializationType(StringBuffer.class));
         assertEquals(ValueWriterLocator.SER_COLLECTION, td.findSerializationType(LinkedHashSet.class));
@@ -62,4 +70,101 @@ public class ValueWriterLocatorTest extends TestBase
         assertEquals(ValueWriterLocator.SER_DATE, td.findSerializationType(new GregorianCalendar().getTime().getClass()));
         assertEquals(ValueWriterLocator.SER_UUID, td.findSerializationType(UUID.class));
     }
+
+    public void testWriterRegistryIds() {
+        ValueWriterLocator blueprint = ValueWriterLocator.blueprint(null, null);
+        ValueWriterLocator td = blueprint.perOperationInstance(null, JSON.Feature.defaults());
+        final int id1 = td.findSerializationType(TestBean.class);
+        final int id2 = td.findSerializationType(LongBean.class);
+        assertEquals(-1, id1);
+        assertEquals(-2, id2);
+        // stable on re-lookup, also via new per-operation instance
+        assertEquals(id1, td.findSerializationType(TestBean.class));
+        assertEquals(id2, blueprint.perOperationInstance(null, JSON.Feature.defaults())
+                .findSerializationType(LongBean.class));
+        assertTrue(td.getValueWriter(id1) instanceof BeanWriter);
+        assertNotSame(td.getValueWriter(id1), td.getValueWriter(id2));
+    }
+
+    public void testWriterRegistryFull() {
+        ValueWriterLocator blueprint = ValueWriterLocator.blueprint(null, null, 1);
+        ValueWriterLocator td = blueprint.perOperationInstance(null, JSON.Feature.defaults());
+        final int id1 = td.findSerializationType(TestBean.class);
+        assertEquals(-1, id1);
+        assertNotNull(td.getValueWriter(id1));
+
+        // registry only has room for one writer; so need to evict it, reusing slot
+        // with a different id
+        final int id2 = td.findSerializationType(LongBean.class);
+        assertEquals(-2, id2);
+        assertNotNull(td.getValueWriter(id2));
+        assertNull(td.getValueWriter(id1));
+        List<CacheStats> stats = blueprint.cacheStats();
+        assertEquals(0L, stats.get(1).clears());
+        assertEquals(1L, stats.get(1).evictions());
+        assertEquals(1, stats.get(1).size());
+        assertEquals(2L, stats.get(1).misses());
+
+        // and evicted type needs to be re-registered
+        ValueWriterLocator td2 = blueprint.perOperationInstance(null, JSON.Feature.defaults());
+        assertEquals(-2, td2.findSerializationType(LongBean.class));
+        final int id3 = td2.findSerializationType(TestBean.class);
+        assertEquals(-3, id3);
+        assertTrue(td2.getValueWriter(id3) instanceof BeanWriter);
+        // but writer can also be re-resolved if id is stale
+        assertNotNull(td2.findValueWriter(LongBean.class));
+    }
+
+    public void testWriterRegistryManyTypes() throws Exception {
+        ValueWriterLocator blueprint = ValueWriterLocator.blueprint(null, null);
+        ValueWriterLocator td = blueprint.perOperationInstance(null, JSON.Feature.defaults());
+        final int hotId = td.findSerializationType(TestBean.class);
+        final ValueWriter hotWriter = td.getValueWriter(hotId);
+
+        // more types than fit in registry, each defined by separate class loader
+        final byte[] bytecode = _bytecodeOf(LongBean.class);
+        final int typeCount = WriterRegistry.DEFAULT_MAX_WRITERS * 3;
+        List<Class<?>> types = new ArrayList<>();
+        for (int i = 0; i < typeCount; ++i) {
+            Class<?> type = new CopyingClassLoader().define(LongBean.class.getName(), bytecode);
+            types.add(type);
+            ValueWriterLocator op = blueprint.perOperationInstance(null, JSON.Feature.defaults());
+            assertTrue(op.getValueWriter(op.findSerializationType(type)) instanceof BeanWriter);
+            // writer in frequent use should survive
+            assertSame(hotWriter, op.getValueWriter(op.findSerializationType(TestBean.class)));
+        }
+        assertEquals(hotId, blueprint.perOperationInstance(null, JSON.Feature.defaults())
+                .findSerializationType(TestBean.class));
+
+        List<CacheStats> stats = blueprint.cacheStats();
+        // no clearing of all writers, just eviction of ones not in use
+        assertEquals(0L, stats.get(1).clears());
+        assertEquals(WriterRegistry.DEFAULT_MAX_WRITERS, stats.get(1).size());
+        assertTrue(stats.get(1).evictions() > 0);
+        assertNotNull(types.get(typeCount-1));
+    }
+
+    private static byte[] _bytecodeOf(Class<?> cls) throws IOException {
+        final String path = cls.getName().replace('.', '/') + ".class";
+        try (InputStream in = cls.getClassLoader().getResourceAsStream(path)) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buf = new byte[4000];
+            int count;
+            while ((count = in.read(buf)) > 0) {
+                bytes.write(buf, 0, count);
+            }
+            return bytes.toByteArray();
+        }
+    }
+
+    // Class loader that defines its own copy of a class, to get distinct types
+    static class CopyingClassLoader extends ClassLoader {
+        CopyingClassLoader() {
+            super(ValueWriterLocatorTest.class.getClassLoader());
+        }
+
+        Class<?> define(String name, byte[] bytecode) {
+            return defineClass(name, bytecode, 0, bytecode.length);
+        }
+    }
 }
@@ -0,0 +1,445 @@
+package com.fasterxml.jackson.jr.processor;
+
+import java.util.*;
+
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Build-time equivalent of {@code BeanPropertyIntrospector} and property resolution
+ * of {@code ValueReaderLocator} / {@code ValueWriterLocator}: determines properties
+ * to read and write, and constructors to use, following the same rules as
+ * jackson-jr does at runtime with default settings.
+ */
+final class BeanModel
+{
+    /**
+     * Property of a Bean, with accessor to use for reading or writing it.
+     */
+    static final class Prop
+    {
+        public final String name;
+
+        /**
+         * Setter, getter or field used for accessing the property; or, for creator
+         * properties, constructor parameter.
+         */
+        public final Element accessor;
+
+        /**
+         * Type of property value, resolved in context of the Bean type.
+         */
+        public final TypeMirror type;
+
+        /**
+         * Index of constructor parameter for creator properties; -1 for others.
+         */
+        public final int creatorIndex;
+
+        Prop(String name, Element accessor, TypeMirror type, int creatorIndex) {
+            this.name = name;
+            this.accessor = accessor;
+            this.type = type;
+            this.creatorIndex = creatorIndex;
+        }
+
+        public boolean isField() {
+            return accessor.getKind() == ElementKind.FIELD;
+        }
+    }
+
+    /**
+     * Accessors of a property found by introspection.
+     */
+    private static final class Accessors {
+        VariableElement field;
+        ExecutableElement getter, isGetter, setter;
+    }
+
+    public final TypeElement type;
+
+    public final String packageName;
+
+    /**
+     * Name to use for referring to the Bean type in generated code.
+     */
+    public final String typeName;
+
+    /**
+     * Prefix for names of generated classes: simple names of enclosing types
+     * and type itself, separated by underscores.
+     */
+    public final String baseName;
+
+    public final ExecutableElement defaultCtor, stringCtor, longCtor;
+
+    /**
+     * Properties-based constructor (or canonical constructor of a Record), used
+     * if there is no default constructor.
+     */
+    public final ExecutableElement creator;
+
+    /**
+     * Properties to read, creator properties first, in index order.
+     */
+    public final List<Prop> readProps;
+
+    /**
+     * Properties to write, in order written (alphabetic).
+     */
+    public final List<Prop> writeProps;
+
+    private BeanModel(TypeElement type, String packageName, String typeName, String baseName,
+            ExecutableElement defaultCtor, ExecutableElement stringCtor, ExecutableElement longCtor,
+            ExecutableElement creator, List<Prop> readProps, List<Prop> writeProps)
+    {
+        this.type = type;
+        this.packageName = packageName;
+        this.typeName = typeName;
+        this.baseName = baseName;
+        this.defaultCtor = defaultCtor;
+        this.stringCtor = stringCtor;
+        this.longCtor = longCtor;
+        this.creator = creator;
+        this.readProps = readProps;
+        this.writeProps = writeProps;
+    }
+
+    /**
+     * @return Whether a reader can be generated: that is, whether there is
+     *    a constructor to use for JSON Objects
+     */
+    public boolean canRead() {
+        return (defaultCtor != null) || (creator != null);
+    }
+
+    /*
+    /**********************************************************************
+    /* Introspection
+    /**********************************************************************
+     */
+
+    /**
+     * Factory method for introspecting given Bean type.
+     *
+     * @throws IllegalArgumentException If type can not be handled by generated code
+     */
+    public static BeanModel construct(TypeElement type, Elements elements, Types types)
+    {
+        _verifyAccessible(type, "Type", type);
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new IllegalArgumentException("Type must not be abstract");
+        }
+        for (Element curr = type; curr.getEnclosingElement().getKind() != ElementKind.PACKAGE;
+                curr = curr.getEnclosingElement()) {
+            if (!curr.getModifiers().contains(Modifier.STATIC)
+                    && curr.getEnclosingElement().getKind() == ElementKind.CLASS) {
+                throw new IllegalArgumentException("Non-static inner classes not supported");
+            }
+        }
+        final String pkg = elements.getPackageOf(type).getQualifiedName().toString();
+        final String qualifiedName = type.getQualifiedName().toString();
+        final String relativeName = pkg.isEmpty() ? qualifiedName : qualifiedName.substring(pkg.length()+1);
+
+        // Resolve member types as members of raw type, for generic types
+        final DeclaredType beanType = types.getDeclaredType(type);
+        final Map<String,Accessors> props = new TreeMap<String,Accessors>();
+        _introspect(type, types, props);
+
+        ExecutableElement defaultCtor = null, stringCtor = null, longCtor = null;
+        for (ExecutableElement ctor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            List<? extends VariableElement> params = ctor.getParameters();
+            if (params.isEmpty()) {
+                defaultCtor = ctor;
+            } else if (params.size() == 1) {
+                final String argType = types.erasure(params.get(0).asType()).toString();
+                if ("java.lang.String".equals(argType)) {
+                    stringCtor = ctor;
+                } else if ("long".equals(argType) || "java.lang.Long".equals(argType)) {
+                    longCtor = ctor;
+                }
+            }
+        }
+
+        // Properties-based creator only used if there is no default constructor
+        ExecutableElement creator = null;
+        if (defaultCtor == null) {
+            creator = _isRecord(type) ? _canonicalCtor(type, types, props)
+                    : _findPropertiesCreator(type, stringCtor, longCtor);
+        }
+        // Constructors are accessed with forced access by default, but generated
+        // code can not call private ones
+        for (ExecutableElement ctor : Arrays.asList(defaultCtor, creator)) {
+            if (ctor != null) {
+                _verifyAccessible(type, "Constructor", ctor);
+            }
+        }
+        if ((stringCtor != null) && !_isAccessible(type, stringCtor)) {
+            stringCtor = null;
+        }
+        if ((longCtor != null) && !_isAccessible(type, longCtor)) {
+            longCtor = null;
+        }
+
+        // Then properties to read: creator properties first, then setters, fields
+        final List<Prop> readProps = new ArrayList<Prop>();
+        final Set<String> creatorNames = new HashSet<String>();
+        if (creator != null) {
+            final List<? extends VariableElement> params = creator.getParameters();
+            for (int i = 0; i < params.size(); ++i) {
+                final VariableElement param = params.get(i);
+                final String name = param.getSimpleName().toString();
+                creatorNames.add(name);
+                readProps.add(new Prop(name, param, param.asType(), i));
+            }
+        }
+        final List<Prop> writeProps = new ArrayList<Prop>();
+        for (Map.Entry<String,Accessors> entry : props.entrySet()) {
+            final String name = entry.getKey();
+            final Accessors acc = entry.getValue();
+            if (!creatorNames.contains(name)) {
+                if (acc.setter != null) {
+                    _verifyAccessible(type, "Setter", acc.setter);
+                    readProps.add(new Prop(name, acc.setter,
+                            _memberType(types, beanType, acc.setter).getParameterTypes().get(0), -1));
+                } else if (acc.field != null && !acc.field.getModifiers().contains(Modifier.FINAL)) {
+                    readProps.add(new Prop(name, acc.field,
+                            types.asMemberOf(beanType, acc.field), -1));
+                }
+            }
+            final ExecutableElement getter = (acc.getter != null) ? acc.getter : acc.isGetter;
+            if (getter != null) {
+                writeProps.add(new Prop(name, getter,
+                        _memberType(types, beanType, getter).getReturnType(), -1));
+            } else if (acc.field != null) {
+                writeProps.add(new Prop(name, acc.field,
+                        types.asMemberOf(beanType, acc.field), -1));
+            }
+        }
+        for (Prop prop : readProps) {
+            _verifyAccessible(type, prop.type, types);
+        }
+        for (Prop prop : writeProps) {
+            _verifyAccessible(type, prop.type, types);
+        }
+        return new BeanModel(type, pkg, qualifiedName, relativeName.replace('.', '_'),
+                defaultCtor, stringCtor, longCtor, creator,
+                Collections.unmodifiableList(readProps), Collections.unmodifiableList(writeProps));
+    }
+
+    private static void _introspect(TypeElement currType, Types types, Map<String,Accessors> props)
+    {
+        // First, check base type
+        final TypeMirror superType = currType.getSuperclass();
+        if (superType.getKind() == TypeKind.DECLARED) {
+            final TypeElement superElem = (TypeElement) types.asElement(superType);
+            if (!superElem.getQualifiedName().contentEquals("java.lang.Object")) {
+                _introspect(superElem, types, props);
+            }
+        }
+        // then public fields
+        for (VariableElement f : ElementFilter.fieldsIn(currType.getEnclosedElements())) {
+            final Set<Modifier> mods = f.getModifiers();
+            // NOTE: static fields are not considered properties
+            if (mods.contains(Modifier.PUBLIC) && !mods.contains(Modifier.STATIC)) {
+                _accessors(props, f.getSimpleName().toString()).field = f;
+            }
+        }
+        // then get methods from within this class
+        for (ExecutableElement m : ElementFilter.methodsIn(currType.getEnclosedElements())) {
+            final Set<Modifier> mods = m.getModifiers();
+            if (mods.contains(Modifier.STATIC)) {
+                continue;
+            }
+            final String name = m.getSimpleName().toString();
+            final int argCount = m.getParameters().size();
+            if (argCount == 0) { // getter?
+                // getters must be public to be used
+                if (!mods.contains(Modifier.PUBLIC)
+                        || m.getReturnType().getKind() == TypeKind.VOID) {
+                    continue;
+                }
+                if (name.startsWith("get")) {
+                    if (name.length() > 3) {
+                        _accessors(props, decap(name.substring(3))).getter = m;
+                    }
+                } else if (name.startsWith("is")) {
+                    if (name.length() > 2) {
+                        _accessors(props, decap(name.substring(2))).isGetter = m;
+                    }
+                }
+            } else if (argCount == 1) { // setter?
+                if (name.startsWith("set") && name.length() > 3) {
+                    _accessors(props, decap(name.substring(3))).setter = m;
+                }
+            }
+        }
+    }
+
+    private static Accessors _accessors(Map<String,Accessors> props, String name) {
+        Accessors acc = props.get(name);
+        if (acc == null) {
+            acc = new Accessors();
+            props.put(name, acc);
+        }
+        return acc;
+    }
+
+    private static ExecutableType _memberType(Types types, DeclaredType beanType, ExecutableElement m) {
+        return (ExecutableType) types.asMemberOf(beanType, m);
+    }
+
+    /**
+     * Helper method for checking whether type is a Record: checked by name
+     * to work with source levels before Java 16.
+     */
+    private static boolean _isRecord(TypeElement type) {
+        return "RECORD".equals(type.getKind().name());
+    }
+
+    private static ExecutableElement _canonicalCtor(TypeElement type, Types types,
+            Map<String,Accessors> props)
+    {
+        final List<Element> components = new ArrayList<Element>();
+        for (Element e : type.getEnclosedElements()) {
+            if ("RECORD_COMPONENT".equals(e.getKind().name())) {
+                components.add(e);
+            }
+        }
+        // accessors are not named like getters, but work the same
+        for (ExecutableElement m : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (m.getParameters().isEmpty() && !m.getModifiers().contains(Modifier.STATIC)) {
+                for (Element component : components) {
+                    if (component.getSimpleName().equals(m.getSimpleName())) {
+                        _accessors(props, component.getSimpleName().toString()).getter = m;
+                    }
+                }
+            }
+        }
+        main_loop:
+        for (ExecutableElement ctor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            final List<? extends VariableElement> params = ctor.getParameters();
+            if (params.size() != components.size()) {
+                continue;
+            }
+            for (int i = 0; i < params.size(); ++i) {
+                if (!types.isSameType(types.erasure(params.get(i).asType()),
+                        types.erasure(components.get(i).asType()))) {
+                    continue main_loop;
+                }
+            }
+            return ctor;
+        }
+        return null;
+    }
+
+    /**
+     * Helper method for finding constructor to use as properties-based creator: if there
+     * are multiple, one with most parameters is chosen (or none if ambiguous).
+     * Unlike at runtime, parameter names are always available at build time.
+     */
+    private static ExecutableElement _findPropertiesCreator(TypeElement type,
+            ExecutableElement stringCtor, ExecutableElement longCtor)
+    {
+        ExecutableElement creator = null;
+        boolean ambiguous = false;
+
+        for (ExecutableElement ctor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if ((ctor == stringCtor) || (ctor == longCtor)) {
+                continue;
+            }
+            final int count = ctor.getParameters().size();
+            if (count == 0) {
+                continue;
+            }
+            if (creator == null || count > creator.getParameters().size()) {
+                creator = ctor;
+                ambiguous = false;
+            } else if (count == creator.getParameters().size()) {
+                ambiguous = true;
+            }
+        }
+        return ambiguous ? null : creator;
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessibility checks
+    /**********************************************************************
+     */
+
+    /**
+     * Generated classes are in the same package as Bean type, so they can
+     * access everything except private members (and protected members of
+     * types in other packages).
+     */
+    private static boolean _isAccessible(TypeElement beanType, Element member)
+    {
+        final Set<Modifier> mods = member.getModifiers();
+        if (mods.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        if (mods.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        Element owner = member.getEnclosingElement();
+        while (owner.getKind() != ElementKind.PACKAGE) {
+            owner = owner.getEnclosingElement();
+        }
+        Element beanPkg = beanType.getEnclosingElement();
+        while (beanPkg.getKind() != ElementKind.PACKAGE) {
+            beanPkg = beanPkg.getEnclosingElement();
+        }
+        return owner.equals(beanPkg);
+    }
+
+    private static void _verifyAccessible(TypeElement beanType, String desc, Element member)
+    {
+        if (!_isAccessible(beanType, member)) {
+            throw new IllegalArgumentException(String.format(
+"%s `%s` not accessible to generated code: can not be private (or protected in different package)",
+                    desc, member));
+        }
+        if (member.getKind().isClass() || member.getKind().isInterface()) {
+            final Element outer = member.getEnclosingElement();
+            if (outer instanceof TypeElement) {
+                _verifyAccessible(beanType, desc, outer);
+            }
+        }
+    }
+
+    private static void _verifyAccessible(TypeElement beanType, TypeMirror type, Types types)
+    {
+        switch (type.getKind()) {
+        case ARRAY:
+            _verifyAccessible(beanType, ((ArrayType) type).getComponentType(), types);
+            break;
+        case DECLARED:
+            _verifyAccessible(beanType, "Type", types.asElement(type));
+            for (TypeMirror arg : ((DeclaredType) type).getTypeArguments()) {
+                _verifyAccessible(beanType, arg, types);
+            }
+            break;
+        default:
+        }
+    }
+
+    private static String decap(String name) {
+        char c = name.charAt(0);
+        char lowerC = Character.toLowerCase(c);
+
+        if (c != lowerC) {
+            // First: do NOT lower case if more than one leading upper case letters:
+            if ((name.length() == 1)
+                    || !Character.isUpperCase(name.charAt(1))) {
+                char chars[] = name.toCharArray();
+                chars[0] = lowerC;
+                return new String(chars);
+            }
+        }
+        return name;
+    }
+}
@@ -0,0 +1,120 @@
+package com.fasterxml.jackson.jr.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Annotation processor that generates {@code ValueReader} and {@code ValueWriter}
+ * implementations for types annotated with
+ * {@code com.fasterxml.jackson.jr.ob.api.JrSerializable}, along with a
+ * {@code ReaderWriterProvider} (one per package) for registering them.
+ * Generated code calls constructors, setters and getters, and accesses fields
+ * directly, so no introspection or Reflection is needed at runtime.
+ *<p>
+ * Properties are determined using the same rules as jackson-jr uses at
+ * runtime, with default settings; if features that affect introspection
+ * ({@code HANDLE_JAVA_BEANS}, {@code USE_FIELDS}, {@code USE_IS_GETTERS},
+ * {@code WRITE_READONLY_BEAN_PROPERTIES}, {@code FORCE_REFLECTION_ACCESS})
+ * are disabled, generated readers and writers are not used.
+ *
+ * @since 3.0
+ */
+@SupportedAnnotationTypes(JrSerializableProcessor.ANNOTATION_NAME)
+public class JrSerializableProcessor extends AbstractProcessor
+{
+    public final static String ANNOTATION_NAME = "com.fasterxml.jackson.jr.ob.api.JrSerializable";
+
+    /**
+     * Packages for which provider has already been generated.
+     */
+    protected final Set<String> _generatedPackages = new HashSet<String>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+    {
+        final TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ANNOTATION_NAME);
+        if (annotation == null) {
+            return false;
+        }
+        final Messager messager = processingEnv.getMessager();
+        final SourceGenerator gen = new SourceGenerator(processingEnv.getTypeUtils());
+        // Group by package, to generate one provider per package; sorted for stable output
+        final Map<String, List<BeanModel>> byPackage = new TreeMap<String, List<BeanModel>>();
+
+        for (Element elem : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (!elem.getKind().isClass() || (elem.getKind() == ElementKind.ENUM)) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "@JrSerializable only supported for classes and Records", elem);
+                continue;
+            }
+            final BeanModel bean;
+            try {
+                bean = BeanModel.construct((TypeElement) elem,
+                        processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+            } catch (IllegalArgumentException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "Can not generate jackson-jr reader/writer: "+e.getMessage(), elem);
+                continue;
+            }
+            List<BeanModel> beans = byPackage.get(bean.packageName);
+            if (beans == null) {
+                beans = new ArrayList<BeanModel>();
+                byPackage.put(bean.packageName, beans);
+            }
+            beans.add(bean);
+        }
+
+        for (Map.Entry<String, List<BeanModel>> entry : byPackage.entrySet()) {
+            final String pkg = entry.getKey();
+            final List<BeanModel> beans = entry.getValue();
+            if (!_generatedPackages.add(pkg)) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "@JrSerializable types of package '"+pkg
+                        +"' found in multiple processing rounds: can not generate provider");
+                continue;
+            }
+            try {
+                for (BeanModel bean : beans) {
+                    if (bean.canRead()) {
+                        _write(pkg, bean.baseName + SourceGenerator.READER_SUFFIX,
+                                gen.readerSource(bean), bean.type);
+                    }
+                    _write(pkg, bean.baseName + SourceGenerator.WRITER_SUFFIX,
+                            gen.writerSource(bean), bean.type);
+                }
+                final Element[] origins = new Element[beans.size()];
+                for (int i = 0; i < origins.length; ++i) {
+                    origins[i] = beans.get(i).type;
+                }
+                _write(pkg, SourceGenerator.PROVIDER_NAME, gen.providerSource(pkg, beans), origins);
+            } catch (IOException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "Failed to write generated jackson-jr sources for package '"+pkg+"': "+e.getMessage());
+            }
+        }
+        // Let others see annotation too, if they want to
+        return false;
+    }
+
+    protected void _write(String pkg, String className, String source, Element... origins)
+        throws IOException
+    {
+        final String name = pkg.isEmpty() ? className : (pkg + "." + className);
+        final JavaFileObject file = processingEnv.getFiler().createSourceFile(name, origins);
+        try (Writer w = file.openWriter()) {
+            w.write(source);
+        }
+    }
+}
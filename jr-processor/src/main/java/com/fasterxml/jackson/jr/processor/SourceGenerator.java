@@ -0,0 +1,548 @@
+package com.fasterxml.jackson.jr.processor;
+
+import java.util.*;
+
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.Types;
+
+import com.fasterxml.jackson.jr.processor.BeanModel.Prop;
+
+/**
+ * Helper class that produces source code of generated readers, writers
+ * and providers.
+ */
+final class SourceGenerator
+{
+    public final static String READER_SUFFIX = "_JrReader";
+    public final static String WRITER_SUFFIX = "_JrWriter";
+
+    public final static String PROVIDER_NAME = "JrPrecompiledProvider";
+
+    private final static String HEADER = "// Generated by jackson-jr-processor: do not edit\n";
+
+    private final Types _types;
+
+    public SourceGenerator(Types types) {
+        _types = types;
+    }
+
+    /*
+    /**********************************************************************
+    /* Reader generation
+    /**********************************************************************
+     */
+
+    public String readerSource(BeanModel bean)
+    {
+        final String className = bean.baseName + READER_SUFFIX;
+        final List<Prop> props = bean.readProps;
+        final StringBuilder sb = new StringBuilder(1000 + 200 * props.size());
+        _header(sb, bean);
+        sb.append("import java.io.IOException;\n\n")
+            .append("import com.fasterxml.jackson.core.JsonParser;\n")
+            .append("import com.fasterxml.jackson.core.JsonToken;\n")
+            .append("import com.fasterxml.jackson.core.JsonTokenId;\n")
+            .append("import com.fasterxml.jackson.jr.ob.api.ValueReader;\n")
+            .append("import com.fasterxml.jackson.jr.ob.impl.*;\n\n")
+            .append("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n")
+            .append("public final class ").append(className).append(" extends PrecompiledBeanReader\n{\n");
+
+        // Constructor, with property names
+        sb.append("    public ").append(className).append("() {\n")
+            .append("        super(").append(bean.typeName).append(".class, new String[] {");
+        for (int i = 0; i < props.size(); ++i) {
+            sb.append((i == 0) ? " " : ", ").append(_quote(props.get(i).name));
+        }
+        sb.append(" });\n    }\n\n");
+
+        // Readers for property values
+        sb.append("    @Override\n")
+            .append("    protected ValueReader[] _resolveReaders(JSONReader r) {\n")
+            .append("        return new ValueReader[] {\n");
+        for (Prop prop : props) {
+            sb.append("            ").append(_readerFor(prop.type)).append(",\n");
+        }
+        sb.append("        };\n    }\n\n");
+
+        // And then the main read method
+        sb.append("    @Override\n")
+            .append("    public Object read(JSONReader r, JsonParser p) throws IOException\n    {\n")
+            .append("        if (!p.isExpectedStartObjectToken()) {\n")
+            .append("            return _readScalar(p);\n")
+            .append("        }\n");
+        if (bean.creator == null) {
+            _readWithDefaultCtor(sb, bean);
+        } else {
+            sb.append("        final ValueReader[] readers = _readers(r);\n");
+            _readWithCreator(sb, bean);
+            sb.append("        return bean;\n    }\n\n");
+        }
+
+        _readScalar(sb, bean);
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private void _readWithDefaultCtor(StringBuilder sb, BeanModel bean)
+    {
+        final List<Prop> props = bean.readProps;
+        sb.append("        final ").append(bean.typeName).append(" bean;\n")
+            .append("        try {\n")
+            .append("            bean = new ").append(bean.typeName).append("();\n")
+            .append("        } catch (Exception e) {\n")
+            .append("            return _reportFailureToCreate(p, e);\n")
+            .append("        }\n")
+            .append("        return readInto(r, p, bean, false);\n")
+            .append("    }\n\n");
+
+        // Reading into existing instances only possible with default constructor
+        sb.append("    @Override\n")
+            .append("    public Object readInto(JSONReader r, JsonParser p, Object value,\n")
+            .append("            boolean resetProperties) throws IOException\n    {\n")
+            .append("        final ").append(bean.typeName).append(" bean = (")
+            .append(bean.typeName).append(") value;\n")
+            .append("        if (resetProperties) {\n");
+        for (Prop prop : props) {
+            // cast needed to select overload, and for narrowing of `0` for setters
+            final TypeMirror type = _types.erasure(prop.type);
+            sb.append("            ")
+                .append(_assign(prop, "bean", "("+type+") "+_defaultValue(type)))
+                .append(";\n");
+        }
+        sb.append("        }\n")
+            .append("        final ValueReader[] readers = _readers(r);\n")
+            .append("        p.setCurrentValue(bean);\n");
+        _startPropertyLoop(sb);
+        for (int i = 0; i < props.size(); ++i) {
+            final Prop prop = props.get(i);
+            sb.append("            case ").append(_quote(prop.name)).append(":\n")
+                .append("                ").append(_assign(prop, "bean", _valueExpr(prop, i)))
+                .append(";\n")
+                .append("                break;\n");
+        }
+        _endPropertyLoop(sb);
+        sb.append("        return bean;\n    }\n\n");
+    }
+
+    private void _readWithCreator(StringBuilder sb, BeanModel bean)
+    {
+        final List<Prop> props = bean.readProps;
+        // Values of all properties buffered in locals until end of JSON Object
+        for (int i = 0; i < props.size(); ++i) {
+            final Prop prop = props.get(i);
+            final TypeMirror type = _types.erasure(prop.type);
+            sb.append("        ").append(type).append(" v").append(i).append(" = ")
+                .append(_defaultValue(type)).append(";\n");
+            if (prop.creatorIndex < 0) {
+                sb.append("        boolean set").append(i).append(" = false;\n");
+            }
+        }
+        _startPropertyLoop(sb);
+        for (int i = 0; i < props.size(); ++i) {
+            final Prop prop = props.get(i);
+            sb.append("            case ").append(_quote(prop.name)).append(":\n")
+                .append("                v").append(i).append(" = ").append(_valueExpr(prop, i))
+                .append(";\n");
+            if (prop.creatorIndex < 0) {
+                sb.append("                set").append(i).append(" = true;\n");
+            }
+            sb.append("                break;\n");
+        }
+        _endPropertyLoop(sb);
+
+        sb.append("        final ").append(bean.typeName).append(" bean;\n")
+            .append("        try {\n")
+            .append("            bean = new ").append(bean.typeName).append("(");
+        int argCount = 0;
+        for (int i = 0; i < props.size(); ++i) {
+            if (props.get(i).creatorIndex >= 0) {
+                sb.append((argCount++ == 0) ? "" : ", ").append('v').append(i);
+            }
+        }
+        sb.append(");\n")
+            .append("        } catch (Exception e) {\n")
+            .append("            return _reportFailureToCreate(p, e);\n")
+            .append("        }\n");
+        for (int i = 0; i < props.size(); ++i) {
+            final Prop prop = props.get(i);
+            if (prop.creatorIndex < 0) {
+                sb.append("        if (set").append(i).append(") {\n")
+                    .append("            ").append(_assign(prop, "bean", "v"+i)).append(";\n")
+                    .append("        }\n");
+            }
+        }
+    }
+
+    private void _startPropertyLoop(StringBuilder sb) {
+        sb.append("        String name;\n")
+            .append("        while ((name = p.nextFieldName()) != null) {\n")
+            .append("            switch (name) {\n");
+    }
+
+    private void _endPropertyLoop(StringBuilder sb) {
+        sb.append("            default:\n")
+            .append("                _handleUnknown(r, p, name);\n")
+            .append("            }\n")
+            .append("        }\n")
+            .append("        if (!p.hasToken(JsonToken.END_OBJECT)) {\n")
+            .append("            throw _reportProblem(p);\n")
+            .append("        }\n");
+    }
+
+    /**
+     * Method for handling non-Object values: {@code null}s, and Strings and
+     * integral numbers if there are matching single-argument constructors.
+     */
+    private void _readScalar(StringBuilder sb, BeanModel bean)
+    {
+        sb.append("    private Object _readScalar(JsonParser p) throws IOException\n    {\n")
+            .append("        try {\n")
+            .append("            switch (p.currentTokenId()) {\n")
+            .append("            case JsonTokenId.ID_NULL:\n")
+            .append("                return null;\n");
+        if (bean.stringCtor != null) {
+            sb.append("            case JsonTokenId.ID_STRING:\n")
+                .append("                return new ").append(bean.typeName).append("(p.getText());\n");
+        }
+        if (bean.longCtor != null) {
+            sb.append("            case JsonTokenId.ID_NUMBER_INT:\n")
+                .append("                return new ").append(bean.typeName).append("(p.getLongValue());\n");
+        }
+        sb.append("            default:\n")
+            .append("            }\n")
+            .append("        } catch (Exception e) {\n")
+            .append("            return _reportFailureToCreate(p, e);\n")
+            .append("        }\n")
+            .append("        return _reportUnexpectedToken(p);\n")
+            .append("    }\n");
+    }
+
+    /**
+     * @return Expression for reading next value of given property
+     */
+    private String _valueExpr(Prop prop, int index)
+    {
+        final String args = "(r, p, readers, "+index+")";
+        switch (prop.type.getKind()) {
+        case INT:
+            return "_nextInt"+args;
+        case LONG:
+            return "_nextLong"+args;
+        case DOUBLE:
+            return "_nextDouble"+args;
+        case BOOLEAN:
+            return "_nextBoolean"+args;
+        case FLOAT:
+            return "((Number) _nextPrimitive"+args+").floatValue()";
+        case SHORT:
+            return "((Number) _nextPrimitive"+args+").shortValue()";
+        case BYTE:
+            return "((Number) _nextPrimitive"+args+").byteValue()";
+        case CHAR:
+            return "((Character) _nextPrimitive"+args+").charValue()";
+        default:
+        }
+        final TypeMirror type = _types.erasure(prop.type);
+        final String value = "readers["+index+"].readNext(r, p)";
+        if ("java.lang.Object".equals(type.toString())) {
+            return value;
+        }
+        return "("+type+") "+value;
+    }
+
+    private String _assign(Prop prop, String bean, String value)
+    {
+        final String name = prop.accessor.getSimpleName().toString();
+        if (prop.isField()) {
+            return bean+"."+name+" = "+value;
+        }
+        return bean+"."+name+"("+value+")";
+    }
+
+    /**
+     * @return Expression for constructing (or locating) reader for values
+     *    of given type
+     */
+    private String _readerFor(TypeMirror type)
+    {
+        if (type == null) { // raw type parameter
+            return "_findReader(r, Object.class)";
+        }
+        switch (type.getKind()) {
+        case WILDCARD:
+            {
+                TypeMirror bound = ((WildcardType) type).getExtendsBound();
+                return (bound == null) ? "_findReader(r, Object.class)" : _readerFor(bound);
+            }
+        case DECLARED:
+            {
+                final DeclaredType declType = (DeclaredType) type;
+                final String raw = _types.erasure(type).toString();
+                List<? extends TypeMirror> params = _typeParametersFor(declType, "java.util.Collection");
+                if (params != null) {
+                    return "new CollectionReader("+raw+".class, "+_readerFor(_paramOrObject(params, 0))+")";
+                }
+                params = _typeParametersFor(declType, "java.util.Map");
+                if (params != null) {
+                    return "new MapReader("+raw+".class, "+_readerFor(_paramOrObject(params, 1))+")";
+                }
+                return "_findReader(r, "+raw+".class)";
+            }
+        default: // primitives, arrays, type variables
+            return "_findReader(r, "+_types.erasure(type)+".class)";
+        }
+    }
+
+    /**
+     * Helper method for finding type parameters given type has for given
+     * super type, if it is a sub-type.
+     *
+     * @return Type parameters (empty List for raw types) if type is a sub-type
+     *    of given type; {@code null} if not
+     */
+    private List<? extends TypeMirror> _typeParametersFor(DeclaredType type, String superTypeName)
+    {
+        if (_types.erasure(type).toString().equals(superTypeName)) {
+            return type.getTypeArguments();
+        }
+        for (TypeMirror superType : _types.directSupertypes(type)) {
+            if (superType.getKind() == TypeKind.DECLARED) {
+                List<? extends TypeMirror> params = _typeParametersFor((DeclaredType) superType,
+                        superTypeName);
+                if (params != null) {
+                    return params;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Type parameter at given index; or {@code null} for raw types
+     */
+    private TypeMirror _paramOrObject(List<? extends TypeMirror> params, int index) {
+        return (index < params.size()) ? params.get(index) : null;
+    }
+
+    private static String _defaultValue(TypeMirror type)
+    {
+        switch (type.getKind()) {
+        case BOOLEAN:
+            return "false";
+        case CHAR:
+            return "'\\0'";
+        case BYTE:
+        case SHORT:
+        case INT:
+        case LONG:
+        case FLOAT:
+        case DOUBLE:
+            return "0";
+        default:
+            return "null";
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Writer generation
+    /**********************************************************************
+     */
+
+    public String writerSource(BeanModel bean)
+    {
+        final String className = bean.baseName + WRITER_SUFFIX;
+        final List<Prop> props = bean.writeProps;
+        final StringBuilder sb = new StringBuilder(1000 + 150 * props.size());
+        _header(sb, bean);
+        sb.append("import java.io.IOException;\n\n")
+            .append("import com.fasterxml.jackson.core.JsonGenerator;\n")
+            .append("import com.fasterxml.jackson.core.io.SerializedString;\n")
+            .append("import com.fasterxml.jackson.jr.ob.impl.*;\n\n")
+            .append("@SuppressWarnings(\"rawtypes\")\n")
+            .append("public final class ").append(className).append(" extends PrecompiledBeanWriter\n{\n");
+        for (int i = 0; i < props.size(); ++i) {
+            sb.append("    private final static SerializedString N").append(i)
+                .append(" = new SerializedString(").append(_quote(props.get(i).name)).append(");\n");
+        }
+        if (!props.isEmpty()) {
+            sb.append('\n');
+        }
+        sb.append("    public ").append(className).append("() {\n")
+            .append("        super(").append(bean.typeName).append(".class);\n")
+            .append("    }\n\n");
+
+        sb.append("    @Override\n")
+            .append("    public void writeValue(JSONWriter w, JsonGenerator g, Object value) throws IOException\n")
+            .append("    {\n")
+            .append("        final ").append(bean.typeName).append(" bean = (")
+                .append(bean.typeName).append(") value;\n")
+            .append("        g.writeStartObject(bean);\n");
+        for (int i = 0; i < props.size(); ++i) {
+            final Prop prop = props.get(i);
+            final String name = "N"+i;
+            String value = "bean."+prop.accessor.getSimpleName();
+            if (!prop.isField()) {
+                value += "()";
+            }
+            sb.append("        w.writeBeanProperty(").append(name).append(", ");
+            switch (prop.type.getKind()) {
+            case INT:
+            case LONG:
+            case DOUBLE:
+            case BOOLEAN:
+                sb.append(value);
+                break;
+            case FLOAT: // written as double, same as boxed Floats
+                sb.append("(double) ").append(value);
+                break;
+            case SHORT:
+            case BYTE:
+                sb.append("(int) ").append(value);
+                break;
+            case CHAR:
+                sb.append("String.valueOf(").append(value).append("), ValueWriterLocator.SER_STRING");
+                break;
+            default:
+                sb.append(value).append(", ").append(_typeIdFor(prop.type));
+            }
+            sb.append(");\n");
+        }
+        sb.append("        g.writeEndObject();\n")
+            .append("    }\n")
+            .append("}\n");
+        return sb.toString();
+    }
+
+    /**
+     * @return Serialization type id constant to use for declared type, for types
+     *    for which it can be determined statically; {@code 0} for others
+     */
+    private String _typeIdFor(TypeMirror type)
+    {
+        if (type.getKind() == TypeKind.DECLARED) {
+            final Element elem = _types.asElement(type);
+            if (elem.getKind() == ElementKind.ENUM) {
+                return "ValueWriterLocator.SER_ENUM";
+            }
+            final String id = _SIMPLE_TYPE_IDS.get(((TypeElement) elem).getQualifiedName().toString());
+            if (id != null) {
+                return "ValueWriterLocator."+id;
+            }
+        }
+        return "0";
+    }
+
+    private final static Map<String,String> _SIMPLE_TYPE_IDS = new HashMap<String,String>();
+    static {
+        _SIMPLE_TYPE_IDS.put("java.lang.String", "SER_STRING");
+        _SIMPLE_TYPE_IDS.put("java.lang.Boolean", "SER_BOOLEAN");
+        _SIMPLE_TYPE_IDS.put("java.lang.Character", "SER_CHAR");
+        _SIMPLE_TYPE_IDS.put("java.lang.Byte", "SER_NUMBER_BYTE");
+        _SIMPLE_TYPE_IDS.put("java.lang.Short", "SER_NUMBER_SHORT");
+        _SIMPLE_TYPE_IDS.put("java.lang.Integer", "SER_NUMBER_INTEGER");
+        _SIMPLE_TYPE_IDS.put("java.lang.Long", "SER_NUMBER_LONG");
+        _SIMPLE_TYPE_IDS.put("java.lang.Float", "SER_NUMBER_FLOAT");
+        _SIMPLE_TYPE_IDS.put("java.lang.Double", "SER_NUMBER_DOUBLE");
+        _SIMPLE_TYPE_IDS.put("java.math.BigInteger", "SER_NUMBER_BIG_INTEGER");
+        _SIMPLE_TYPE_IDS.put("java.math.BigDecimal", "SER_NUMBER_BIG_DECIMAL");
+    }
+
+    /*
+    /**********************************************************************
+    /* Provider generation
+    /**********************************************************************
+     */
+
+    public String providerSource(String packageName, List<BeanModel> beans)
+    {
+        final StringBuilder sb = new StringBuilder(1500 + 200 * beans.size());
+        sb.append(HEADER);
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("import com.fasterxml.jackson.jr.ob.JacksonJrExtension;\n")
+            .append("import com.fasterxml.jackson.jr.ob.api.*;\n")
+            .append("import com.fasterxml.jackson.jr.ob.impl.*;\n\n")
+            .append("/**\n")
+            .append(" * Provider for readers and writers generated for\n")
+            .append(" * {@link JrSerializable} types of this package. Register using:\n")
+            .append(" *<pre>\n")
+            .append(" *   JSON json = JSON.builder()\n")
+            .append(" *       .register(new ").append(PROVIDER_NAME).append(".Extension())\n")
+            .append(" *       .build();\n")
+            .append(" *</pre>\n")
+            .append(" */\n")
+            .append("public class ").append(PROVIDER_NAME).append(" extends ReaderWriterProvider\n{\n")
+            .append("    /**\n")
+            .append("     * Extension for registering provider with {@code JSON}.\n")
+            .append("     */\n")
+            .append("    public static class Extension extends JacksonJrExtension {\n")
+            .append("        @Override\n")
+            .append("        protected void register(ExtensionContext ctxt) {\n")
+            .append("            ctxt.insertProvider(new ").append(PROVIDER_NAME).append("());\n")
+            .append("        }\n")
+            .append("    }\n\n");
+
+        sb.append("    @Override\n")
+            .append("    public ValueReader findValueReader(JSONReader ctxt, Class<?> type) {\n")
+            .append("        if (PrecompiledBeanReader.isCompatible(ctxt)) {\n");
+        for (BeanModel bean : beans) {
+            if (bean.canRead()) {
+                sb.append("            if (type == ").append(bean.typeName).append(".class) {\n")
+                    .append("                return new ").append(bean.baseName).append(READER_SUFFIX)
+                    .append("();\n")
+                    .append("            }\n");
+            }
+        }
+        sb.append("        }\n")
+            .append("        return null;\n")
+            .append("    }\n\n");
+
+        sb.append("    @Override\n")
+            .append("    public ValueWriter findValueWriter(JSONWriter ctxt, Class<?> type) {\n")
+            .append("        if (PrecompiledBeanWriter.isCompatible(ctxt)) {\n");
+        for (BeanModel bean : beans) {
+            sb.append("            if (type == ").append(bean.typeName).append(".class) {\n")
+                .append("                return new ").append(bean.baseName).append(WRITER_SUFFIX)
+                .append("();\n")
+                .append("            }\n");
+        }
+        sb.append("        }\n")
+            .append("        return null;\n")
+            .append("    }\n")
+            .append("}\n");
+        return sb.toString();
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper methods
+    /**********************************************************************
+     */
+
+    private static void _header(StringBuilder sb, BeanModel bean) {
+        sb.append(HEADER);
+        if (!bean.packageName.isEmpty()) {
+            sb.append("package ").append(bean.packageName).append(";\n\n");
+        }
+    }
+
+    private static String _quote(String str)
+    {
+        final StringBuilder sb = new StringBuilder(str.length() + 2);
+        sb.append('"');
+        for (int i = 0, len = str.length(); i < len; ++i) {
+            final char c = str.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7E) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,230 @@
+package com.fasterxml.jackson.jr.processor;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+import javax.tools.*;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JacksonJrExtension;
+import com.fasterxml.jackson.jr.ob.api.ExtensionContext;
+import com.fasterxml.jackson.jr.ob.api.ReaderWriterModifier;
+import com.fasterxml.jackson.jr.ob.impl.BeanPropertyIntrospector;
+import com.fasterxml.jackson.jr.ob.impl.JSONReader;
+import com.fasterxml.jackson.jr.ob.impl.POJODefinition;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests that compile test sources with {@link JrSerializableProcessor},
+ * and then verify that generated readers and writers work.
+ */
+public class JrSerializableProcessorTest extends TestCase
+{
+    private final static String BEANS_SOURCE = String.join("\n",
+            "package test.beans;",
+            "import java.util.*;",
+            "import com.fasterxml.jackson.jr.ob.api.JrSerializable;",
+            "@JrSerializable",
+            "public class Point {",
+            "  public int x, y;",
+            "  public float ratio;",
+            "  public char c = 'a';",
+            "  protected String _name;",
+            "  private boolean _enabled;",
+            "  public Map<String, List<Immutable>> nested;",
+            "  public String getName() { return _name; }",
+            "  void setName(String n) { _name = n; }",
+            "  public boolean isEnabled() { return _enabled; }",
+            "  public Point setEnabled(boolean b) { _enabled = b; return this; }",
+            "}",
+            "");
+    private final static String IMMUTABLE_SOURCE = String.join("\n",
+            "package test.beans;",
+            "import com.fasterxml.jackson.jr.ob.api.JrSerializable;",
+            "@JrSerializable",
+            "public class Immutable {",
+            "  private final String id;",
+            "  private final long value;",
+            "  private Integer extra;",
+            "  public Immutable(String id, long value) { this.id = id; this.value = value; }",
+            "  public Immutable(String id) { this(id, -1L); }",
+            "  public String getId() { return id; }",
+            "  public long getValue() { return value; }",
+            "  public Integer getExtra() { return extra; }",
+            "  public void setExtra(Integer e) { extra = e; }",
+            "}",
+            "");
+    private final static String INVALID_SOURCE = String.join("\n",
+            "package test.invalid;",
+            "import com.fasterxml.jackson.jr.ob.api.JrSerializable;",
+            "@JrSerializable",
+            "public class Invalid {",
+            "  private int x;",
+            "  public int getX() { return x; }",
+            "  private void setX(int x) { this.x = x; }",
+            "}",
+            "");
+
+    public void testReadWrite() throws Exception
+    {
+        final ClassLoader loader = _compile(null, BEANS_SOURCE, IMMUTABLE_SOURCE);
+        final Class<?> pointType = loader.loadClass("test.beans.Point");
+        final Class<?> immutableType = loader.loadClass("test.beans.Immutable");
+        final JacksonJrExtension ext = (JacksonJrExtension)
+                loader.loadClass("test.beans.JrPrecompiledProvider$Extension").newInstance();
+        final JSON json = JSON.builder().register(ext).build();
+
+        final String doc = "{\"c\":\"b\",\"enabled\":true,\"name\":\"abc\","
+                +"\"nested\":{\"a\":[{\"extra\":3,\"id\":\"x\",\"value\":42},\"y\"]},"
+                +"\"ratio\":0.5,\"x\":1,\"y\":-2}";
+        Object point = json.beanFrom(pointType, doc);
+        assertEquals(1, pointType.getField("x").get(point));
+        assertEquals(-2, pointType.getField("y").get(point));
+        assertEquals("abc", pointType.getMethod("getName").invoke(point));
+        assertEquals(Boolean.TRUE, pointType.getMethod("isEnabled").invoke(point));
+
+        List<?> list = (List<?>) ((Map<?,?>) pointType.getField("nested").get(point)).get("a");
+        assertEquals(2, list.size());
+        assertEquals(immutableType, list.get(0).getClass());
+        assertEquals(Integer.valueOf(3), immutableType.getMethod("getExtra").invoke(list.get(0)));
+        assertEquals("y", immutableType.getMethod("getId").invoke(list.get(1)));
+        assertEquals(-1L, immutableType.getMethod("getValue").invoke(list.get(1)));
+
+        // and then written back as is (same as with standard writers)
+        assertEquals(doc.replace("\"y\"]", "{\"extra\":null,\"id\":\"y\",\"value\":-1}]"),
+                json.asString(point));
+        assertEquals(JSON.std.asString(point), json.asString(point));
+
+        // Generated readers, writers only used with default introspection settings
+        assertEquals("abc", pointType.getMethod("getName").invoke(
+                json.without(JSON.Feature.USE_FIELDS).beanFrom(pointType, doc)));
+    }
+
+    public void testUnknownProperty() throws Exception
+    {
+        final ClassLoader loader = _compile(null, BEANS_SOURCE, IMMUTABLE_SOURCE);
+        final Class<?> type = loader.loadClass("test.beans.Immutable");
+        final JacksonJrExtension ext = (JacksonJrExtension)
+                loader.loadClass("test.beans.JrPrecompiledProvider$Extension").newInstance();
+        final JSON json = JSON.builder().register(ext).build();
+
+        Object ob = json.beanFrom(type, "{\"id\":\"a\",\"bogus\":[1,{}]}");
+        assertEquals("a", type.getMethod("getId").invoke(ob));
+        try {
+            json.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .beanFrom(type, "{\"id\":\"a\",\"bogus\":1}");
+            fail("Should not pass");
+        } catch (Exception e) {
+            assertTrue(e.getMessage().contains("Unrecognized JSON property \"bogus\""));
+        }
+    }
+
+    public void testIgnorableProperty() throws Exception
+    {
+        final ClassLoader loader = _compile(null, BEANS_SOURCE, IMMUTABLE_SOURCE);
+        final Class<?> type = loader.loadClass("test.beans.Immutable");
+        final JacksonJrExtension ext = (JacksonJrExtension)
+                loader.loadClass("test.beans.JrPrecompiledProvider$Extension").newInstance();
+        final JSON json = JSON.builder()
+                .register(ext)
+                .register(new JacksonJrExtension() {
+                    @Override
+                    protected void register(ExtensionContext ctxt) {
+                        ctxt.insertModifier(new ReaderWriterModifier() {
+                            @Override
+                            public POJODefinition pojoDefinitionForDeserialization(JSONReader r,
+                                    Class<?> pojoType) {
+                                return BeanPropertyIntrospector.instance()
+                                        .pojoDefinitionForDeserialization(r, pojoType)
+                                        .withIgnorals(Collections.singleton("bogus"));
+                            }
+                        });
+                    }
+                })
+                .build()
+                .with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY);
+        Object ob = json.beanFrom(type, "{\"id\":\"a\",\"bogus\":1}");
+        assertEquals("a", type.getMethod("getId").invoke(ob));
+        try {
+            json.beanFrom(type, "{\"id\":\"a\",\"other\":1}");
+            fail("Should not pass");
+        } catch (Exception e) {
+            assertTrue(e.getMessage().contains("Unrecognized JSON property \"other\""));
+        }
+    }
+
+    public void testReadInto() throws Exception
+    {
+        final ClassLoader loader = _compile(null, BEANS_SOURCE, IMMUTABLE_SOURCE);
+        final Class<?> pointType = loader.loadClass("test.beans.Point");
+        final JacksonJrExtension ext = (JacksonJrExtension)
+                loader.loadClass("test.beans.JrPrecompiledProvider$Extension").newInstance();
+        final JSON json = JSON.builder().register(ext).build();
+
+        final Object point = pointType.newInstance();
+        pointType.getField("y").set(point, 5);
+        assertSame(point, json.beanInto(point, "{\"x\":3,\"name\":\"abc\"}"));
+        assertEquals(3, pointType.getField("x").get(point));
+        assertEquals(5, pointType.getField("y").get(point));
+        assertEquals("abc", pointType.getMethod("getName").invoke(point));
+
+        // but not for types that need creator
+        final Object immutable = json.beanFrom(loader.loadClass("test.beans.Immutable"),
+                "{\"id\":\"a\"}");
+        try {
+            json.beanInto(immutable, "{\"id\":\"b\"}");
+            fail("Should not pass");
+        } catch (Exception e) {
+            assertTrue(e.getMessage().contains("type has properties-based creator"));
+        }
+    }
+
+    public void testPrivateSetter() throws Exception
+    {
+        final StringWriter errors = new StringWriter();
+        assertNull(_compile(errors, INVALID_SOURCE));
+        assertTrue(errors.toString().contains("not accessible to generated code"));
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper methods
+    /**********************************************************************
+     */
+
+    /**
+     * @return Class loader for loading compiled classes; or {@code null} if compilation failed
+     */
+    private ClassLoader _compile(StringWriter errors, String... sources) throws Exception
+    {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final File dir = Files.createTempDirectory("jr-processor").toFile();
+        final StandardJavaFileManager fm = compiler.getStandardFileManager(null, null,
+                StandardCharsets.UTF_8);
+        final List<File> files = new ArrayList<File>();
+        for (String source : sources) {
+            final String pkg = source.substring(8, source.indexOf(';'));
+            final int ix = source.indexOf("public class ") + 13;
+            final String name = source.substring(ix, source.indexOf(' ', ix));
+            final File file = new File(dir, pkg.replace('.', '/') + "/" + name + ".java");
+            file.getParentFile().mkdirs();
+            Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+            files.add(file);
+        }
+        final JavaCompiler.CompilationTask task = compiler.getTask(errors, fm, null,
+                Arrays.asList("-d", dir.getPath(), "-s", dir.getPath(),
+                        "-classpath", System.getProperty("java.class.path")),
+                null, fm.getJavaFileObjectsFromFiles(files));
+        task.setProcessors(Collections.singletonList(new JrSerializableProcessor()));
+        if (!task.call()) {
+            return null;
+        }
+        return new URLClassLoader(new URL[] { dir.toURI().toURL() }, getClass().getClassLoader());
+    }
+}